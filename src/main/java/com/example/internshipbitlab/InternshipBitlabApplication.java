@@ -1,13 +1,35 @@
 package com.example.internshipbitlab;
 
+import com.example.internshipbitlab.catalog.SnapshotExportApplication;
+import com.example.internshipbitlab.dataset.DatasetApplication;
+import com.example.internshipbitlab.migration.MigrationApplication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class InternshipBitlabApplication {
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--migrate")) {
+            MigrationApplication.main(without(args, "--migrate"));
+            return;
+        }
+        if (Arrays.asList(args).contains("--generate-dataset")) {
+            DatasetApplication.main(without(args, "--generate-dataset"));
+            return;
+        }
+        if (Arrays.asList(args).contains("--export-snapshot")) {
+            SnapshotExportApplication.main(without(args, "--export-snapshot"));
+            return;
+        }
         SpringApplication.run(InternshipBitlabApplication.class, args);
     }
 
+    private static String[] without(String[] args, String flag) {
+        return Arrays.stream(args)
+                .filter(arg -> !arg.equals(flag))
+                .toArray(String[]::new);
+    }
 }
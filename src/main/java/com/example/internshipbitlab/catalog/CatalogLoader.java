@@ -0,0 +1,96 @@
+package com.example.internshipbitlab.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the whole catalog into an {@link InMemoryCatalog}. Every table is streamed once through a cursor
+ * inside a single repeatable-read transaction, so the counts used for sizing and the rows agree. Bodies are
+ * read once per content blob and shared by all lessons that reference them.
+ */
+public class CatalogLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogLoader.class);
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private static final String COUNT_SQL =
+            "SELECT (SELECT count(*) FROM courses), (SELECT count(*) FROM chapters), (SELECT count(*) FROM lessons)";
+    private static final String BLOBS_SQL =
+            "SELECT b.hash, b.content FROM content_blobs b " +
+                    "WHERE EXISTS (SELECT 1 FROM lessons l WHERE l.content_hash = b.hash)";
+    private static final String COURSES_SQL =
+            "SELECT id, name, description, created_at, updated_at FROM courses ORDER BY id";
+    private static final String CHAPTERS_SQL =
+            "SELECT id, course_id, order_number, name, description, created_at, updated_at " +
+                    "FROM chapters ORDER BY course_id, order_number, id";
+    private static final String LESSONS_SQL =
+            "SELECT l.id, l.chapter_id, l.order_number, l.name, l.description, l.content_hash, " +
+                    "l.created_at, l.updated_at " +
+                    "FROM lessons l JOIN chapters ch ON ch.id = l.chapter_id AND ch.course_id = l.course_id " +
+                    "ORDER BY ch.course_id, ch.order_number, ch.id, l.order_number, l.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+
+    public CatalogLoader(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        // Its own transaction manager: the JPA one may be set up not to prepare connections for isolation levels
+        this.snapshotTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public InMemoryCatalog load() {
+        long started = System.nanoTime();
+        InMemoryCatalog catalog = snapshotTransaction.execute(status -> read());
+        logger.info("Loaded {} in {} ms", catalog, (System.nanoTime() - started) / 1_000_000);
+        return catalog;
+    }
+
+    private InMemoryCatalog read() {
+        int[] counts = jdbcTemplate.queryForObject(COUNT_SQL, (rs, rowNum) ->
+                new int[]{rs.getInt(1), rs.getInt(2), rs.getInt(3)});
+        InMemoryCatalog.Builder builder = InMemoryCatalog.builder(counts[0], counts[1], counts[2]);
+
+        Map<String, String> bodies = new HashMap<>();
+        jdbcTemplate.query(BLOBS_SQL, rs -> {
+            bodies.put(rs.getString(1), new String(rs.getBytes(2), StandardCharsets.UTF_8));
+        });
+        logger.debug("Read {} distinct lesson bodies", bodies.size());
+
+        jdbcTemplate.query(COURSES_SQL, rs -> {
+            builder.addCourse(rs.getLong(1), rs.getString(2), rs.getString(3),
+                    dateTime(rs, 4), dateTime(rs, 5));
+        });
+        jdbcTemplate.query(CHAPTERS_SQL, rs -> {
+            builder.addChapter(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getString(4), rs.getString(5),
+                    dateTime(rs, 6), dateTime(rs, 7));
+        });
+        jdbcTemplate.query(LESSONS_SQL, rs -> {
+            String hash = rs.getString(6);
+            builder.addLesson(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getString(4), rs.getString(5),
+                    hash != null ? bodies.get(hash) : null, dateTime(rs, 7), dateTime(rs, 8));
+        });
+        return builder.build();
+    }
+
+    private static LocalDateTime dateTime(ResultSet rs, int column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
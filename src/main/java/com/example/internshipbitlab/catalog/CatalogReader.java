@@ -0,0 +1,93 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.dto.LessonDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read side of the catalog that the services answer GET requests from. The database implementation is used
+ * unless the configuration provides a primary one: the in-memory copy in memory mode, or the snapshot reader
+ * while a cold instance warms up. Courses and chapters carry their counts, chapters carry their lessons,
+ * and children are ordered by order number. Lookups by several ids return only the rows found.
+ * The {@code WithoutLessons}/{@code WithoutContent} batch lookups serve the GraphQL schema, which resolves
+ * children and bodies through their own batches; an implementation that has them at hand may still fill them in.
+ */
+public interface CatalogReader {
+
+    Optional<CourseDTO> findCourse(long id);
+
+    List<CourseDTO> findAllCourses();
+
+    List<CourseDTO> findCourses(Collection<Long> ids);
+
+    Optional<ChapterDTO> findChapter(long id);
+
+    List<ChapterDTO> findChaptersByCourse(long courseId);
+
+    List<ChapterDTO> findChapters(Collection<Long> ids);
+
+    default List<ChapterDTO> findChaptersWithoutLessons(Collection<Long> ids) {
+        return findChapters(ids);
+    }
+
+    default List<ChapterDTO> findChaptersWithoutLessonsByCourses(Collection<Long> courseIds) {
+        List<ChapterDTO> chapters = new ArrayList<>();
+        courseIds.forEach(courseId -> chapters.addAll(findChaptersByCourse(courseId)));
+        return chapters;
+    }
+
+    Optional<LessonDTO> findLesson(long id);
+
+    List<LessonDTO> findLessonsByChapter(long chapterId);
+
+    List<LessonDTO> findLessons(Collection<Long> ids);
+
+    /**
+     * Lessons of the given chapters; {@code courseIds} are the chapters' courses and only narrow the lookup.
+     */
+    default List<LessonDTO> findLessonsWithoutContentByChapters(Collection<Long> chapterIds,
+                                                                Collection<Long> courseIds) {
+        List<LessonDTO> lessons = new ArrayList<>();
+        chapterIds.forEach(chapterId -> lessons.addAll(findLessonsByChapter(chapterId)));
+        return lessons;
+    }
+
+    /**
+     * Bodies of the given lessons by lesson id; lessons without content are left out.
+     */
+    default Map<Long, String> findContents(Collection<Long> lessonIds) {
+        Map<Long, String> contents = new HashMap<>();
+        for (LessonDTO lesson : findLessons(lessonIds)) {
+            if (lesson.getContent() != null) {
+                contents.put(lesson.getId(), lesson.getContent());
+            }
+        }
+        return contents;
+    }
+
+    Optional<LessonContentInfo> findContentInfo(long lessonId);
+
+    /**
+     * Copies {@code length} bytes of the UTF-8 body described by {@code info} (as returned by
+     * {@link #findContentInfo}) starting at {@code offset} to {@code out}; writes nothing for a lesson without content.
+     */
+    void writeContent(LessonContentInfo info, long offset, long length, OutputStream out) throws IOException;
+
+    /**
+     * The course outline as JSON in the shape of the stored {@code course_outlines} row.
+     */
+    Optional<byte[]> findOutlineJson(long courseId);
+
+    CourseStatsDTO getStats();
+}
@@ -0,0 +1,48 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result shapes shared by the {@link CatalogReader} implementations.
+ */
+final class CatalogRows {
+
+    private static final ObjectMapper OUTLINE_WRITER = new ObjectMapper();
+
+    private CatalogRows() {
+    }
+
+    static byte[] json(Map<String, Object> outline) {
+        try {
+            return OUTLINE_WRITER.writeValueAsBytes(outline);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outline " + outline.get("id"), e);
+        }
+    }
+
+    static Map<String, Object> outlineNode(long id, String name, String description, int orderNumber) {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("id", id);
+        node.put("name", name);
+        node.put("description", description);
+        node.put("orderNumber", orderNumber);
+        return node;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class ContentInfo implements LessonContentInfo {
+        private final Long id;
+        private final Long contentLength;
+        private final LocalDateTime updatedAt;
+        private final String contentHash;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.service.ChangeCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Exports the catalog to a {@link SnapshotFormat} file. All rows are streamed in storage order from a single
+ * repeatable-read transaction, whose outbox position is stored as the change cursor; the database computes the child ranges and the id-to-position indexes, so the
+ * job only keeps the heap offsets of the content blobs in memory. The file is written next to the target and
+ * moved into place once complete, so readers never see a partial snapshot.
+ */
+public class CatalogSnapshotExporter implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotExporter.class);
+
+    private static final int FETCH_SIZE = 10_000;
+
+    // Every transaction older than the snapshot's xmin is visible to it; younger ones may or may not be
+    private static final String CHANGE_CURSOR_SQL =
+            "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)";
+    private static final String COUNT_SQL =
+            "SELECT (SELECT count(*) FROM courses), (SELECT count(*) FROM chapters), " +
+                    "(SELECT count(*) FROM lessons), (SELECT count(*) FROM content_blobs)";
+    private static final String BLOBS_SQL =
+            "SELECT content FROM content_blobs ORDER BY hash";
+    private static final String COURSES_SQL = """
+            WITH chapter_lessons AS (
+                SELECT ch.course_id, count(l.id) AS lessons
+                FROM chapters ch LEFT JOIN lessons l ON l.chapter_id = ch.id AND l.course_id = ch.course_id
+                GROUP BY ch.id, ch.course_id),
+            course_counts AS (
+                SELECT course_id, count(*) AS chapters, sum(lessons) AS lessons
+                FROM chapter_lessons GROUP BY course_id)
+            SELECT c.id, c.name, c.description, c.created_at, c.updated_at,
+                   COALESCE(sum(k.chapters) OVER w, 0) - COALESCE(k.chapters, 0),
+                   COALESCE(k.chapters, 0), COALESCE(k.lessons, 0)
+            FROM courses c LEFT JOIN course_counts k ON k.course_id = c.id
+            WINDOW w AS (ORDER BY c.id)
+            ORDER BY c.id
+            """;
+    private static final String CHAPTERS_SQL = """
+            WITH chapter_lessons AS (
+                SELECT chapter_id, course_id, count(*) AS lessons FROM lessons GROUP BY chapter_id, course_id)
+            SELECT ch.id, ch.course_id, ch.order_number, ch.name, ch.description, ch.created_at, ch.updated_at,
+                   COALESCE(sum(k.lessons) OVER w, 0) - COALESCE(k.lessons, 0),
+                   COALESCE(k.lessons, 0)
+            FROM chapters ch
+            LEFT JOIN chapter_lessons k ON k.chapter_id = ch.id AND k.course_id = ch.course_id
+            WINDOW w AS (ORDER BY ch.course_id, ch.order_number, ch.id)
+            ORDER BY ch.course_id, ch.order_number, ch.id
+            """;
+    private static final String LESSONS_SQL = """
+            WITH blobs AS (SELECT hash, row_number() OVER (ORDER BY hash) - 1 AS n FROM content_blobs)
+            SELECT l.id, l.chapter_id, l.order_number, l.name, l.description, b.n, l.created_at, l.updated_at
+            FROM lessons l
+            JOIN chapters ch ON ch.id = l.chapter_id AND ch.course_id = l.course_id
+            LEFT JOIN blobs b ON b.hash = l.content_hash
+            ORDER BY ch.course_id, ch.order_number, ch.id, l.order_number, l.id
+            """;
+    private static final String CHAPTER_INDEX_SQL =
+            "SELECT id, row_number() OVER (ORDER BY course_id, order_number, id) - 1 FROM chapters ORDER BY id";
+    private static final String LESSON_INDEX_SQL = """
+            SELECT l.id, row_number() OVER (ORDER BY ch.course_id, ch.order_number, ch.id, l.order_number, l.id) - 1
+            FROM lessons l JOIN chapters ch ON ch.id = l.chapter_id AND ch.course_id = l.course_id
+            ORDER BY l.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final CatalogSnapshotProperties properties;
+
+    public CatalogSnapshotExporter(DataSource dataSource, CatalogSnapshotProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.snapshotTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path target = properties.getPath();
+        if (target == null) {
+            throw new IllegalStateException("Set app.catalog.snapshot.path to the file to export to");
+        }
+        Path absolute = target.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path partial = absolute.resolveSibling(absolute.getFileName() + ".partial");
+
+        long started = System.nanoTime();
+        try {
+            snapshotTransaction.executeWithoutResult(status -> export(partial));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(partial, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Exported catalog snapshot {} ({} bytes) in {} ms", absolute, Files.size(absolute),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void export(Path file) {
+        Instant createdAt = Instant.now();
+        // First statement: takes the transaction's snapshot, which every later query reads from
+        ChangeCursor changeCursor = new ChangeCursor(jdbcTemplate.queryForObject(CHANGE_CURSOR_SQL, Long.class), 0L);
+        int[] counts = jdbcTemplate.queryForObject(COUNT_SQL, (rs, rowNum) ->
+                new int[]{rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getInt(4)});
+        logger.info("Exporting {} courses, {} chapters, {} lessons and {} content blobs",
+                counts[0], counts[1], counts[2], counts[3]);
+
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(file, counts[0], counts[1], counts[2])) {
+            long[] blobRefs = new long[counts[3]];
+            int[] blobs = {0};
+            stream(BLOBS_SQL, rs -> blobRefs[blobs[0]++] = writer.writeBytes(rs.getBytes(1)));
+            stream(COURSES_SQL, rs -> writer.addCourse(rs.getLong(1), rs.getString(2), rs.getString(3),
+                    dateTime(rs, 4), dateTime(rs, 5), rs.getInt(6), rs.getInt(7), rs.getLong(8)));
+            stream(CHAPTERS_SQL, rs -> writer.addChapter(rs.getLong(1), rs.getLong(2), rs.getInt(3),
+                    rs.getString(4), rs.getString(5), dateTime(rs, 6), dateTime(rs, 7), rs.getInt(8), rs.getInt(9)));
+            stream(LESSONS_SQL, rs -> {
+                long blob = rs.getLong(6);
+                long contentRef = rs.wasNull() ? SnapshotFormat.NULL_REF : blobRefs[(int) blob];
+                writer.addLesson(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getString(4), rs.getString(5),
+                        contentRef, dateTime(rs, 7), dateTime(rs, 8));
+            });
+            stream(CHAPTER_INDEX_SQL, rs -> writer.addChapterIndex(rs.getLong(1), rs.getInt(2)));
+            stream(LESSON_INDEX_SQL, rs -> writer.addLessonIndex(rs.getLong(1), rs.getInt(2)));
+            writer.finish(createdAt, changeCursor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write catalog snapshot " + file, e);
+        }
+    }
+
+    private void stream(String sql, RowWriter rowWriter) {
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static LocalDateTime dateTime(ResultSet rs, int column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
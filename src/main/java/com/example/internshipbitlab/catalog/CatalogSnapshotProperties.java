@@ -0,0 +1,21 @@
+package com.example.internshipbitlab.catalog;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.catalog.snapshot")
+public class CatalogSnapshotProperties {
+    private Path path;
+    // Older snapshots are not served at all; every course changed since is read from the database anyway
+    private Duration maxAge = Duration.ofMinutes(15);
+    // Chapters loaded per query while warming the entity caches
+    private int warmupBatchSize = 100;
+    // Lessons loaded at most while warming; the lesson cache region holds 100k (hibernate-cache.conf)
+    private int warmupMaxLessons = 100_000;
+}
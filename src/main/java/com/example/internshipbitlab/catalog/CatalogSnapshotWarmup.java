@@ -0,0 +1,142 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.repository.ChapterRepository;
+import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lets a cold instance answer reads from a mapped catalog snapshot while its entity caches are still empty.
+ * The snapshot is opened while the context starts, before any request is accepted; once the application is
+ * ready the course, chapter and lesson caches are filled in the background, and reads go back to the database
+ * when that is done. {@link SnapshotCatalogReader} reads whatever changed since the snapshot was written from the
+ * database. The warm-up stops at {@code warmup-max-lessons}, the size of the lesson cache region.
+ */
+public class CatalogSnapshotWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotWarmup.class);
+
+    private final CatalogSnapshotProperties properties;
+    private final SnapshotCatalogReader reader;
+    private final CourseRepository courseRepository;
+    private final ChapterRepository chapterRepository;
+    private final LessonRepository lessonRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MappedCatalogSnapshot snapshot;
+
+    public CatalogSnapshotWarmup(CatalogSnapshotProperties properties, SnapshotCatalogReader reader,
+                                 CourseRepository courseRepository, ChapterRepository chapterRepository,
+                                 LessonRepository lessonRepository, PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.reader = reader;
+        this.courseRepository = courseRepository;
+        this.chapterRepository = chapterRepository;
+        this.lessonRepository = lessonRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshot = serve(open(properties));
+    }
+
+    private MappedCatalogSnapshot serve(MappedCatalogSnapshot opened) {
+        if (opened == null) {
+            return null;
+        }
+        try {
+            reader.serveFrom(opened);
+            return opened;
+        } catch (RuntimeException e) {
+            logger.warn("Not serving catalog snapshot, its changes could not be read: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (snapshot == null) {
+            return;
+        }
+        Thread warmup = new Thread(this::fillCaches, "catalog-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    void fillCaches() {
+        long started = System.nanoTime();
+        try {
+            int courses = readOnlyTransaction.execute(status -> courseRepository.findAll().size());
+            int[] loaded = {0, 0};
+            List<Long> batch = new ArrayList<>(properties.getWarmupBatchSize());
+            snapshot.forEachChapterId(id -> {
+                if (loaded[1] >= properties.getWarmupMaxLessons()) {
+                    return;
+                }
+                batch.add(id);
+                if (batch.size() == properties.getWarmupBatchSize()) {
+                    loadChapters(batch, loaded);
+                }
+            });
+            if (loaded[1] < properties.getWarmupMaxLessons()) {
+                loadChapters(batch, loaded);
+            }
+            logger.info("Warmed caches with {} courses, {} chapters and {} lessons in {} ms", courses, loaded[0],
+                    loaded[1], (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Cache warm-up failed, serving reads from the database: {}", e.getMessage(), e);
+        } finally {
+            reader.stopServing(snapshot);
+        }
+    }
+
+    /**
+     * Loads the chapters and their lessons, adding their counts to {@code loaded}. The lessons are read with the
+     * chapters' course ids, taken from the snapshot, so that PostgreSQL only scans their partitions.
+     */
+    private void loadChapters(List<Long> ids, int[] loaded) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> courseIds = ids.stream()
+                .map(id -> snapshot.findCourseIdOfChapter(id).orElseThrow())
+                .distinct()
+                .toList();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            loaded[0] += chapterRepository.findAllById(ids).size();
+            loaded[1] += lessonRepository.findWithBodyByChapterIds(ids, courseIds).size();
+        });
+        ids.clear();
+    }
+
+    private static MappedCatalogSnapshot open(CatalogSnapshotProperties properties) {
+        Path path = properties.getPath();
+        if (!Files.isRegularFile(path)) {
+            logger.info("No catalog snapshot at {}, starting with cold caches", path);
+            return null;
+        }
+        try {
+            MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(path);
+            Duration age = Duration.between(snapshot.getCreatedAt(), Instant.now());
+            if (age.compareTo(properties.getMaxAge()) > 0) {
+                logger.warn("Ignoring catalog snapshot {}: it is {} old, the limit is {}", path, age,
+                        properties.getMaxAge());
+                return null;
+            }
+            return snapshot;
+        } catch (IOException | IllegalStateException e) {
+            logger.warn("Ignoring catalog snapshot {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.service.ChangeCursor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static com.example.internshipbitlab.catalog.SnapshotFormat.*;
+
+/**
+ * Writes a catalog snapshot in {@link SnapshotFormat}. The row counts are fixed up front, which places every
+ * section; rows are then appended in storage order and their strings go to the heap as they arrive.
+ * The header is written last by {@link #finish}, so an unfinished file never opens as a snapshot.
+ */
+public class CatalogSnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final int courseCount;
+    private final int chapterCount;
+    private final int lessonCount;
+    private final Section courses;
+    private final Section chapters;
+    private final Section lessons;
+    private final Section chapterIndex;
+    private final Section lessonIndex;
+    private final Section heap;
+
+    public CatalogSnapshotWriter(Path file, int courseCount, int chapterCount, int lessonCount) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        this.courseCount = courseCount;
+        this.chapterCount = chapterCount;
+        this.lessonCount = lessonCount;
+
+        long courseTable = HEADER_SIZE;
+        long chapterTable = courseTable + (long) courseCount * RECORD_SIZE;
+        long lessonTable = chapterTable + (long) chapterCount * RECORD_SIZE;
+        long chapterIndexStart = lessonTable + (long) lessonCount * RECORD_SIZE;
+        long lessonIndexStart = chapterIndexStart + (long) chapterCount * INDEX_ENTRY_SIZE;
+        long heapStart = align(lessonIndexStart + (long) lessonCount * INDEX_ENTRY_SIZE, RECORD_SIZE);
+
+        this.courses = new Section(courseTable);
+        this.chapters = new Section(chapterTable);
+        this.lessons = new Section(lessonTable);
+        this.chapterIndex = new Section(chapterIndexStart);
+        this.lessonIndex = new Section(lessonIndexStart);
+        this.heap = new Section(heapStart);
+    }
+
+    /**
+     * Appends a string to the heap and returns its offset; lesson bodies are written once and shared by offset.
+     */
+    public long writeString(String value) throws IOException {
+        return value == null ? NULL_REF : writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Appends the UTF-8 bytes of a string, as read from a {@code bytea} column, and returns their offset.
+     */
+    public long writeBytes(byte[] bytes) throws IOException {
+        long size = 4L + bytes.length;
+        if (size > CHUNK_SIZE) {
+            throw new IllegalArgumentException("A string of " + bytes.length + " bytes does not fit in a snapshot");
+        }
+        long offset = heap.offset();
+        if ((offset & (CHUNK_SIZE - 1)) + size > CHUNK_SIZE) {
+            heap.skipTo(align(offset, CHUNK_SIZE));
+            offset = heap.offset();
+        }
+        if (size <= BUFFER_SIZE) {
+            heap.ensure((int) size);
+            heap.buffer.putInt(bytes.length).put(bytes);
+        } else {
+            heap.writeDirect(ByteBuffer.allocate(4).putInt(0, bytes.length), ByteBuffer.wrap(bytes));
+        }
+        return offset;
+    }
+
+    public void addCourse(long id, String name, String description, LocalDateTime createdAt,
+                          LocalDateTime updatedAt, int firstChapter, int chapterCount, long lessonCount)
+            throws IOException {
+        long nameRef = writeString(name);
+        long descriptionRef = writeString(description);
+        courses.ensure(RECORD_SIZE);
+        courses.buffer.putLong(id).putLong(nameRef).putLong(descriptionRef)
+                .putLong(InMemoryCatalog.micros(createdAt)).putLong(InMemoryCatalog.micros(updatedAt))
+                .putInt(firstChapter).putInt(chapterCount).putLong(lessonCount)
+                .putLong(0);
+        courses.rows++;
+    }
+
+    public void addChapter(long id, long courseId, int orderNumber, String name, String description,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, int firstLesson, int lessonCount)
+            throws IOException {
+        long nameRef = writeString(name);
+        long descriptionRef = writeString(description);
+        chapters.ensure(RECORD_SIZE);
+        chapters.buffer.putLong(id).putLong(courseId).putLong(nameRef).putLong(descriptionRef)
+                .putLong(InMemoryCatalog.micros(createdAt)).putLong(InMemoryCatalog.micros(updatedAt))
+                .putInt(orderNumber).putInt(firstLesson).putInt(lessonCount)
+                .putInt(0);
+        chapters.rows++;
+    }
+
+    public void addLesson(long id, long chapterId, int orderNumber, String name, String description,
+                          long contentRef, LocalDateTime createdAt, LocalDateTime updatedAt) throws IOException {
+        long nameRef = writeString(name);
+        long descriptionRef = writeString(description);
+        lessons.ensure(RECORD_SIZE);
+        lessons.buffer.putLong(id).putLong(chapterId).putLong(nameRef).putLong(descriptionRef).putLong(contentRef)
+                .putLong(InMemoryCatalog.micros(createdAt)).putLong(InMemoryCatalog.micros(updatedAt))
+                .putInt(orderNumber)
+                .putInt(0);
+        lessons.rows++;
+    }
+
+    public void addChapterIndex(long id, int position) throws IOException {
+        chapterIndex.ensure(INDEX_ENTRY_SIZE);
+        chapterIndex.buffer.putLong(id).putInt(position).putInt(0);
+        chapterIndex.rows++;
+    }
+
+    public void addLessonIndex(long id, int position) throws IOException {
+        lessonIndex.ensure(INDEX_ENTRY_SIZE);
+        lessonIndex.buffer.putLong(id).putInt(position).putInt(0);
+        lessonIndex.rows++;
+    }
+
+    /**
+     * Flushes every section, checks that all rows were written and writes the header.
+     */
+    public void finish(Instant createdAt, ChangeCursor changeCursor) throws IOException {
+        check("courses", courses.rows, courseCount);
+        check("chapters", chapters.rows, chapterCount);
+        check("lessons", lessons.rows, lessonCount);
+        check("chapter index entries", chapterIndex.rows, chapterCount);
+        check("lesson index entries", lessonIndex.rows, lessonCount);
+        for (Section section : new Section[]{courses, chapters, lessons, chapterIndex, lessonIndex, heap}) {
+            section.flush();
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(HEADER_MAGIC, MAGIC)
+                .putInt(HEADER_VERSION, VERSION)
+                .putLong(HEADER_CREATED_AT, createdAt.toEpochMilli())
+                .putInt(HEADER_COURSES, courseCount)
+                .putInt(HEADER_CHAPTERS, chapterCount)
+                .putInt(HEADER_LESSONS, lessonCount)
+                .putLong(HEADER_COURSE_TABLE, courses.start)
+                .putLong(HEADER_CHAPTER_TABLE, chapters.start)
+                .putLong(HEADER_LESSON_TABLE, lessons.start)
+                .putLong(HEADER_CHAPTER_INDEX, chapterIndex.start)
+                .putLong(HEADER_LESSON_INDEX, lessonIndex.start)
+                .putLong(HEADER_HEAP, heap.start)
+                .putLong(HEADER_LENGTH, heap.offset())
+                .putLong(HEADER_CHANGE_XACT_ID, changeCursor.xactId())
+                .putLong(HEADER_CHANGE_ID, changeCursor.id());
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void check(String rows, long written, long expected) {
+        if (written != expected) {
+            throw new IllegalStateException("Wrote " + written + " " + rows + " but the snapshot was sized for "
+                    + expected);
+        }
+    }
+
+    private static long align(long offset, long alignment) {
+        return (offset + alignment - 1) / alignment * alignment;
+    }
+
+    private final class Section {
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final long start;
+        private long position;
+        private long rows;
+
+        private Section(long start) {
+            this.start = start;
+            this.position = start;
+        }
+
+        private long offset() {
+            return position + buffer.position();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void skipTo(long offset) throws IOException {
+            flush();
+            position = offset;
+        }
+
+        private void writeDirect(ByteBuffer... buffers) throws IOException {
+            flush();
+            for (ByteBuffer direct : buffers) {
+                while (direct.hasRemaining()) {
+                    position += channel.write(direct, position);
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+}
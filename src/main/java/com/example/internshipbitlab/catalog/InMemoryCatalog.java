@@ -0,0 +1,469 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.dto.LessonDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable catalog held entirely in memory. Rows are stored column-wise in arrays indexed by position and
+ * ids are mapped to positions with {@link LongIntMap}. Chapters are stored grouped by course and lessons
+ * grouped by chapter, each group sorted by order number, so the children of a row are the contiguous range
+ * between two entries of a start-offset array. Names and descriptions are deduplicated while loading. Bodies are
+ * encoded to UTF-8 once while loading, so downloads are slices of the stored bytes, and lessons with the same
+ * body share one array. Timestamps are kept as epoch microseconds.
+ */
+public final class InMemoryCatalog implements CatalogReader {
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final long[] courseIds;
+    private final String[] courseNames;
+    private final String[] courseDescriptions;
+    private final long[] courseCreatedAt;
+    private final long[] courseUpdatedAt;
+    private final int[] courseChapterStart;
+    private final LongIntMap courseIndex;
+
+    private final long[] chapterIds;
+    private final int[] chapterCourses;
+    private final int[] chapterOrderNumbers;
+    private final String[] chapterNames;
+    private final String[] chapterDescriptions;
+    private final long[] chapterCreatedAt;
+    private final long[] chapterUpdatedAt;
+    private final int[] chapterLessonStart;
+    private final LongIntMap chapterIndex;
+
+    private final long[] lessonIds;
+    private final int[] lessonChapters;
+    private final int[] lessonOrderNumbers;
+    private final String[] lessonNames;
+    private final String[] lessonDescriptions;
+    private final byte[][] lessonContents;
+    private final long[] lessonCreatedAt;
+    private final long[] lessonUpdatedAt;
+    private final LongIntMap lessonIndex;
+
+    private InMemoryCatalog(Builder builder) {
+        int courses = builder.courseCount;
+        int chapters = builder.chapterCount;
+        int lessons = builder.lessonCount;
+
+        courseIds = Arrays.copyOf(builder.courseIds, courses);
+        courseNames = Arrays.copyOf(builder.courseNames, courses);
+        courseDescriptions = Arrays.copyOf(builder.courseDescriptions, courses);
+        courseCreatedAt = Arrays.copyOf(builder.courseCreatedAt, courses);
+        courseUpdatedAt = Arrays.copyOf(builder.courseUpdatedAt, courses);
+        courseChapterStart = startOffsets(builder.chapterCourses, chapters, courses);
+        courseIndex = builder.courseIndex;
+
+        chapterIds = Arrays.copyOf(builder.chapterIds, chapters);
+        chapterCourses = Arrays.copyOf(builder.chapterCourses, chapters);
+        chapterOrderNumbers = Arrays.copyOf(builder.chapterOrderNumbers, chapters);
+        chapterNames = Arrays.copyOf(builder.chapterNames, chapters);
+        chapterDescriptions = Arrays.copyOf(builder.chapterDescriptions, chapters);
+        chapterCreatedAt = Arrays.copyOf(builder.chapterCreatedAt, chapters);
+        chapterUpdatedAt = Arrays.copyOf(builder.chapterUpdatedAt, chapters);
+        chapterLessonStart = startOffsets(builder.lessonChapters, lessons, chapters);
+        chapterIndex = builder.chapterIndex;
+
+        lessonIds = Arrays.copyOf(builder.lessonIds, lessons);
+        lessonChapters = Arrays.copyOf(builder.lessonChapters, lessons);
+        lessonOrderNumbers = Arrays.copyOf(builder.lessonOrderNumbers, lessons);
+        lessonNames = Arrays.copyOf(builder.lessonNames, lessons);
+        lessonDescriptions = Arrays.copyOf(builder.lessonDescriptions, lessons);
+        lessonContents = Arrays.copyOf(builder.lessonContents, lessons);
+        lessonCreatedAt = Arrays.copyOf(builder.lessonCreatedAt, lessons);
+        lessonUpdatedAt = Arrays.copyOf(builder.lessonUpdatedAt, lessons);
+        lessonIndex = builder.lessonIndex;
+    }
+
+    public static Builder builder(int courses, int chapters, int lessons) {
+        return new Builder(courses, chapters, lessons);
+    }
+
+    @Override
+    public Optional<CourseDTO> findCourse(long id) {
+        int position = courseIndex.get(id);
+        return position == LongIntMap.MISSING ? Optional.empty() : Optional.of(course(position));
+    }
+
+    @Override
+    public List<CourseDTO> findAllCourses() {
+        List<CourseDTO> courses = new ArrayList<>(courseIds.length);
+        for (int position = 0; position < courseIds.length; position++) {
+            courses.add(course(position));
+        }
+        return courses;
+    }
+
+    @Override
+    public List<CourseDTO> findCourses(Collection<Long> ids) {
+        return collect(ids, courseIndex, this::course);
+    }
+
+    @Override
+    public Optional<ChapterDTO> findChapter(long id) {
+        int position = chapterIndex.get(id);
+        return position == LongIntMap.MISSING ? Optional.empty() : Optional.of(chapter(position));
+    }
+
+    @Override
+    public List<ChapterDTO> findChaptersByCourse(long courseId) {
+        int course = courseIndex.get(courseId);
+        if (course == LongIntMap.MISSING) {
+            return List.of();
+        }
+        List<ChapterDTO> chapters = new ArrayList<>(courseChapterStart[course + 1] - courseChapterStart[course]);
+        for (int position = courseChapterStart[course]; position < courseChapterStart[course + 1]; position++) {
+            chapters.add(chapter(position));
+        }
+        return chapters;
+    }
+
+    @Override
+    public List<ChapterDTO> findChapters(Collection<Long> ids) {
+        return collect(ids, chapterIndex, this::chapter);
+    }
+
+    @Override
+    public Optional<LessonDTO> findLesson(long id) {
+        int position = lessonIndex.get(id);
+        return position == LongIntMap.MISSING ? Optional.empty() : Optional.of(lesson(position));
+    }
+
+    @Override
+    public List<LessonDTO> findLessonsByChapter(long chapterId) {
+        int chapter = chapterIndex.get(chapterId);
+        return chapter == LongIntMap.MISSING ? List.of() : lessonsOf(chapter);
+    }
+
+    @Override
+    public List<LessonDTO> findLessons(Collection<Long> ids) {
+        return collect(ids, lessonIndex, this::lesson);
+    }
+
+    @Override
+    public Optional<LessonContentInfo> findContentInfo(long lessonId) {
+        int position = lessonIndex.get(lessonId);
+        if (position == LongIntMap.MISSING) {
+            return Optional.empty();
+        }
+        byte[] content = lessonContents[position];
+        return Optional.of(new CatalogRows.ContentInfo(lessonIds[position], content != null ? content.length : 0L,
+                dateTime(lessonUpdatedAt[position]), null));
+    }
+
+    @Override
+    public void writeContent(LessonContentInfo info, long offset, long length, OutputStream out) throws IOException {
+        long lessonId = info.getId();
+        int position = lessonIndex.get(lessonId);
+        if (position == LongIntMap.MISSING || lessonContents[position] == null) {
+            return;
+        }
+        byte[] content = lessonContents[position];
+        int from = (int) Math.min(offset, content.length);
+        out.write(content, from, (int) Math.min(length, content.length - from));
+    }
+
+    @Override
+    public Optional<byte[]> findOutlineJson(long courseId) {
+        return findOutline(courseId).map(CatalogRows::json);
+    }
+
+    public Optional<Map<String, Object>> findOutline(long courseId) {
+        int course = courseIndex.get(courseId);
+        if (course == LongIntMap.MISSING) {
+            return Optional.empty();
+        }
+        List<Map<String, Object>> chapters = new ArrayList<>();
+        for (int chapter = courseChapterStart[course]; chapter < courseChapterStart[course + 1]; chapter++) {
+            List<Map<String, Object>> lessons = new ArrayList<>();
+            for (int lesson = chapterLessonStart[chapter]; lesson < chapterLessonStart[chapter + 1]; lesson++) {
+                lessons.add(CatalogRows.outlineNode(lessonIds[lesson], lessonNames[lesson], lessonDescriptions[lesson],
+                        lessonOrderNumbers[lesson]));
+            }
+            Map<String, Object> node = CatalogRows.outlineNode(chapterIds[chapter], chapterNames[chapter],
+                    chapterDescriptions[chapter], chapterOrderNumbers[chapter]);
+            node.put("lessons", lessons);
+            chapters.add(node);
+        }
+        Map<String, Object> outline = new LinkedHashMap<>();
+        outline.put("id", courseIds[course]);
+        outline.put("name", courseNames[course]);
+        outline.put("description", courseDescriptions[course]);
+        outline.put("chapters", chapters);
+        return Optional.of(outline);
+    }
+
+    @Override
+    public CourseStatsDTO getStats() {
+        return CourseStatsDTO.builder()
+                .courseCount(courseIds.length)
+                .chapterCount(chapterIds.length)
+                .lessonCount(lessonIds.length)
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return "in-memory catalog of " + courseIds.length + " courses, " + chapterIds.length + " chapters and "
+                + lessonIds.length + " lessons";
+    }
+
+    private CourseDTO course(int position) {
+        int firstChapter = courseChapterStart[position];
+        int endChapter = courseChapterStart[position + 1];
+        return CourseDTO.builder()
+                .id(courseIds[position])
+                .name(courseNames[position])
+                .description(courseDescriptions[position])
+                .createdAt(dateTime(courseCreatedAt[position]))
+                .updatedAt(dateTime(courseUpdatedAt[position]))
+                .chapterCount((long) (endChapter - firstChapter))
+                .lessonCount((long) (chapterLessonStart[endChapter] - chapterLessonStart[firstChapter]))
+                .build();
+    }
+
+    private ChapterDTO chapter(int position) {
+        return ChapterDTO.builder()
+                .id(chapterIds[position])
+                .name(chapterNames[position])
+                .description(chapterDescriptions[position])
+                .orderNumber(chapterOrderNumbers[position])
+                .courseId(courseIds[chapterCourses[position]])
+                .createdAt(dateTime(chapterCreatedAt[position]))
+                .updatedAt(dateTime(chapterUpdatedAt[position]))
+                .lessonCount((long) (chapterLessonStart[position + 1] - chapterLessonStart[position]))
+                .lessons(lessonsOf(position))
+                .build();
+    }
+
+    private List<LessonDTO> lessonsOf(int chapter) {
+        List<LessonDTO> lessons = new ArrayList<>(chapterLessonStart[chapter + 1] - chapterLessonStart[chapter]);
+        for (int position = chapterLessonStart[chapter]; position < chapterLessonStart[chapter + 1]; position++) {
+            lessons.add(lesson(position));
+        }
+        return lessons;
+    }
+
+    private LessonDTO lesson(int position) {
+        return LessonDTO.builder()
+                .id(lessonIds[position])
+                .name(lessonNames[position])
+                .description(lessonDescriptions[position])
+                .content(lessonContents[position] != null
+                        ? new String(lessonContents[position], StandardCharsets.UTF_8)
+                        : null)
+                .orderNumber(lessonOrderNumbers[position])
+                .chapterId(chapterIds[lessonChapters[position]])
+                .createdAt(dateTime(lessonCreatedAt[position]))
+                .updatedAt(dateTime(lessonUpdatedAt[position]))
+                .build();
+    }
+
+    private static <T> List<T> collect(Collection<Long> ids, LongIntMap index, IntFunction<T> toDto) {
+        List<T> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            int position = id != null ? index.get(id) : LongIntMap.MISSING;
+            if (position != LongIntMap.MISSING) {
+                found.add(toDto.apply(position));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Offsets of each parent's children; children must be grouped by parent in parent order.
+     */
+    private static int[] startOffsets(int[] parents, int children, int parentCount) {
+        int[] start = new int[parentCount + 1];
+        for (int child = 0; child < children; child++) {
+            start[parents[child] + 1]++;
+        }
+        for (int parent = 0; parent < parentCount; parent++) {
+            start[parent + 1] += start[parent];
+        }
+        return start;
+    }
+
+    static long micros(LocalDateTime time) {
+        if (time == null) {
+            return NO_TIME;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static LocalDateTime dateTime(long micros) {
+        if (micros == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Collects rows in storage order: courses first, then chapters grouped by course in the order the
+     * courses were added and sorted by order number, then lessons grouped the same way by chapter.
+     */
+    public static final class Builder {
+
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<String, byte[]> encodedContents = new IdentityHashMap<>();
+
+        private final long[] courseIds;
+        private final String[] courseNames;
+        private final String[] courseDescriptions;
+        private final long[] courseCreatedAt;
+        private final long[] courseUpdatedAt;
+        private final LongIntMap courseIndex;
+        private int courseCount;
+
+        private final long[] chapterIds;
+        private final int[] chapterCourses;
+        private final int[] chapterOrderNumbers;
+        private final String[] chapterNames;
+        private final String[] chapterDescriptions;
+        private final long[] chapterCreatedAt;
+        private final long[] chapterUpdatedAt;
+        private final LongIntMap chapterIndex;
+        private int chapterCount;
+
+        private final long[] lessonIds;
+        private final int[] lessonChapters;
+        private final int[] lessonOrderNumbers;
+        private final String[] lessonNames;
+        private final String[] lessonDescriptions;
+        private final byte[][] lessonContents;
+        private final long[] lessonCreatedAt;
+        private final long[] lessonUpdatedAt;
+        private final LongIntMap lessonIndex;
+        private int lessonCount;
+
+        private Builder(int courses, int chapters, int lessons) {
+            courseIds = new long[courses];
+            courseNames = new String[courses];
+            courseDescriptions = new String[courses];
+            courseCreatedAt = new long[courses];
+            courseUpdatedAt = new long[courses];
+            courseIndex = new LongIntMap(courses);
+
+            chapterIds = new long[chapters];
+            chapterCourses = new int[chapters];
+            chapterOrderNumbers = new int[chapters];
+            chapterNames = new String[chapters];
+            chapterDescriptions = new String[chapters];
+            chapterCreatedAt = new long[chapters];
+            chapterUpdatedAt = new long[chapters];
+            chapterIndex = new LongIntMap(chapters);
+
+            lessonIds = new long[lessons];
+            lessonChapters = new int[lessons];
+            lessonOrderNumbers = new int[lessons];
+            lessonNames = new String[lessons];
+            lessonDescriptions = new String[lessons];
+            lessonContents = new byte[lessons][];
+            lessonCreatedAt = new long[lessons];
+            lessonUpdatedAt = new long[lessons];
+            lessonIndex = new LongIntMap(lessons);
+        }
+
+        public Builder addCourse(long id, String name, String description,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+            int position = courseCount++;
+            courseIds[position] = id;
+            courseNames[position] = dedup(name);
+            courseDescriptions[position] = dedup(description);
+            courseCreatedAt[position] = micros(createdAt);
+            courseUpdatedAt[position] = micros(updatedAt);
+            courseIndex.put(id, position);
+            return this;
+        }
+
+        public Builder addChapter(long id, long courseId, int orderNumber, String name, String description,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+            int course = parent(courseIndex, courseId, "course");
+            int position = chapterCount;
+            if (position > 0 && !inOrder(chapterCourses[position - 1], chapterOrderNumbers[position - 1],
+                    course, orderNumber)) {
+                throw new IllegalStateException("Chapter " + id + " is out of order; chapters must be added "
+                        + "grouped by course in course order and sorted by order number");
+            }
+            chapterCount++;
+            chapterIds[position] = id;
+            chapterCourses[position] = course;
+            chapterOrderNumbers[position] = orderNumber;
+            chapterNames[position] = dedup(name);
+            chapterDescriptions[position] = dedup(description);
+            chapterCreatedAt[position] = micros(createdAt);
+            chapterUpdatedAt[position] = micros(updatedAt);
+            chapterIndex.put(id, position);
+            return this;
+        }
+
+        /**
+         * Adds a lesson; lessons with the same body should pass the same {@code content} instance.
+         */
+        public Builder addLesson(long id, long chapterId, int orderNumber, String name, String description,
+                                 String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            int chapter = parent(chapterIndex, chapterId, "chapter");
+            int position = lessonCount;
+            if (position > 0 && !inOrder(lessonChapters[position - 1], lessonOrderNumbers[position - 1],
+                    chapter, orderNumber)) {
+                throw new IllegalStateException("Lesson " + id + " is out of order; lessons must be added "
+                        + "grouped by chapter in chapter order and sorted by order number");
+            }
+            lessonCount++;
+            lessonIds[position] = id;
+            lessonChapters[position] = chapter;
+            lessonOrderNumbers[position] = orderNumber;
+            lessonNames[position] = dedup(name);
+            lessonDescriptions[position] = dedup(description);
+            lessonContents[position] = content != null
+                    ? encodedContents.computeIfAbsent(content, body -> body.getBytes(StandardCharsets.UTF_8))
+                    : null;
+            lessonCreatedAt[position] = micros(createdAt);
+            lessonUpdatedAt[position] = micros(updatedAt);
+            lessonIndex.put(id, position);
+            return this;
+        }
+
+        public InMemoryCatalog build() {
+            return new InMemoryCatalog(this);
+        }
+
+        private String dedup(String value) {
+            return value != null ? strings.computeIfAbsent(value, key -> key) : null;
+        }
+
+        private static int parent(LongIntMap index, long id, String name) {
+            int position = index.get(id);
+            if (position == LongIntMap.MISSING) {
+                throw new IllegalStateException("Unknown " + name + " " + id);
+            }
+            return position;
+        }
+
+        private static boolean inOrder(int previousParent, int previousOrder, int parent, int orderNumber) {
+            return previousParent < parent || previousParent == parent && previousOrder <= orderNumber;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.internshipbitlab.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code long} keys to non-negative {@code int} values, without boxing.
+ * It is sized once for a known number of keys and used to turn entity ids into array positions.
+ */
+public final class LongIntMap {
+
+    public static final int MISSING = -1;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+    private final int maxSize;
+    private int size;
+
+    public LongIntMap(int expectedSize) {
+        // Keep the load factor at or below one half so probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.maxSize = Math.max(expectedSize, capacity / 2);
+        Arrays.fill(values, MISSING);
+    }
+
+    public void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values must not be negative");
+        }
+        int slot = slot(key);
+        while (values[slot] != MISSING) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == maxSize) {
+            throw new IllegalStateException("Map is full at " + maxSize + " keys");
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@link #MISSING}.
+     */
+    public int get(long key) {
+        int slot = slot(key);
+        while (values[slot] != MISSING) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,451 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.service.ChangeCursor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+
+import static com.example.internshipbitlab.catalog.SnapshotFormat.*;
+
+/**
+ * Read-only view of a {@link SnapshotFormat} file mapped with {@link FileChannel#map}. Nothing is decoded when
+ * the file is opened: ids are found by binary search over the id-ordered course table and index sections,
+ * fields are read at their offsets, and only the rows a request touches are turned into DTOs. Lesson bodies
+ * are streamed straight from the mapping. Pages are loaded by the OS on first access and shared between
+ * processes mapping the same file.
+ */
+public final class MappedCatalogSnapshot implements CatalogReader {
+
+    private final Path path;
+    private final MappedByteBuffer[] chunks;
+    private final Instant createdAt;
+    private final ChangeCursor changeCursor;
+    private final int courseCount;
+    private final int chapterCount;
+    private final int lessonCount;
+    private final long courseTable;
+    private final long chapterTable;
+    private final long lessonTable;
+    private final long chapterIndex;
+    private final long lessonIndex;
+
+    private MappedCatalogSnapshot(Path path, MappedByteBuffer[] chunks) {
+        this.path = path;
+        this.chunks = chunks;
+        ByteBuffer header = chunks[0];
+        if (header.capacity() < HEADER_SIZE || header.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IllegalStateException(path + " is not a catalog snapshot");
+        }
+        if (header.getInt(HEADER_VERSION) != VERSION) {
+            throw new IllegalStateException("Unsupported catalog snapshot version " + header.getInt(HEADER_VERSION)
+                    + " in " + path + ", expected " + VERSION);
+        }
+        this.createdAt = Instant.ofEpochMilli(header.getLong(HEADER_CREATED_AT));
+        this.changeCursor = new ChangeCursor(header.getLong(HEADER_CHANGE_XACT_ID), header.getLong(HEADER_CHANGE_ID));
+        this.courseCount = header.getInt(HEADER_COURSES);
+        this.chapterCount = header.getInt(HEADER_CHAPTERS);
+        this.lessonCount = header.getInt(HEADER_LESSONS);
+        this.courseTable = header.getLong(HEADER_COURSE_TABLE);
+        this.chapterTable = header.getLong(HEADER_CHAPTER_TABLE);
+        this.lessonTable = header.getLong(HEADER_LESSON_TABLE);
+        this.chapterIndex = header.getLong(HEADER_CHAPTER_INDEX);
+        this.lessonIndex = header.getLong(HEADER_LESSON_INDEX);
+    }
+
+    /**
+     * Maps the snapshot at {@code path}. The mapping stays valid after the file channel is closed and is
+     * released once the snapshot is no longer referenced.
+     */
+    public static MappedCatalogSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IllegalStateException(path + " is not a catalog snapshot");
+            }
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+            }
+            MappedCatalogSnapshot snapshot = new MappedCatalogSnapshot(path, chunks);
+            if (chunks[0].getLong(HEADER_LENGTH) != size) {
+                throw new IllegalStateException("Catalog snapshot " + path + " is truncated");
+            }
+            return snapshot;
+        }
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Outbox position of the export: the changes after it are the ones the snapshot may not contain.
+     */
+    public ChangeCursor getChangeCursor() {
+        return changeCursor;
+    }
+
+    public void forEachChapterId(LongConsumer consumer) {
+        for (int entry = 0; entry < chapterCount; entry++) {
+            consumer.accept(getLong(chapterIndex + (long) entry * INDEX_ENTRY_SIZE + INDEX_ID));
+        }
+    }
+
+    /**
+     * Course of a chapter, without decoding the chapter record.
+     */
+    public OptionalLong findCourseIdOfChapter(long chapterId) {
+        int position = chapterPosition(chapterId);
+        return position < 0 ? OptionalLong.empty() : OptionalLong.of(getLong(chapterRecord(position) + CHAPTER_COURSE_ID));
+    }
+
+    public OptionalLong findCourseIdOfLesson(long lessonId) {
+        int position = lessonPosition(lessonId);
+        return position < 0 ? OptionalLong.empty()
+                : findCourseIdOfChapter(getLong(lessonRecord(position) + LESSON_CHAPTER_ID));
+    }
+
+    @Override
+    public Optional<CourseDTO> findCourse(long id) {
+        int position = search(courseTable, RECORD_SIZE, courseCount, id);
+        return position < 0 ? Optional.empty() : Optional.of(course(position));
+    }
+
+    @Override
+    public List<CourseDTO> findAllCourses() {
+        List<CourseDTO> courses = new ArrayList<>(courseCount);
+        for (int position = 0; position < courseCount; position++) {
+            courses.add(course(position));
+        }
+        return courses;
+    }
+
+    @Override
+    public List<CourseDTO> findCourses(Collection<Long> ids) {
+        return collect(ids, id -> search(courseTable, RECORD_SIZE, courseCount, id), this::course);
+    }
+
+    @Override
+    public Optional<ChapterDTO> findChapter(long id) {
+        int position = chapterPosition(id);
+        return position < 0 ? Optional.empty() : Optional.of(chapter(position));
+    }
+
+    @Override
+    public List<ChapterDTO> findChaptersByCourse(long courseId) {
+        int course = search(courseTable, RECORD_SIZE, courseCount, courseId);
+        if (course < 0) {
+            return List.of();
+        }
+        long record = courseRecord(course);
+        int first = getInt(record + COURSE_FIRST_CHAPTER);
+        int count = getInt(record + COURSE_CHAPTER_COUNT);
+        List<ChapterDTO> chapters = new ArrayList<>(count);
+        for (int position = first; position < first + count; position++) {
+            chapters.add(chapter(position));
+        }
+        return chapters;
+    }
+
+    @Override
+    public List<ChapterDTO> findChapters(Collection<Long> ids) {
+        return collect(ids, this::chapterPosition, this::chapter);
+    }
+
+    @Override
+    public Optional<LessonDTO> findLesson(long id) {
+        int position = lessonPosition(id);
+        return position < 0 ? Optional.empty() : Optional.of(lesson(position));
+    }
+
+    @Override
+    public List<LessonDTO> findLessonsByChapter(long chapterId) {
+        int chapter = chapterPosition(chapterId);
+        return chapter < 0 ? List.of() : lessonsOf(chapter);
+    }
+
+    @Override
+    public List<LessonDTO> findLessons(Collection<Long> ids) {
+        return collect(ids, this::lessonPosition, this::lesson);
+    }
+
+    @Override
+    public Optional<LessonContentInfo> findContentInfo(long lessonId) {
+        int position = lessonPosition(lessonId);
+        if (position < 0) {
+            return Optional.empty();
+        }
+        long record = lessonRecord(position);
+        long content = getLong(record + LESSON_CONTENT);
+        long length = content == NULL_REF ? 0L : getInt(content);
+        return Optional.of(new CatalogRows.ContentInfo(getLong(record + LESSON_ID), length,
+                time(record + LESSON_UPDATED_AT), null));
+    }
+
+    @Override
+    public void writeContent(LessonContentInfo info, long offset, long length, OutputStream out) throws IOException {
+        long lessonId = info.getId();
+        int position = lessonPosition(lessonId);
+        long content = position < 0 ? NULL_REF : getLong(lessonRecord(position) + LESSON_CONTENT);
+        if (content == NULL_REF) {
+            return;
+        }
+        int size = getInt(content);
+        int from = (int) Math.min(offset, size);
+        int count = (int) Math.min(length, size - from);
+        ByteBuffer chunk = chunks[(int) (content >>> CHUNK_SHIFT)];
+        ByteBuffer slice = chunk.slice((int) (content & (CHUNK_SIZE - 1)) + 4 + from, count);
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (slice.hasRemaining()) {
+            channel.write(slice);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> findOutlineJson(long courseId) {
+        return findOutline(courseId).map(CatalogRows::json);
+    }
+
+    public Optional<Map<String, Object>> findOutline(long courseId) {
+        int course = search(courseTable, RECORD_SIZE, courseCount, courseId);
+        if (course < 0) {
+            return Optional.empty();
+        }
+        long courseRecord = courseRecord(course);
+        int firstChapter = getInt(courseRecord + COURSE_FIRST_CHAPTER);
+        int chapterEnd = firstChapter + getInt(courseRecord + COURSE_CHAPTER_COUNT);
+        List<Map<String, Object>> chapters = new ArrayList<>();
+        for (int chapter = firstChapter; chapter < chapterEnd; chapter++) {
+            long chapterRecord = chapterRecord(chapter);
+            int firstLesson = getInt(chapterRecord + CHAPTER_FIRST_LESSON);
+            int lessonEnd = firstLesson + getInt(chapterRecord + CHAPTER_LESSON_COUNT);
+            List<Map<String, Object>> lessons = new ArrayList<>();
+            for (int lesson = firstLesson; lesson < lessonEnd; lesson++) {
+                long lessonRecord = lessonRecord(lesson);
+                lessons.add(CatalogRows.outlineNode(getLong(lessonRecord + LESSON_ID), string(lessonRecord + LESSON_NAME),
+                        string(lessonRecord + LESSON_DESCRIPTION), getInt(lessonRecord + LESSON_ORDER_NUMBER)));
+            }
+            Map<String, Object> node = CatalogRows.outlineNode(getLong(chapterRecord + CHAPTER_ID),
+                    string(chapterRecord + CHAPTER_NAME), string(chapterRecord + CHAPTER_DESCRIPTION),
+                    getInt(chapterRecord + CHAPTER_ORDER_NUMBER));
+            node.put("lessons", lessons);
+            chapters.add(node);
+        }
+        Map<String, Object> outline = new LinkedHashMap<>();
+        outline.put("id", getLong(courseRecord + COURSE_ID));
+        outline.put("name", string(courseRecord + COURSE_NAME));
+        outline.put("description", string(courseRecord + COURSE_DESCRIPTION));
+        outline.put("chapters", chapters);
+        return Optional.of(outline);
+    }
+
+    @Override
+    public CourseStatsDTO getStats() {
+        return CourseStatsDTO.builder()
+                .courseCount(courseCount)
+                .chapterCount(chapterCount)
+                .lessonCount(lessonCount)
+                .build();
+    }
+
+    /**
+     * Decodes the whole snapshot into an {@link InMemoryCatalog}; lessons sharing a body share one string.
+     */
+    public InMemoryCatalog toInMemoryCatalog() {
+        InMemoryCatalog.Builder builder = InMemoryCatalog.builder(courseCount, chapterCount, lessonCount);
+        for (int position = 0; position < courseCount; position++) {
+            long record = courseRecord(position);
+            builder.addCourse(getLong(record + COURSE_ID), string(record + COURSE_NAME),
+                    string(record + COURSE_DESCRIPTION), time(record + COURSE_CREATED_AT),
+                    time(record + COURSE_UPDATED_AT));
+        }
+        for (int position = 0; position < chapterCount; position++) {
+            long record = chapterRecord(position);
+            builder.addChapter(getLong(record + CHAPTER_ID), getLong(record + CHAPTER_COURSE_ID),
+                    getInt(record + CHAPTER_ORDER_NUMBER), string(record + CHAPTER_NAME),
+                    string(record + CHAPTER_DESCRIPTION), time(record + CHAPTER_CREATED_AT),
+                    time(record + CHAPTER_UPDATED_AT));
+        }
+        Map<Long, String> bodies = new HashMap<>();
+        for (int position = 0; position < lessonCount; position++) {
+            long record = lessonRecord(position);
+            long content = getLong(record + LESSON_CONTENT);
+            builder.addLesson(getLong(record + LESSON_ID), getLong(record + LESSON_CHAPTER_ID),
+                    getInt(record + LESSON_ORDER_NUMBER), string(record + LESSON_NAME),
+                    string(record + LESSON_DESCRIPTION),
+                    content == NULL_REF ? null : bodies.computeIfAbsent(content, this::stringAt),
+                    time(record + LESSON_CREATED_AT), time(record + LESSON_UPDATED_AT));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "catalog snapshot " + path + " of " + createdAt + " (" + courseCount + " courses, "
+                + chapterCount + " chapters, " + lessonCount + " lessons)";
+    }
+
+    private CourseDTO course(int position) {
+        long record = courseRecord(position);
+        return CourseDTO.builder()
+                .id(getLong(record + COURSE_ID))
+                .name(string(record + COURSE_NAME))
+                .description(string(record + COURSE_DESCRIPTION))
+                .createdAt(time(record + COURSE_CREATED_AT))
+                .updatedAt(time(record + COURSE_UPDATED_AT))
+                .chapterCount((long) getInt(record + COURSE_CHAPTER_COUNT))
+                .lessonCount(getLong(record + COURSE_LESSON_COUNT))
+                .build();
+    }
+
+    private ChapterDTO chapter(int position) {
+        long record = chapterRecord(position);
+        return ChapterDTO.builder()
+                .id(getLong(record + CHAPTER_ID))
+                .name(string(record + CHAPTER_NAME))
+                .description(string(record + CHAPTER_DESCRIPTION))
+                .orderNumber(getInt(record + CHAPTER_ORDER_NUMBER))
+                .courseId(getLong(record + CHAPTER_COURSE_ID))
+                .createdAt(time(record + CHAPTER_CREATED_AT))
+                .updatedAt(time(record + CHAPTER_UPDATED_AT))
+                .lessonCount((long) getInt(record + CHAPTER_LESSON_COUNT))
+                .lessons(lessonsOf(position))
+                .build();
+    }
+
+    private List<LessonDTO> lessonsOf(int chapter) {
+        long record = chapterRecord(chapter);
+        int first = getInt(record + CHAPTER_FIRST_LESSON);
+        int count = getInt(record + CHAPTER_LESSON_COUNT);
+        List<LessonDTO> lessons = new ArrayList<>(count);
+        for (int position = first; position < first + count; position++) {
+            lessons.add(lesson(position));
+        }
+        return lessons;
+    }
+
+    private LessonDTO lesson(int position) {
+        long record = lessonRecord(position);
+        return LessonDTO.builder()
+                .id(getLong(record + LESSON_ID))
+                .name(string(record + LESSON_NAME))
+                .description(string(record + LESSON_DESCRIPTION))
+                .content(string(record + LESSON_CONTENT))
+                .orderNumber(getInt(record + LESSON_ORDER_NUMBER))
+                .chapterId(getLong(record + LESSON_CHAPTER_ID))
+                .createdAt(time(record + LESSON_CREATED_AT))
+                .updatedAt(time(record + LESSON_UPDATED_AT))
+                .build();
+    }
+
+    private int chapterPosition(long id) {
+        int entry = search(chapterIndex, INDEX_ENTRY_SIZE, chapterCount, id);
+        return entry < 0 ? entry : getInt(chapterIndex + (long) entry * INDEX_ENTRY_SIZE + INDEX_POSITION);
+    }
+
+    private int lessonPosition(long id) {
+        int entry = search(lessonIndex, INDEX_ENTRY_SIZE, lessonCount, id);
+        return entry < 0 ? entry : getInt(lessonIndex + (long) entry * INDEX_ENTRY_SIZE + INDEX_POSITION);
+    }
+
+    /**
+     * Binary search over {@code count} id-ordered entries of {@code width} bytes whose id is the first field.
+     */
+    private int search(long start, int width, int count, long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = getLong(start + (long) middle * width);
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private long courseRecord(int position) {
+        return courseTable + (long) position * RECORD_SIZE;
+    }
+
+    private long chapterRecord(int position) {
+        return chapterTable + (long) position * RECORD_SIZE;
+    }
+
+    private long lessonRecord(int position) {
+        return lessonTable + (long) position * RECORD_SIZE;
+    }
+
+    private long getLong(long address) {
+        return chunks[(int) (address >>> CHUNK_SHIFT)].getLong((int) (address & (CHUNK_SIZE - 1)));
+    }
+
+    private int getInt(long address) {
+        return chunks[(int) (address >>> CHUNK_SHIFT)].getInt((int) (address & (CHUNK_SIZE - 1)));
+    }
+
+    private LocalDateTime time(long address) {
+        return InMemoryCatalog.dateTime(getLong(address));
+    }
+
+    /**
+     * The string whose heap offset is stored at {@code address}.
+     */
+    private String string(long address) {
+        long offset = getLong(address);
+        return offset == NULL_REF ? null : stringAt(offset);
+    }
+
+    private String stringAt(long offset) {
+        ByteBuffer chunk = chunks[(int) (offset >>> CHUNK_SHIFT)];
+        int index = (int) (offset & (CHUNK_SIZE - 1));
+        byte[] bytes = new byte[chunk.getInt(index)];
+        chunk.get(index + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static <T> List<T> collect(Collection<Long> ids, IdToPosition positionOf, IntFunction<T> toDto) {
+        List<T> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            int position = id != null ? positionOf.position(id) : -1;
+            if (position >= 0) {
+                found.add(toDto.apply(position));
+            }
+        }
+        return found;
+    }
+
+    private interface IdToPosition {
+        int position(long id);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Refuses writes with 405 while the catalog is served from memory; the copy is never updated, so a write
+ * that reached the database would not be visible to any later read. Change stream subscriptions are refused
+ * with 503: the outbox relay does not run on such an instance, so the stream would never emit.
+ */
+public class ReadOnlyCatalogFilter extends OncePerRequestFilter {
+
+    private static final String ALLOWED_METHODS = "GET, HEAD, OPTIONS";
+    private static final String CHANGE_STREAM_PATH = "/api/changes/";
+
+    private final ObjectMapper objectMapper;
+
+    public ReadOnlyCatalogFilter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (request.getRequestURI().startsWith(request.getContextPath() + CHANGE_STREAM_PATH)) {
+            refuse(request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "This instance serves a read-only copy of the catalog and does not stream changes");
+            return;
+        }
+        String method = request.getMethod();
+        if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setHeader(HttpHeaders.ALLOW, ALLOWED_METHODS);
+        refuse(request, response, HttpStatus.METHOD_NOT_ALLOWED, "This instance serves a read-only copy of the catalog");
+    }
+
+    private void refuse(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
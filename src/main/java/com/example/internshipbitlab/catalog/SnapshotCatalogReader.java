@@ -0,0 +1,353 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.datasource.ReadYourWritesContext;
+import com.example.internshipbitlab.dto.ChangeEventDTO;
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import com.example.internshipbitlab.service.ChangeCursor;
+import com.example.internshipbitlab.service.ChangeEventService;
+import com.example.internshipbitlab.service.ChangeEventService.Change;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Answers reads from a mapped catalog snapshot while {@link CatalogSnapshotWarmup} fills the entity caches,
+ * and from the database reader before a snapshot is opened and after it is released. The snapshot only
+ * answers what it can answer correctly: ids it does not contain, requests pinned to the primary after a write,
+ * and everything of a course that changed since the snapshot was written are read from the database.
+ * Changes are taken from the outbox, starting at the cursor the export recorded and then as they commit.
+ */
+public class SnapshotCatalogReader implements CatalogReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotCatalogReader.class);
+
+    private static final int POLL_BATCH_SIZE = 500;
+
+    private final CatalogReader database;
+    private final ChangeEventService changeEventService;
+    private final Set<Long> changedCourses = ConcurrentHashMap.newKeySet();
+    private final Set<ChangedEntity> changedEntities = ConcurrentHashMap.newKeySet();
+    private volatile MappedCatalogSnapshot snapshot;
+    // Kept after release: a response may still be streaming metadata it answered
+    private volatile MappedCatalogSnapshot lastServed;
+    private ChangeCursor cursor;
+
+    public SnapshotCatalogReader(CatalogReader database, ChangeEventService changeEventService) {
+        this.database = database;
+        this.changeEventService = changeEventService;
+    }
+
+    /**
+     * Starts answering from {@code snapshot} once the changes committed after its export are known.
+     */
+    public synchronized void serveFrom(MappedCatalogSnapshot snapshot) {
+        changedCourses.clear();
+        changedEntities.clear();
+        cursor = snapshot.getChangeCursor();
+        catchUp();
+        logger.info("Serving catalog reads from {}, {} courses changed since", snapshot, changedCourses.size());
+        this.snapshot = snapshot;
+        this.lastServed = snapshot;
+    }
+
+    /**
+     * Hands reads back to the database, unless another snapshot has replaced {@code snapshot} in the meantime.
+     */
+    public synchronized void stopServing(MappedCatalogSnapshot snapshot) {
+        if (this.snapshot == snapshot) {
+            logger.info("Stopped serving catalog reads from {}", snapshot);
+            this.snapshot = null;
+            changedCourses.clear();
+            changedEntities.clear();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.changes.poll-interval-ms:500}")
+    public synchronized void pollChanges() {
+        if (snapshot != null) {
+            catchUp();
+        }
+    }
+
+    private void catchUp() {
+        List<Change> changes;
+        do {
+            changes = changeEventService.findAfter(cursor, null, POLL_BATCH_SIZE);
+            changes.forEach(this::forget);
+            if (!changes.isEmpty()) {
+                cursor = changes.get(changes.size() - 1).cursor();
+            }
+        } while (changes.size() == POLL_BATCH_SIZE);
+    }
+
+    private void forget(Change change) {
+        ChangeEventDTO event = change.event();
+        changedEntities.add(new ChangedEntity(event.getEntityType(), event.getEntityId()));
+        if (event.getCourseId() != null) {
+            changedCourses.add(event.getCourseId());
+        }
+    }
+
+    /**
+     * The snapshot to answer from, or null when the database has to: none is open or a write of this
+     * request has to be visible.
+     */
+    private MappedCatalogSnapshot usable() {
+        return ReadYourWritesContext.isPinnedToPrimary() ? null : snapshot;
+    }
+
+    private boolean isChanged(ChangeEntityType type, long id, OptionalLong courseId) {
+        return changedEntities.contains(new ChangedEntity(type, id))
+                || courseId.isEmpty() || changedCourses.contains(courseId.getAsLong());
+    }
+
+    private boolean isChanged(long courseId) {
+        return changedCourses.contains(courseId);
+    }
+
+    private boolean hasChanges() {
+        return !changedCourses.isEmpty() || !changedEntities.isEmpty();
+    }
+
+    @Override
+    public Optional<CourseDTO> findCourse(long id) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null || isChanged(id)) {
+            return database.findCourse(id);
+        }
+        return current.findCourse(id).or(() -> database.findCourse(id));
+    }
+
+    @Override
+    public List<CourseDTO> findAllCourses() {
+        MappedCatalogSnapshot current = usable();
+        return current == null || hasChanges() ? database.findAllCourses() : current.findAllCourses();
+    }
+
+    @Override
+    public List<CourseDTO> findCourses(Collection<Long> ids) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null) {
+            return database.findCourses(ids);
+        }
+        return merge(ids, current.findCourses(ids), CourseDTO::getId, course -> !isChanged(course.getId()),
+                database::findCourses);
+    }
+
+    @Override
+    public Optional<ChapterDTO> findChapter(long id) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null || isChanged(ChangeEntityType.CHAPTER, id, current.findCourseIdOfChapter(id))) {
+            return database.findChapter(id);
+        }
+        return current.findChapter(id);
+    }
+
+    @Override
+    public List<ChapterDTO> findChaptersByCourse(long courseId) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null || isChanged(courseId)) {
+            return database.findChaptersByCourse(courseId);
+        }
+        List<ChapterDTO> chapters = current.findChaptersByCourse(courseId);
+        return chapters.isEmpty() ? database.findChaptersByCourse(courseId) : chapters;
+    }
+
+    @Override
+    public List<ChapterDTO> findChapters(Collection<Long> ids) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null) {
+            return database.findChapters(ids);
+        }
+        return merge(ids, current.findChapters(ids), ChapterDTO::getId,
+                chapter -> !isChanged(ChangeEntityType.CHAPTER, chapter.getId(), OptionalLong.of(chapter.getCourseId())),
+                database::findChapters);
+    }
+
+    @Override
+    public List<ChapterDTO> findChaptersWithoutLessons(Collection<Long> ids) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null) {
+            return database.findChaptersWithoutLessons(ids);
+        }
+        return merge(ids, current.findChapters(ids), ChapterDTO::getId,
+                chapter -> !isChanged(ChangeEntityType.CHAPTER, chapter.getId(), OptionalLong.of(chapter.getCourseId())),
+                database::findChaptersWithoutLessons);
+    }
+
+    @Override
+    public List<ChapterDTO> findChaptersWithoutLessonsByCourses(Collection<Long> courseIds) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null) {
+            return database.findChaptersWithoutLessonsByCourses(courseIds);
+        }
+        List<ChapterDTO> chapters = new ArrayList<>();
+        List<Long> fromDatabase = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            List<ChapterDTO> fromSnapshot = isChanged(courseId) ? List.of() : current.findChaptersByCourse(courseId);
+            if (fromSnapshot.isEmpty()) {
+                fromDatabase.add(courseId);
+            }
+            chapters.addAll(fromSnapshot);
+        }
+        if (!fromDatabase.isEmpty()) {
+            chapters.addAll(database.findChaptersWithoutLessonsByCourses(fromDatabase));
+        }
+        return chapters;
+    }
+
+    @Override
+    public Optional<LessonDTO> findLesson(long id) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null || isChanged(ChangeEntityType.LESSON, id, current.findCourseIdOfLesson(id))) {
+            return database.findLesson(id);
+        }
+        return current.findLesson(id);
+    }
+
+    @Override
+    public List<LessonDTO> findLessonsByChapter(long chapterId) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null || isChanged(ChangeEntityType.CHAPTER, chapterId, current.findCourseIdOfChapter(chapterId))) {
+            return database.findLessonsByChapter(chapterId);
+        }
+        return current.findLessonsByChapter(chapterId);
+    }
+
+    @Override
+    public List<LessonDTO> findLessons(Collection<Long> ids) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null) {
+            return database.findLessons(ids);
+        }
+        return merge(ids, current.findLessons(ids), LessonDTO::getId,
+                lesson -> !isChanged(ChangeEntityType.LESSON, lesson.getId(), current.findCourseIdOfLesson(lesson.getId())),
+                database::findLessons);
+    }
+
+    @Override
+    public List<LessonDTO> findLessonsWithoutContentByChapters(Collection<Long> chapterIds,
+                                                               Collection<Long> courseIds) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null) {
+            return database.findLessonsWithoutContentByChapters(chapterIds, courseIds);
+        }
+        List<LessonDTO> lessons = new ArrayList<>();
+        List<Long> fromDatabase = new ArrayList<>();
+        for (Long chapterId : chapterIds) {
+            if (isChanged(ChangeEntityType.CHAPTER, chapterId, current.findCourseIdOfChapter(chapterId))) {
+                fromDatabase.add(chapterId);
+            } else {
+                lessons.addAll(current.findLessonsByChapter(chapterId));
+            }
+        }
+        if (!fromDatabase.isEmpty()) {
+            lessons.addAll(database.findLessonsWithoutContentByChapters(fromDatabase, courseIds));
+        }
+        return lessons;
+    }
+
+    @Override
+    public Map<Long, String> findContents(Collection<Long> lessonIds) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null) {
+            return database.findContents(lessonIds);
+        }
+        Map<Long, String> contents = new HashMap<>();
+        Set<Long> fromDatabase = new HashSet<>(lessonIds);
+        for (LessonDTO lesson : current.findLessons(lessonIds)) {
+            if (!isChanged(ChangeEntityType.LESSON, lesson.getId(), current.findCourseIdOfLesson(lesson.getId()))) {
+                fromDatabase.remove(lesson.getId());
+                if (lesson.getContent() != null) {
+                    contents.put(lesson.getId(), lesson.getContent());
+                }
+            }
+        }
+        if (!fromDatabase.isEmpty()) {
+            contents.putAll(database.findContents(fromDatabase));
+        }
+        return contents;
+    }
+
+    @Override
+    public Optional<LessonContentInfo> findContentInfo(long lessonId) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null || isChanged(ChangeEntityType.LESSON, lessonId, current.findCourseIdOfLesson(lessonId))) {
+            return database.findContentInfo(lessonId);
+        }
+        return current.findContentInfo(lessonId);
+    }
+
+    /**
+     * Metadata read from the database carries the content hash and is streamed from the database even if
+     * a snapshot is being served by now; snapshot metadata never has one and is streamed from the snapshot
+     * even if it has been released meanwhile, since the mapping outlives it.
+     */
+    @Override
+    public void writeContent(LessonContentInfo info, long offset, long length, OutputStream out) throws IOException {
+        MappedCatalogSnapshot current = lastServed;
+        if (info.getContentHash() != null || current == null) {
+            database.writeContent(info, offset, length, out);
+        } else {
+            current.writeContent(info, offset, length, out);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> findOutlineJson(long courseId) {
+        MappedCatalogSnapshot current = usable();
+        if (current == null || isChanged(courseId)) {
+            return database.findOutlineJson(courseId);
+        }
+        return current.findOutlineJson(courseId).or(() -> database.findOutlineJson(courseId));
+    }
+
+    @Override
+    public CourseStatsDTO getStats() {
+        MappedCatalogSnapshot current = usable();
+        return current == null || hasChanges() ? database.getStats() : current.getStats();
+    }
+
+    /**
+     * The snapshot's rows that are still current, plus the remaining ids read from the database.
+     */
+    private static <T> List<T> merge(Collection<Long> ids, List<T> fromSnapshot, Function<T, Long> idOf,
+                                     Predicate<T> isCurrent,
+                                     Function<Collection<Long>, List<T>> fromDatabase) {
+        List<T> rows = new ArrayList<>(ids.size());
+        Set<Long> missing = new HashSet<>(ids);
+        for (T row : fromSnapshot) {
+            if (isCurrent.test(row)) {
+                rows.add(row);
+                missing.remove(idOf.apply(row));
+            }
+        }
+        if (!missing.isEmpty()) {
+            rows.addAll(fromDatabase.apply(missing));
+        }
+        return rows;
+    }
+
+    private record ChangedEntity(ChangeEntityType type, long id) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.internshipbitlab.catalog;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+/**
+ * One-shot job that exports the catalog to a binary snapshot, see {@link CatalogSnapshotExporter}.
+ * Run it with {@code --export-snapshot} on the main jar or with {@code ./gradlew exportSnapshot}; the file
+ * is set with {@code app.catalog.snapshot.path}.
+ */
+@ImportAutoConfiguration(DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties(CatalogSnapshotProperties.class)
+@Import(CatalogSnapshotExporter.class)
+public class SnapshotExportApplication {
+
+    public static void main(String[] args) {
+        System.exit(export(args));
+    }
+
+    public static int export(String... args) {
+        SpringApplication application = new SpringApplication(SnapshotExportApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("snapshot");
+        ConfigurableApplicationContext context = application.run(args);
+        return SpringApplication.exit(context);
+    }
+}
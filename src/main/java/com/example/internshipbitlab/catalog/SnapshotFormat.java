@@ -0,0 +1,79 @@
+package com.example.internshipbitlab.catalog;
+
+/**
+ * Layout of a binary catalog snapshot, version 2. All numbers are big-endian.
+ * <pre>
+ * header        128 bytes: magic, version, creation time, row counts, section offsets and change cursor
+ * courses       64-byte records ordered by id
+ * chapters      64-byte records grouped by course in course order, sorted by order number
+ * lessons       64-byte records grouped by chapter in chapter order, sorted by order number
+ * chapter index 16-byte (id, position) entries ordered by id
+ * lesson index  16-byte (id, position) entries ordered by id
+ * heap          strings as a 4-byte UTF-8 length followed by the bytes; records hold their offsets
+ * </pre>
+ * The file is mapped in chunks of {@link #CHUNK_SIZE}; records are 64-byte aligned and heap strings are
+ * padded so that nothing crosses a chunk boundary. Timestamps are epoch microseconds. The change cursor is the
+ * outbox position the export read at: every change it does not contain comes after it.
+ */
+final class SnapshotFormat {
+
+    static final int MAGIC = 0x43415453; // "CATS"
+    static final int VERSION = 2;
+
+    static final int HEADER_SIZE = 128;
+    static final int RECORD_SIZE = 64;
+    static final int INDEX_ENTRY_SIZE = 16;
+    static final int CHUNK_SHIFT = 30;
+    static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    static final long NULL_REF = -1L;
+
+    static final int HEADER_MAGIC = 0;
+    static final int HEADER_VERSION = 4;
+    static final int HEADER_CREATED_AT = 8;
+    static final int HEADER_COURSES = 16;
+    static final int HEADER_CHAPTERS = 20;
+    static final int HEADER_LESSONS = 24;
+    static final int HEADER_COURSE_TABLE = 32;
+    static final int HEADER_CHAPTER_TABLE = 40;
+    static final int HEADER_LESSON_TABLE = 48;
+    static final int HEADER_CHAPTER_INDEX = 56;
+    static final int HEADER_LESSON_INDEX = 64;
+    static final int HEADER_HEAP = 72;
+    static final int HEADER_LENGTH = 80;
+    static final int HEADER_CHANGE_XACT_ID = 88;
+    static final int HEADER_CHANGE_ID = 96;
+
+    static final int COURSE_ID = 0;
+    static final int COURSE_NAME = 8;
+    static final int COURSE_DESCRIPTION = 16;
+    static final int COURSE_CREATED_AT = 24;
+    static final int COURSE_UPDATED_AT = 32;
+    static final int COURSE_FIRST_CHAPTER = 40;
+    static final int COURSE_CHAPTER_COUNT = 44;
+    static final int COURSE_LESSON_COUNT = 48;
+
+    static final int CHAPTER_ID = 0;
+    static final int CHAPTER_COURSE_ID = 8;
+    static final int CHAPTER_NAME = 16;
+    static final int CHAPTER_DESCRIPTION = 24;
+    static final int CHAPTER_CREATED_AT = 32;
+    static final int CHAPTER_UPDATED_AT = 40;
+    static final int CHAPTER_ORDER_NUMBER = 48;
+    static final int CHAPTER_FIRST_LESSON = 52;
+    static final int CHAPTER_LESSON_COUNT = 56;
+
+    static final int LESSON_ID = 0;
+    static final int LESSON_CHAPTER_ID = 8;
+    static final int LESSON_NAME = 16;
+    static final int LESSON_DESCRIPTION = 24;
+    static final int LESSON_CONTENT = 32;
+    static final int LESSON_CREATED_AT = 40;
+    static final int LESSON_UPDATED_AT = 48;
+    static final int LESSON_ORDER_NUMBER = 56;
+
+    static final int INDEX_ID = 0;
+    static final int INDEX_POSITION = 8;
+
+    private SnapshotFormat() {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.internshipbitlab.config;
+
+/**
+ * Hibernate second-level cache region names, sized in {@code hibernate-cache.conf}.
+ */
+public final class CacheRegions {
+    public static final String COURSE = "course";
+    public static final String CHAPTER = "chapter";
+    public static final String LESSON = "lesson";
+    public static final String CONTENT_BLOB = "content-blob";
+    public static final String COURSE_CHAPTERS = "course-chapters";
+    public static final String CHAPTER_LESSONS = "chapter-lessons";
+    public static final String CHAPTERS_BY_COURSE = "chapters-by-course";
+    public static final String LESSONS_BY_CHAPTER = "lessons-by-chapter";
+
+    private CacheRegions() {
+    }
+}
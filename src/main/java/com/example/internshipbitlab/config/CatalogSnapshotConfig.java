@@ -0,0 +1,47 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.catalog.CatalogSnapshotProperties;
+import com.example.internshipbitlab.catalog.CatalogSnapshotWarmup;
+import com.example.internshipbitlab.catalog.SnapshotCatalogReader;
+import com.example.internshipbitlab.repository.ChapterRepository;
+import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
+import com.example.internshipbitlab.service.ChangeEventService;
+import com.example.internshipbitlab.service.DatabaseCatalogReader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Warm start from a catalog snapshot ({@code app.catalog.snapshot.path}): the services read through a
+ * {@link SnapshotCatalogReader} that answers from the mapped file until the entity caches are filled.
+ * In memory mode the snapshot is loaded by {@link MemoryCatalogConfig} instead.
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "app.catalog.snapshot", name = "path")
+public class CatalogSnapshotConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.catalog", name = "mode", havingValue = "database", matchIfMissing = true)
+    public SnapshotCatalogReader snapshotCatalogReader(DatabaseCatalogReader databaseCatalogReader,
+                                                       ChangeEventService changeEventService) {
+        return new SnapshotCatalogReader(databaseCatalogReader, changeEventService);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.catalog", name = "mode", havingValue = "database", matchIfMissing = true)
+    public CatalogSnapshotWarmup catalogSnapshotWarmup(CatalogSnapshotProperties properties,
+                                                       SnapshotCatalogReader snapshotCatalogReader,
+                                                       CourseRepository courseRepository,
+                                                       ChapterRepository chapterRepository,
+                                                       LessonRepository lessonRepository,
+                                                       PlatformTransactionManager transactionManager) {
+        return new CatalogSnapshotWarmup(properties, snapshotCatalogReader, courseRepository, chapterRepository,
+                lessonRepository, transactionManager);
+    }
+}
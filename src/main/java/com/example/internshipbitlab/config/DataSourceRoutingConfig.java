@@ -0,0 +1,90 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.datasource.ReadWriteRoutingDataSource;
+import com.example.internshipbitlab.datasource.ReplicaCacheModeJpaDialect;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to replica pools and everything else to the primary.
+ * The routing datasource is wrapped in a {@link LazyConnectionDataSourceProxy} so the physical connection
+ * is only chosen on the first statement, after the transaction's read-only flag is known. Transactions that
+ * may read from a replica do not fill the Hibernate caches (see {@link ReplicaCacheModeJpaDialect}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 DataSourceProperties dataSourceProperties,
+                                                                 DataSourceRoutingProperties routingProperties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> configured = routingProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername());
+            dataSource.setPassword(replica.getPassword());
+            dataSource.setDriverClassName(dataSourceProperties.getDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+        logger.info("Routing read-only transactions to {} replica(s)", replicas.size());
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    /**
+     * Set on the entity manager factory before it initializes, so the JPA transaction manager picks it up too.
+     */
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialect() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean factory) {
+                    factory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
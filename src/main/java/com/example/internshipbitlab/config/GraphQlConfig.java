@@ -0,0 +1,40 @@
+package com.example.internshipbitlab.config;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+@Configuration
+public class GraphQlConfig {
+
+    private static final Set<String> LIST_FIELDS = Set.of("courses", "chapters", "lessons");
+
+    @Value("${app.graphql.max-depth:8}")
+    private int maxDepth;
+
+    @Value("${app.graphql.max-complexity:5000}")
+    private int maxComplexity;
+
+    @Value("${app.graphql.list-fan-out:10}")
+    private int listFanOut;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation() {
+        // List fields multiply the cost of their selection by the assumed number of children
+        FieldComplexityCalculator calculator = (environment, childComplexity) ->
+                LIST_FIELDS.contains(environment.getField().getName())
+                        ? 1 + childComplexity * listFanOut
+                        : 1 + childComplexity;
+        return new MaxQueryComplexityInstrumentation(maxComplexity, calculator);
+    }
+}
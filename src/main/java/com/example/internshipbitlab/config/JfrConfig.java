@@ -0,0 +1,42 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.jfr.CollectionInitializationRecorder;
+import com.example.internshipbitlab.jfr.JfrAspect;
+import com.example.internshipbitlab.jfr.JfrRequestFilter;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Custom Flight Recorder events for requests, transactional service methods, mapper calls and lazy collection
+ * loads. They cost next to nothing until a recording enables them; recordings are managed through
+ * {@code /api/admin/jfr/recordings} or started with the JVM ({@code -XX:StartFlightRecording}).
+ */
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+@ConditionalOnProperty(prefix = "app.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    @Bean
+    public JfrAspect jfrAspect() {
+        return new JfrAspect();
+    }
+
+    @Bean
+    public CollectionInitializationRecorder collectionInitializationRecorder(EntityManagerFactory entityManagerFactory) {
+        return new CollectionInitializationRecorder(entityManagerFactory);
+    }
+
+    @Bean
+    public FilterRegistrationBean<JfrRequestFilter> jfrRequestFilter() {
+        FilterRegistrationBean<JfrRequestFilter> registration = new FilterRegistrationBean<>(new JfrRequestFilter());
+        registration.addUrlPatterns("/api/*", "/graphql");
+        // Right after the tracing filter, so the event covers security and load shedding
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
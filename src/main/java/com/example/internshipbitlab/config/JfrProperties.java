@@ -0,0 +1,26 @@
+package com.example.internshipbitlab.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.jfr")
+public class JfrProperties {
+    private boolean enabled = true;
+    private String settings = "default";
+    private Path dumpDirectory = Path.of("logs/jfr");
+    private Duration maxAge = Duration.ofHours(1);
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+    private boolean continuous = false;
+    // Recordings started through the service that may run at the same time
+    private int maxRecordings = 2;
+    // Dump files older than this are deleted, and only the newest maxDumps are kept
+    private Duration dumpRetention = Duration.ofDays(7);
+    private int maxDumps = 20;
+}
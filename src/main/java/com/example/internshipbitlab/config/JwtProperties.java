@@ -0,0 +1,20 @@
+package com.example.internshipbitlab.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.jwt")
+public class JwtProperties {
+    private String jwkSetLocation;
+    private String jwkSetUri;
+    private String issuer;
+    private Duration jwkSetCacheTtl = Duration.ofMinutes(15);
+    private Duration jwkSetRefreshTimeout = Duration.ofSeconds(5);
+    private int tokenCacheSize = 10_000;
+    private String adminAuthority = "SCOPE_admin";
+}
@@ -0,0 +1,55 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.loadshedding.AdaptiveConcurrencyLimiter;
+import com.example.internshipbitlab.loadshedding.LoadSheddingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+@ConditionalOnProperty(prefix = "app.load-shedding", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadSheddingConfig.class);
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(
+            LoadSheddingProperties properties,
+            ObjectMapper objectMapper,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        LoadSheddingFilter filter = new LoadSheddingFilter(
+                limiter("lookup", properties.getLookup(), properties.getProbeInterval(), poolSize),
+                limiter("heavy-read", properties.getHeavyRead(), properties.getProbeInterval(), poolSize),
+                limiter("write", properties.getWrite(), properties.getProbeInterval(), poolSize),
+                properties.getRetryAfter(),
+                objectMapper);
+
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/courses/*", "/api/chapters/*", "/api/lessons/*", "/graphql");
+        // Shed before token validation so rejected requests cost as little as possible
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    /**
+     * Permits beyond the connection pool size would only move the queue into the pool instead of shedding it.
+     */
+    private AdaptiveConcurrencyLimiter limiter(String name, LoadSheddingProperties.Limit limit, int probeInterval,
+                                               int poolSize) {
+        int maxLimit = limit.getMaxLimit();
+        if (maxLimit > poolSize) {
+            logger.warn("Capping the {} concurrency limit {} at the connection pool size {}", name, maxLimit, poolSize);
+            maxLimit = poolSize;
+        }
+        return new AdaptiveConcurrencyLimiter(name, limit.getInitialLimit(), Math.min(limit.getMinLimit(), maxLimit),
+                maxLimit, probeInterval);
+    }
+}
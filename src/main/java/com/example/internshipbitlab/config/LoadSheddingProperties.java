@@ -0,0 +1,36 @@
+package com.example.internshipbitlab.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.load-shedding")
+public class LoadSheddingProperties {
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private int probeInterval = 1000;
+    private Limit lookup = new Limit(8, 2, 10);
+    private Limit heavyRead = new Limit(2, 1, 4);
+    private Limit write = new Limit(2, 1, 4);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.catalog.CatalogLoader;
+import com.example.internshipbitlab.catalog.CatalogSnapshotProperties;
+import com.example.internshipbitlab.catalog.InMemoryCatalog;
+import com.example.internshipbitlab.catalog.MappedCatalogSnapshot;
+import com.example.internshipbitlab.catalog.ReadOnlyCatalogFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Read-only serving mode ({@code app.catalog.mode=memory}): the catalog is loaded into memory once at startup,
+ * from {@code app.catalog.snapshot.path} when that file exists and from the database otherwise, and it replaces
+ * the database reader as the services' primary {@code CatalogReader}, so reads never take a connection.
+ * Writes to the course API are refused and the scheduled database jobs are not started (see {@link SchedulingConfig}),
+ * so change stream subscriptions are refused as well.
+ */
+@Configuration
+@EnableConfigurationProperties(CatalogSnapshotProperties.class)
+@ConditionalOnProperty(prefix = "app.catalog", name = "mode", havingValue = "memory")
+public class MemoryCatalogConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemoryCatalogConfig.class);
+
+    @Bean
+    @Primary
+    public InMemoryCatalog inMemoryCatalog(DataSource dataSource,
+                                           CatalogSnapshotProperties snapshotProperties) throws IOException {
+        Path snapshot = snapshotProperties.getPath();
+        InMemoryCatalog catalog;
+        if (snapshot != null && Files.isRegularFile(snapshot)) {
+            // Loading from an exported snapshot needs no database at all
+            catalog = MappedCatalogSnapshot.open(snapshot).toInMemoryCatalog();
+            logger.info("Loaded {} from snapshot {}", catalog, snapshot);
+        } else {
+            catalog = new CatalogLoader(dataSource).load();
+        }
+        logger.info("Serving catalog reads from {}", catalog);
+        return catalog;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadOnlyCatalogFilter> readOnlyCatalogFilter(ObjectMapper objectMapper) {
+        FilterRegistrationBean<ReadOnlyCatalogFilter> registration =
+                new FilterRegistrationBean<>(new ReadOnlyCatalogFilter(objectMapper));
+        registration.addUrlPatterns("/api/courses/*", "/api/chapters/*", "/api/lessons/*", "/api/changes/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 20);
+        return registration;
+    }
+
+    /**
+     * Some read paths outside the catalog reader are still {@code @Transactional}; without connection preparation
+     * (and with {@code provider_disables_autocommit}) such a transaction only takes a connection once it
+     * runs a statement, which never happens while reads are served from memory.
+     */
+    @Bean
+    public static BeanPostProcessor lazyTransactionConnections() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HibernateJpaVendorAdapter adapter) {
+                    adapter.setPrepareConnection(false);
+                }
+                return bean;
+            }
+        };
+    }
+}
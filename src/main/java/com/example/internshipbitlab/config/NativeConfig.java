@@ -0,0 +1,9 @@
+package com.example.internshipbitlab.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.class)
+public class NativeConfig {
+}
@@ -0,0 +1,62 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.ErrorResponse;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.model.Chapter;
+import com.example.internshipbitlab.model.ContentBlob;
+import com.example.internshipbitlab.model.Course;
+import com.example.internshipbitlab.model.Lesson;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image that Spring AOT cannot infer on its own:
+ * DTOs and their Lombok builders (Jackson and MapStruct), entities, query projections
+ * and the Liquibase changelogs.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> DTO_TYPES = List.of(
+            CourseDTO.class, CourseDTO.CourseDTOBuilder.class,
+            ChapterDTO.class, ChapterDTO.ChapterDTOBuilder.class,
+            LessonDTO.class, LessonDTO.LessonDTOBuilder.class,
+            ErrorResponse.class);
+
+    private static final List<Class<?>> ENTITY_TYPES = List.of(
+            Course.class, Chapter.class, Lesson.class, ContentBlob.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        MemberCategory[] categories = {
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS
+        };
+        DTO_TYPES.forEach(type -> hints.reflection().registerType(type, categories));
+        ENTITY_TYPES.forEach(type -> hints.reflection().registerType(type, categories));
+
+        hints.proxies().registerJdkProxy(LessonContentInfo.class, TargetAware.class,
+                SpringProxy.class, DecoratingProxy.class);
+        // JDBC wrappers of the tracing datasource
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.proxies().registerJdkProxy(Statement.class);
+        hints.proxies().registerJdkProxy(PreparedStatement.class);
+        hints.proxies().registerJdkProxy(CallableStatement.class);
+
+        hints.resources().registerPattern("db/changelog/*.yaml");
+        hints.resources().registerPattern("application*.properties");
+    }
+}
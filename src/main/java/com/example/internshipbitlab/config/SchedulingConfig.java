@@ -0,0 +1,13 @@
+package com.example.internshipbitlab.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// The background jobs all work on the database, which a read-only in-memory instance does not use;
+// without the outbox relay such an instance refuses change stream subscriptions (see ReadOnlyCatalogFilter)
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "app.catalog", name = "mode", havingValue = "database", matchIfMissing = true)
+public class SchedulingConfig {
+}
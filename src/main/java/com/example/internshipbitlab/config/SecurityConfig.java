@@ -0,0 +1,119 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.security.CachingJwtDecoder;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.text.ParseException;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(JwtProperties.class)
+public class SecurityConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
+    private static final String[] PUBLIC_PATHS = {
+            "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**"
+    };
+    private static final String ADMIN_PATHS = "/api/admin/**";
+
+    private final JwtProperties jwtProperties;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${app.security.enabled:true}")
+    private boolean securityEnabled;
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http.csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        if (!securityEnabled) {
+            logger.warn("Security is disabled, all endpoints are publicly accessible");
+            http.authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+            return http.build();
+        }
+
+        http.authorizeHttpRequests(auth -> auth
+                        .requestMatchers(PUBLIC_PATHS).permitAll()
+                        .requestMatchers(ADMIN_PATHS).hasAuthority(jwtProperties.getAdminAuthority())
+                        .anyRequest().authenticated())
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()));
+        return http.build();
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder() {
+        ConfigurableJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource()));
+        // Claims are checked by the Spring validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(StringUtils.hasText(jwtProperties.getIssuer())
+                ? JwtValidators.createDefaultWithIssuer(jwtProperties.getIssuer())
+                : JwtValidators.createDefault());
+
+        return new CachingJwtDecoder(decoder, jwtProperties.getTokenCacheSize());
+    }
+
+    private JWKSource<SecurityContext> jwkSource() {
+        String location = jwtProperties.getJwkSetLocation();
+        if (StringUtils.hasText(location)) {
+            logger.info("Loading JWKS from {}", location);
+            Resource resource = resourceLoader.getResource(location);
+            try (InputStream in = resource.getInputStream()) {
+                return new ImmutableJWKSet<>(JWKSet.load(in));
+            } catch (IOException | ParseException e) {
+                throw new IllegalStateException("Failed to load JWKS from " + location, e);
+            }
+        }
+
+        String uri = jwtProperties.getJwkSetUri();
+        if (!StringUtils.hasText(uri)) {
+            throw new IllegalStateException(
+                    "Either app.security.jwt.jwk-set-location or app.security.jwt.jwk-set-uri must be set");
+        }
+        logger.info("JWKS will be fetched lazily from {}", uri);
+        try {
+            return JWKSourceBuilder.<SecurityContext>create(URI.create(uri).toURL())
+                    .cache(jwtProperties.getJwkSetCacheTtl().toMillis(),
+                            jwtProperties.getJwkSetRefreshTimeout().toMillis())
+                    // Refetched on a background thread before the TTL runs out, so no request waits on Keycloak
+                    .refreshAheadCache(true)
+                    .build();
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid JWKS uri " + uri, e);
+        }
+    }
+}
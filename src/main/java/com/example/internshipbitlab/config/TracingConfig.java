@@ -0,0 +1,111 @@
+package com.example.internshipbitlab.config;
+
+import com.example.internshipbitlab.tracing.JsonLinesSpanExporter;
+import com.example.internshipbitlab.tracing.TailSamplingSpanProcessor;
+import com.example.internshipbitlab.tracing.TracingAspect;
+import com.example.internshipbitlab.tracing.TracingDataSource;
+import com.example.internshipbitlab.tracing.TracingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * OpenTelemetry tracing: a server span per request with spans for controllers, services, repositories,
+ * mappers and JDBC statements below it. Spans are sampled by trace id ratio at the head and, optionally,
+ * by latency and errors once the trace has finished; {@code app.tracing.exporter} sends the kept ones to a
+ * JSON-lines file, an OTLP/HTTP collector, or nowhere (trace ids still reach the logs).
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+@ConditionalOnProperty(prefix = "app.tracing", name = "enabled", havingValue = "true")
+public class TracingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(TracingConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public SdkTracerProvider sdkTracerProvider(TracingProperties properties, ObjectMapper objectMapper)
+            throws IOException {
+        TracingProperties.Sampling sampling = properties.getSampling();
+        SdkTracerProviderBuilder builder = SdkTracerProvider.builder()
+                .setResource(Resource.getDefault().merge(Resource.create(
+                        Attributes.of(AttributeKey.stringKey("service.name"), properties.getServiceName()))))
+                .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(sampling.getRatio())));
+
+        SpanExporter exporter = switch (properties.getExporter()) {
+            case NONE -> null;
+            case FILE -> new JsonLinesSpanExporter(properties.getFile(), objectMapper);
+            case OTLP -> OtlpHttpSpanExporter.builder().setEndpoint(properties.getOtlpEndpoint()).build();
+        };
+        if (exporter != null) {
+            SpanProcessor processor = BatchSpanProcessor.builder(exporter).build();
+            TracingProperties.Tail tail = sampling.getTail();
+            if (tail.isEnabled()) {
+                processor = new TailSamplingSpanProcessor(processor, tail.getLatencyThreshold(),
+                        tail.getKeepRatio(), tail.getMaxTraces());
+            }
+            builder.addSpanProcessor(processor);
+        }
+        logger.info("Tracing with {} exporter, head sampling ratio {}, tail sampling {}", properties.getExporter(),
+                sampling.getRatio(), sampling.getTail().isEnabled() ? "on" : "off");
+        return builder.build();
+    }
+
+    @Bean
+    public Tracer tracer(SdkTracerProvider sdkTracerProvider) {
+        return sdkTracerProvider.get("com.example.internshipbitlab");
+    }
+
+    @Bean
+    public TracingAspect tracingAspect(Tracer tracer) {
+        return new TracingAspect(tracer);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(tracer));
+        // First of all filters, so the server span covers security and load shedding too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Wraps the application datasource, including the read/write routing proxy when that is enabled,
+     * so statements from JPA and the JdbcTemplate jobs alike are traced.
+     */
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor(ObjectProvider<Tracer> tracer,
+                                                                   ObjectProvider<TracingProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return new TracingDataSource(dataSource, tracer.getObject(),
+                            properties.getObject().getMaxStatementLength());
+                }
+                return bean;
+            }
+        };
+    }
+}
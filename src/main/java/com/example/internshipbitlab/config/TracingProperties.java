@@ -0,0 +1,44 @@
+package com.example.internshipbitlab.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tracing")
+public class TracingProperties {
+    private boolean enabled = false;
+    private String serviceName = "internship-bitlab";
+    private Exporter exporter = Exporter.NONE;
+    private Path file = Path.of("logs/traces.jsonl");
+    private String otlpEndpoint = "http://localhost:4318/v1/traces";
+    private int maxStatementLength = 1000;
+    private Sampling sampling = new Sampling();
+
+    public enum Exporter {
+        NONE, FILE, OTLP
+    }
+
+    @Getter
+    @Setter
+    public static class Sampling {
+        /**
+         * Head sampling: share of new traces that are recorded; incoming sampled traces are always followed.
+         */
+        private double ratio = 0.05;
+        private Tail tail = new Tail();
+    }
+
+    @Getter
+    @Setter
+    public static class Tail {
+        private boolean enabled = false;
+        private Duration latencyThreshold = Duration.ofMillis(500);
+        private double keepRatio = 0.0;
+        private int maxTraces = 10_000;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.internshipbitlab.controller;
+
+import com.example.internshipbitlab.dto.CacheRegionStatsDTO;
+import com.example.internshipbitlab.service.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache Administration", description = "API endpoints for inspecting the second-level cache")
+public class CacheController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheController.class);
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Operation(summary = "Get cache region statistics",
+            description = "Returns hit, miss and put counts for every second-level and query cache region")
+    @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CacheRegionStatsDTO.class)))
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getCacheStatistics() {
+        logger.info("Received request to get cache statistics");
+        List<CacheRegionStatsDTO> statistics = cacheStatisticsService.getRegionStatistics();
+        logger.debug("Returning statistics for {} regions", statistics.size());
+        return ResponseEntity.ok(statistics);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.internshipbitlab.controller;
+
+import com.example.internshipbitlab.dto.ChangeEventDTO;
+import com.example.internshipbitlab.service.ChangeStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Change Stream", description = "API endpoints for subscribing to course, chapter and lesson changes")
+public class ChangeStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamController.class);
+    private final ChangeStreamService changeStreamService;
+
+    @Operation(summary = "Stream changes",
+            description = "Server-Sent Events stream of created, updated and deleted courses, chapters and lessons. " +
+                    "Reconnect with Last-Event-ID to resume without gaps; if that event is no longer retained " +
+                    "the stream starts with a RESYNC event and continues from the current position.")
+    @ApiResponse(responseCode = "200", description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = ChangeEventDTO.class)))
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @Parameter(description = "Only stream changes of this course", example = "1")
+            @RequestParam(required = false) Long courseId,
+            @Parameter(description = "ID of the last event received, replays everything after it")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.info("Received request to stream changes for course {} after event {}", courseId, lastEventId);
+        return changeStreamService.subscribe(courseId, lastEventId);
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.internshipbitlab.controller;
 
 import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
+import com.example.internshipbitlab.dto.OrderPositionDTO;
+import com.example.internshipbitlab.dto.ReorderRequestDTO;
 import com.example.internshipbitlab.service.ChapterService;
+import com.example.internshipbitlab.service.ReorderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -27,6 +31,24 @@ public class ChapterController {
 
     private static final Logger logger = LoggerFactory.getLogger(ChapterController.class);
     private final ChapterService chapterService;
+    private final ReorderService reorderService;
+
+    @Operation(summary = "Get chapters by IDs",
+            description = "Returns the requested chapters in one lookup and lists the IDs that were not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chapters retrieved, missing IDs reported in notFound"),
+            @ApiResponse(responseCode = "400", description = "No IDs or more IDs than allowed",
+                    content = @Content)
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponseDTO<ChapterDTO>> getChaptersByIds(
+            @Parameter(description = "Comma-separated chapter IDs", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids) {
+        logger.info("Received request to get {} chapters by ID", ids.size());
+        MultiGetResponseDTO<ChapterDTO> result = chapterService.findAllByIds(ids);
+        logger.debug("Returning {} chapters, {} not found", result.getItems().size(), result.getNotFound().size());
+        return ResponseEntity.ok(result);
+    }
 
     @Operation(summary = "Get chapter by ID", description = "Returns a single chapter by its ID")
     @ApiResponses(value = {
@@ -80,6 +102,28 @@ public class ChapterController {
         return new ResponseEntity<>(createdChapter, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Reorder lessons of a chapter",
+            description = "Applies a new lesson order in one statement and returns the resulting order numbers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lessons reordered successfully",
+                    content = @Content(schema = @Schema(implementation = OrderPositionDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Order does not list each lesson of the chapter exactly once",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Chapter not found",
+                    content = @Content)
+    })
+    @PostMapping("/{id}/lessons/reorder")
+    public ResponseEntity<List<OrderPositionDTO>> reorderLessons(
+            @Parameter(description = "ID of chapter whose lessons are reordered", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Lesson IDs in their new order", required = true)
+            @Valid @RequestBody ReorderRequestDTO reorderRequest) {
+        logger.info("Received request to reorder lessons of chapter ID: {}", id);
+        List<OrderPositionDTO> positions = reorderService.reorderLessons(id, reorderRequest.getOrderedIds());
+        logger.debug("Returning {} lesson positions", positions.size());
+        return ResponseEntity.ok(positions);
+    }
+
     @Operation(summary = "Update chapter", description = "Updates an existing chapter")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Chapter updated successfully",
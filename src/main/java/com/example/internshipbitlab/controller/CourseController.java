@@ -1,7 +1,15 @@
 package com.example.internshipbitlab.controller;
 
+import com.example.internshipbitlab.dto.CloneCourseRequestDTO;
 import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
+import com.example.internshipbitlab.dto.OrderPositionDTO;
+import com.example.internshipbitlab.dto.ReorderRequestDTO;
+import com.example.internshipbitlab.service.CourseCloneService;
+import com.example.internshipbitlab.service.CourseOutlineService;
 import com.example.internshipbitlab.service.CourseService;
+import com.example.internshipbitlab.service.ReorderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,6 +21,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -28,6 +37,9 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseOutlineService courseOutlineService;
+    private final ReorderService reorderService;
+    private final CourseCloneService courseCloneService;
 
     @Operation(summary = "Get all courses", description = "Returns list of all available courses")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved courses",
@@ -40,6 +52,36 @@ public class CourseController {
         return ResponseEntity.ok(courses);
     }
 
+    @Operation(summary = "Get catalog statistics",
+            description = "Returns the number of courses, chapters and lessons without loading them")
+    @ApiResponse(responseCode = "200", description = "Statistics computed",
+            content = @Content(schema = @Schema(implementation = CourseStatsDTO.class)))
+    @GetMapping("/stats")
+    public ResponseEntity<CourseStatsDTO> getCourseStats() {
+        log.info("Received request to get course statistics");
+        CourseStatsDTO stats = courseService.getStats();
+        log.debug("Returning statistics: {} courses, {} chapters, {} lessons",
+                stats.getCourseCount(), stats.getChapterCount(), stats.getLessonCount());
+        return ResponseEntity.ok(stats);
+    }
+
+    @Operation(summary = "Get courses by IDs",
+            description = "Returns the requested courses in one lookup and lists the IDs that were not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courses retrieved, missing IDs reported in notFound"),
+            @ApiResponse(responseCode = "400", description = "No IDs or more IDs than allowed",
+                    content = @Content)
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponseDTO<CourseDTO>> getCoursesByIds(
+            @Parameter(description = "Comma-separated course IDs", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids) {
+        log.info("Received request to get {} courses by ID", ids.size());
+        MultiGetResponseDTO<CourseDTO> result = courseService.findAllByIds(ids);
+        log.debug("Returning {} courses, {} not found", result.getItems().size(), result.getNotFound().size());
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Get course by ID", description = "Returns a single course by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Course found",
@@ -57,6 +99,25 @@ public class CourseController {
         return ResponseEntity.ok(course);
     }
 
+    @Operation(summary = "Get course outline",
+            description = "Returns the pre-assembled course outline with chapters and lesson summaries")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Outline found"),
+            @ApiResponse(responseCode = "404", description = "Course not found",
+                    content = @Content)
+    })
+    @GetMapping(value = "/{id}/outline", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCourseOutline(
+            @Parameter(description = "ID of course whose outline is retrieved", required = true, example = "1")
+            @PathVariable Long id) {
+        log.info("Received request to get outline of course ID: {}", id);
+        byte[] outline = courseOutlineService.findOutlineJson(id);
+        log.debug("Returning outline of {} bytes for course ID {}", outline.length, id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outline);
+    }
+
     @Operation(summary = "Create new course", description = "Creates a new course")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Course created successfully",
@@ -75,6 +136,50 @@ public class CourseController {
         return new ResponseEntity<>(createdCourse, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Clone course",
+            description = "Copies the course with all its chapters and lessons on the database side and returns the copy with the number of chapters and lessons copied")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Course cloned successfully",
+                    content = @Content(schema = @Schema(implementation = CourseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Course not found",
+                    content = @Content)
+    })
+    @PostMapping("/{id}/clone")
+    public ResponseEntity<CourseDTO> cloneCourse(
+            @Parameter(description = "ID of course to be cloned", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Optional body with the name of the copy, defaults to the original name with a (copy) suffix")
+            @Valid @RequestBody(required = false) CloneCourseRequestDTO cloneRequest) {
+        log.info("Received request to clone course with ID: {}", id);
+        CourseDTO clone = courseCloneService.cloneCourse(id, cloneRequest != null ? cloneRequest.getName() : null);
+        log.info("Course with ID {} cloned as course {}", id, clone.getId());
+        return new ResponseEntity<>(clone, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Reorder chapters of a course",
+            description = "Applies a new chapter order in one statement and returns the resulting order numbers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chapters reordered successfully",
+                    content = @Content(schema = @Schema(implementation = OrderPositionDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Order does not list each chapter of the course exactly once",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Course not found",
+                    content = @Content)
+    })
+    @PostMapping("/{id}/chapters/reorder")
+    public ResponseEntity<List<OrderPositionDTO>> reorderChapters(
+            @Parameter(description = "ID of course whose chapters are reordered", required = true, example = "1")
+            @PathVariable Long id,
+            @Parameter(description = "Chapter IDs in their new order", required = true)
+            @Valid @RequestBody ReorderRequestDTO reorderRequest) {
+        log.info("Received request to reorder chapters of course ID: {}", id);
+        List<OrderPositionDTO> positions = reorderService.reorderChapters(id, reorderRequest.getOrderedIds());
+        log.debug("Returning {} chapter positions", positions.size());
+        return ResponseEntity.ok(positions);
+    }
+
     @Operation(summary = "Update course", description = "Updates an existing course")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Course updated successfully",
@@ -0,0 +1,105 @@
+package com.example.internshipbitlab.controller;
+
+import com.example.internshipbitlab.dto.RecordingDTO;
+import com.example.internshipbitlab.service.FlightRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/jfr/recordings")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Flight Recorder", description = "API endpoints for starting, stopping and dumping JFR recordings")
+public class FlightRecordingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingController.class);
+    private final FlightRecordingService flightRecordingService;
+
+    @Operation(summary = "List recordings", description = "Returns every recording of this JVM, including ones started on the command line")
+    @ApiResponse(responseCode = "200", description = "Recordings retrieved successfully")
+    @GetMapping
+    public ResponseEntity<List<RecordingDTO>> getRecordings() {
+        logger.info("Received request to list JFR recordings");
+        return ResponseEntity.ok(flightRecordingService.findAll());
+    }
+
+    @Operation(summary = "Start a recording", description = "Starts a disk-backed recording with the configured settings, including the application events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Recording started",
+                    content = @Content(schema = @Schema(implementation = RecordingDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Too many recordings are open")
+    })
+    @PostMapping
+    public ResponseEntity<RecordingDTO> startRecording(
+            @Parameter(description = "Name of the recording, also used for its dump files")
+            @RequestParam(required = false) String name) {
+        logger.info("Received request to start JFR recording {}", name);
+        RecordingDTO recording = flightRecordingService.start(name);
+        return new ResponseEntity<>(recording, HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Stop a recording", description = "Stops a running recording started through this API; its data can still be dumped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording stopped"),
+            @ApiResponse(responseCode = "400", description = "Recording is not running or was not started through this API"),
+            @ApiResponse(responseCode = "404", description = "Recording not found")
+    })
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<RecordingDTO> stopRecording(
+            @Parameter(description = "ID of the recording", required = true, example = "1")
+            @PathVariable Long id) {
+        logger.info("Received request to stop JFR recording {}", id);
+        return ResponseEntity.ok(flightRecordingService.stop(id));
+    }
+
+    @Operation(summary = "Dump a recording", description = "Writes the recorded data to a .jfr file in the dump directory on the server")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording dumped, the response names the file"),
+            @ApiResponse(responseCode = "400", description = "Recording has no data yet or was closed"),
+            @ApiResponse(responseCode = "404", description = "Recording not found")
+    })
+    @PostMapping("/{id}/dump")
+    public ResponseEntity<RecordingDTO> dumpRecording(
+            @Parameter(description = "ID of the recording", required = true, example = "1")
+            @PathVariable Long id) {
+        logger.info("Received request to dump JFR recording {}", id);
+        RecordingDTO recording = flightRecordingService.dump(id);
+        logger.info("JFR recording {} dumped to {}", id, recording.getFile());
+        return ResponseEntity.ok(recording);
+    }
+
+    @Operation(summary = "Close a recording", description = "Stops a recording started through this API if needed and releases its data")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Recording closed"),
+            @ApiResponse(responseCode = "400", description = "Recording was not started through this API"),
+            @ApiResponse(responseCode = "404", description = "Recording not found")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> closeRecording(
+            @Parameter(description = "ID of the recording", required = true, example = "1")
+            @PathVariable Long id) {
+        logger.info("Received request to close JFR recording {}", id);
+        flightRecordingService.close(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.internshipbitlab.controller;
 
+import com.example.internshipbitlab.dto.LessonContentInfo;
 import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
+import com.example.internshipbitlab.service.LessonContentService;
 import com.example.internshipbitlab.service.LessonService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +16,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -26,7 +33,26 @@ import java.util.List;
 public class LessonController {
 
     private static final Logger logger = LoggerFactory.getLogger(LessonController.class);
+    private static final MediaType CONTENT_TYPE = MediaType.parseMediaType("text/plain;charset=UTF-8");
     private final LessonService lessonService;
+    private final LessonContentService lessonContentService;
+
+    @Operation(summary = "Get lessons by IDs",
+            description = "Returns the requested lessons in one lookup and lists the IDs that were not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lessons retrieved, missing IDs reported in notFound"),
+            @ApiResponse(responseCode = "400", description = "No IDs or more IDs than allowed",
+                    content = @Content)
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponseDTO<LessonDTO>> getLessonsByIds(
+            @Parameter(description = "Comma-separated lesson IDs", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids) {
+        logger.info("Received request to get {} lessons by ID", ids.size());
+        MultiGetResponseDTO<LessonDTO> result = lessonService.findAllByIds(ids);
+        logger.debug("Returning {} lessons, {} not found", result.getItems().size(), result.getNotFound().size());
+        return ResponseEntity.ok(result);
+    }
 
     @Operation(summary = "Get lesson by ID", description = "Returns a single lesson by its ID")
     @ApiResponses(value = {
@@ -45,6 +71,77 @@ public class LessonController {
         return ResponseEntity.ok(lesson);
     }
 
+    @Operation(summary = "Download lesson content",
+            description = "Streams the raw lesson body with ETag and byte range support")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Full lesson content"),
+            @ApiResponse(responseCode = "206", description = "Requested byte range of lesson content"),
+            @ApiResponse(responseCode = "304", description = "Content not modified"),
+            @ApiResponse(responseCode = "404", description = "Lesson not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+    })
+    @GetMapping(value = "/{id}/content", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> getLessonContent(
+            @Parameter(description = "ID of lesson whose content is downloaded", required = true, example = "1")
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("Received request to download content of lesson ID: {}", id);
+        LessonContentInfo info = lessonContentService.getContentInfo(id);
+        long contentLength = info.getContentLength();
+        String eTag = lessonContentService.buildETag(info);
+
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(eTag))) {
+            logger.debug("Lesson {} content not modified", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+            long start;
+            long end;
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(contentLength);
+                    end = ranges.get(0).getRangeEnd(contentLength);
+                    // HttpRange clamps the end to the content but not the start
+                    if (start >= contentLength) {
+                        throw new IllegalArgumentException("Range starts after the content");
+                    }
+                } else {
+                    start = 0;
+                    end = -1;
+                }
+            } catch (IllegalArgumentException e) {
+                logger.debug("Unsatisfiable range '{}' for lesson {} of {} bytes", range, id, contentLength);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength)
+                        .build();
+            }
+            if (end >= start) {
+                long offset = start;
+                long length = end - start + 1;
+                logger.debug("Returning bytes {}-{} of lesson {}", start, end, id);
+                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .eTag(eTag)
+                        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentLength)
+                        .contentType(CONTENT_TYPE)
+                        .contentLength(length)
+                        .body(out -> lessonContentService.writeContent(info, offset, length, out));
+            }
+        }
+
+        logger.debug("Returning full content of lesson {} ({} bytes)", id, contentLength);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(CONTENT_TYPE)
+                .contentLength(contentLength)
+                .body(out -> lessonContentService.writeContent(info, 0, contentLength, out));
+    }
+
     @Operation(summary = "Get lessons by chapter ID", description = "Returns all lessons for a specific chapter")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lessons retrieved successfully",
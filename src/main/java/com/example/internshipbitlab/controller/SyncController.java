@@ -0,0 +1,50 @@
+package com.example.internshipbitlab.controller;
+
+import com.example.internshipbitlab.dto.SyncResponseDTO;
+import com.example.internshipbitlab.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "API endpoints for incremental synchronization of courses, chapters and lessons")
+public class SyncController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncController.class);
+    private final SyncService syncService;
+
+    @Operation(summary = "Get changes since token",
+            description = "Returns courses, chapters and lessons changed or deleted since the given token. " +
+                    "Omit the token for a full initial sync and keep calling with nextToken while hasMore is true.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = SyncResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid sync token",
+                    content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<SyncResponseDTO> sync(
+            @Parameter(description = "Continuation token returned by the previous sync")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of rows per entity type", example = "500")
+            @RequestParam(required = false) Integer limit) {
+        logger.info("Received request to sync changes");
+        SyncResponseDTO response = syncService.sync(since, limit);
+        logger.debug("Returning sync page, more: {}", response.isHasMore());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.internshipbitlab.dataset;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+/**
+ * Writes rows in the PostgreSQL {@code COPY ... FROM STDIN} text format: tab-separated fields,
+ * {@code \N} for null and backslash escapes for tabs, newlines and backslashes.
+ */
+final class CopyRowWriter implements Closeable {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Writer out;
+    private boolean firstField = true;
+
+    CopyRowWriter(Writer out) {
+        this.out = out;
+    }
+
+    CopyRowWriter field(Object value) throws IOException {
+        if (startField(value)) {
+            return this;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes text into a {@code bytea} column as the hex form of its UTF-8 bytes.
+     */
+    CopyRowWriter byteaField(String value) throws IOException {
+        if (!startField(value)) {
+            out.write("\\\\x");
+            out.write(HEX.formatHex(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        return this;
+    }
+
+    /**
+     * Writes the field separator, and {@code \N} if {@code value} is null; returns whether it was.
+     */
+    private boolean startField(Object value) throws IOException {
+        if (!firstField) {
+            out.write('\t');
+        }
+        firstField = false;
+        if (value == null) {
+            out.write("\\N");
+            return true;
+        }
+        return false;
+    }
+
+    void endRow() throws IOException {
+        out.write('\n');
+        firstField = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
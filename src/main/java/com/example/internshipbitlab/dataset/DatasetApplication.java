@@ -0,0 +1,33 @@
+package com.example.internshipbitlab.dataset;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+
+/**
+ * One-shot job that replaces the catalog with a reproducible synthetic dataset, see {@link DatasetGenerator}.
+ * Run it with {@code --generate-dataset} on the main jar or with {@code ./gradlew generateDataset}; the shape
+ * and seed are set through the {@code app.dataset.*} properties. Add {@code --confirm} to replace a database
+ * that is not empty.
+ */
+@ImportAutoConfiguration(DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties(DatasetProperties.class)
+@Import(DatasetGenerator.class)
+public class DatasetApplication {
+
+    public static void main(String[] args) {
+        System.exit(generate(args));
+    }
+
+    public static int generate(String... args) {
+        SpringApplication application = new SpringApplication(DatasetApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("dataset");
+        ConfigurableApplicationContext context = application.run(args);
+        return SpringApplication.exit(context);
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.internshipbitlab.dataset;
+
+import com.example.internshipbitlab.service.CourseOutlineService;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+/**
+ * Replaces the catalog with a synthetic one streamed through {@code COPY}. Every course is generated from
+ * its own random stream derived from the seed, so the same seed and shape always produce the same rows,
+ * ids included. Courses are written in chunks, one transaction each: first the new content blobs, then the
+ * courses, chapters and lessons of the chunk, then their outlines. A database that already holds data is
+ * only wiped when the run is confirmed with {@code --confirm} or {@code app.dataset.allow-truncate=true}.
+ */
+@RequiredArgsConstructor
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    static final String HAS_DATA_SQL =
+            "SELECT EXISTS (SELECT 1 FROM courses) OR EXISTS (SELECT 1 FROM content_blobs) " +
+                    "OR EXISTS (SELECT 1 FROM outbox_events) OR EXISTS (SELECT 1 FROM deleted_entities)";
+    static final String TRUNCATE_SQL =
+            "TRUNCATE lessons, chapters, courses, content_blobs, course_outlines, outbox_events, deleted_entities " +
+                    "RESTART IDENTITY";
+    private static final String COPY_BLOBS_SQL =
+            "COPY content_blobs (hash, content, ref_count, updated_at) FROM STDIN";
+    private static final String COPY_COURSES_SQL =
+            "COPY courses (id, name, description, created_at, updated_at) FROM STDIN";
+    private static final String COPY_CHAPTERS_SQL =
+            "COPY chapters (id, name, description, order_number, course_id, created_at, updated_at) FROM STDIN";
+    private static final String COPY_LESSONS_SQL =
+            "COPY lessons (id, name, description, content_hash, order_number, chapter_id, course_id, " +
+                    "created_at, updated_at) FROM STDIN";
+    private static final String TEMPLATE_REFS_SQL =
+            "UPDATE content_blobs SET ref_count = ? WHERE hash = ?";
+    private static final String RESET_SEQUENCE_SQL =
+            "SELECT setval(pg_get_serial_sequence(?, 'id'), GREATEST((SELECT COALESCE(MAX(id), 0) FROM %s), 1))";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long TEMPLATE_STREAM = -1;
+
+    private final DataSource dataSource;
+    private final DatasetProperties properties;
+
+    private final MessageDigest digest = sha256();
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException, IOException {
+        int courses = properties.getCourses();
+        long lessons = (long) courses * properties.getChaptersPerCourse() * properties.getLessonsPerChapter();
+        logger.warn("Replacing the catalog with {} courses and {} lessons generated from seed {}",
+                courses, lessons, properties.getSeed());
+        long started = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            boolean confirmed = properties.isAllowTruncate() || args.containsOption("confirm");
+            try (Statement statement = connection.createStatement()) {
+                if (!confirmed && hasData(statement)) {
+                    connection.rollback();
+                    throw new IllegalStateException("The database already holds catalog data; rerun with --confirm "
+                            + "or app.dataset.allow-truncate=true to replace it");
+                }
+                statement.execute(TRUNCATE_SQL);
+            }
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+            String[] templates = writeTemplates(copyManager);
+            long[] templateRefs = new long[templates.length];
+            connection.commit();
+
+            for (int from = 0; from < courses; from += properties.getCoursesPerChunk()) {
+                int to = Math.min(courses, from + properties.getCoursesPerChunk());
+                writeChunk(connection, copyManager, from, to, templates, templateRefs);
+                connection.commit();
+                logger.info("Generated {}/{} courses", to, courses);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(TEMPLATE_REFS_SQL)) {
+                for (int i = 0; i < templates.length; i++) {
+                    statement.setLong(1, templateRefs[i]);
+                    statement.setString(2, templates[i]);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            for (String table : new String[]{"courses", "chapters", "lessons"}) {
+                try (PreparedStatement statement = connection.prepareStatement(RESET_SEQUENCE_SQL.formatted(table))) {
+                    statement.setString(1, table);
+                    statement.execute();
+                }
+            }
+            connection.commit();
+        }
+        logger.info("Generated {} lessons in {} s", lessons, (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private static boolean hasData(Statement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(HAS_DATA_SQL)) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private String[] writeTemplates(CopyManager copyManager) throws SQLException, IOException {
+        String[] hashes = new String[properties.getTemplates()];
+        SplittableRandom random = SyntheticText.random(properties.getSeed(), TEMPLATE_STREAM);
+        try (CopyRowWriter blobs = copy(copyManager, COPY_BLOBS_SQL)) {
+            for (int i = 0; i < hashes.length; i++) {
+                String content = content(random);
+                hashes[i] = hash(content);
+                blobs.field(hashes[i]).byteaField(content).field(0).field(Timestamp.valueOf(EPOCH));
+                blobs.endRow();
+            }
+        }
+        return hashes;
+    }
+
+    private void writeChunk(Connection connection, CopyManager copyManager, int from, int to,
+                            String[] templates, long[] templateRefs) throws SQLException, IOException {
+        int chaptersPerCourse = properties.getChaptersPerCourse();
+        int lessonsPerChapter = properties.getLessonsPerChapter();
+        StringWriter courseRows = new StringWriter();
+        StringWriter chapterRows = new StringWriter();
+        StringWriter lessonRows = new StringWriter();
+
+        // Bodies are streamed straight into the blob COPY; the rest of the chunk is small and buffered
+        try (CopyRowWriter blobs = copy(copyManager, COPY_BLOBS_SQL)) {
+            CopyRowWriter courseWriter = new CopyRowWriter(courseRows);
+            CopyRowWriter chapterWriter = new CopyRowWriter(chapterRows);
+            CopyRowWriter lessonWriter = new CopyRowWriter(lessonRows);
+            for (int course = from; course < to; course++) {
+                SplittableRandom random = SyntheticText.random(properties.getSeed(), course);
+                long courseId = course + 1L;
+                Timestamp courseCreated = timestamp(random);
+                courseWriter.field(courseId)
+                        .field("Course " + courseId + ": " + SyntheticText.sentence(random, 3))
+                        .field(SyntheticText.sentence(random, 8 + random.nextInt(24)))
+                        .field(courseCreated).field(courseCreated);
+                courseWriter.endRow();
+
+                for (int chapter = 0; chapter < chaptersPerCourse; chapter++) {
+                    long chapterId = (long) course * chaptersPerCourse + chapter + 1;
+                    chapterWriter.field(chapterId)
+                            .field("Chapter " + (chapter + 1) + ": " + SyntheticText.sentence(random, 4))
+                            .field(SyntheticText.sentence(random, 6 + random.nextInt(16)))
+                            .field((chapter + 1) * 1024).field(courseId)
+                            .field(courseCreated).field(courseCreated);
+                    chapterWriter.endRow();
+
+                    for (int lesson = 0; lesson < lessonsPerChapter; lesson++) {
+                        long lessonId = (chapterId - 1) * lessonsPerChapter + lesson + 1;
+                        String contentHash;
+                        double kind = random.nextDouble();
+                        if (kind < properties.getTemplateRatio() && templates.length > 0) {
+                            int template = random.nextInt(templates.length);
+                            templateRefs[template]++;
+                            contentHash = templates[template];
+                        } else if (kind < properties.getTemplateRatio() + properties.getEmptyContentRatio()) {
+                            contentHash = null;
+                        } else {
+                            String content = content(random);
+                            contentHash = hash(content);
+                            blobs.field(contentHash).byteaField(content).field(1).field(courseCreated);
+                            blobs.endRow();
+                        }
+                        lessonWriter.field(lessonId)
+                                .field("Lesson " + (lesson + 1) + ": " + SyntheticText.sentence(random, 5))
+                                .field(SyntheticText.sentence(random, 6 + random.nextInt(16)))
+                                .field(contentHash)
+                                .field((lesson + 1) * 1024).field(chapterId).field(courseId)
+                                .field(courseCreated).field(courseCreated);
+                        lessonWriter.endRow();
+                    }
+                }
+            }
+        }
+
+        copy(copyManager, COPY_COURSES_SQL, courseRows);
+        copy(copyManager, COPY_CHAPTERS_SQL, chapterRows);
+        copy(copyManager, COPY_LESSONS_SQL, lessonRows);
+
+        try (PreparedStatement statement = connection.prepareStatement(CourseOutlineService.REBUILD_SQL)) {
+            for (int course = from; course < to; course++) {
+                statement.setLong(1, course + 1L);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private String content(SplittableRandom random) {
+        int size = SyntheticText.logNormalSize(random, properties.getContentMedianBytes(),
+                properties.getContentSigma(), properties.getContentMinBytes(), properties.getContentMaxBytes());
+        return SyntheticText.paragraphs(random, size);
+    }
+
+    private Timestamp timestamp(SplittableRandom random) {
+        return Timestamp.valueOf(EPOCH.plusSeconds(random.nextLong(365L * 24 * 60 * 60)));
+    }
+
+    private String hash(String content) {
+        return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static CopyRowWriter copy(CopyManager copyManager, String sql) throws SQLException {
+        return new CopyRowWriter(new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(copyManager.copyIn(sql), 1 << 16), StandardCharsets.UTF_8), 1 << 16));
+    }
+
+    private static void copy(CopyManager copyManager, String sql, StringWriter rows) throws SQLException, IOException {
+        long copied = copyManager.copyIn(sql, new StringReader(rows.toString()));
+        logger.debug("Copied {} rows: {}", copied, sql);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.internshipbitlab.dataset;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.dataset")
+public class DatasetProperties {
+    private long seed = 42;
+    private int courses = 10_000;
+    private int chaptersPerCourse = 30;
+    private int lessonsPerChapter = 20;
+    private int coursesPerChunk = 10;
+    // Lesson body sizes are log-normal around the median
+    private int contentMedianBytes = 4096;
+    private double contentSigma = 0.8;
+    private int contentMinBytes = 64;
+    private int contentMaxBytes = 256 * 1024;
+    private double emptyContentRatio = 0.02;
+    // Share of lessons whose body is one of the shared templates
+    private double templateRatio = 0.2;
+    private int templates = 500;
+    // The generator truncates the catalog; without this (or --confirm) it only runs on an empty database
+    private boolean allowTruncate = false;
+}
@@ -0,0 +1,59 @@
+package com.example.internshipbitlab.dataset;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic filler text. Everything is ASCII, so lengths in characters are lengths in UTF-8 bytes.
+ */
+final class SyntheticText {
+
+    private static final String[] WORDS = {
+            "java", "class", "object", "method", "field", "interface", "stream", "lambda", "thread", "lock",
+            "memory", "heap", "stack", "garbage", "collector", "bytecode", "compiler", "module", "package", "import",
+            "spring", "bean", "context", "controller", "service", "repository", "entity", "query", "index", "table",
+            "transaction", "commit", "rollback", "isolation", "cache", "request", "response", "header", "status",
+            "token", "security", "filter", "test", "mock", "assert", "build", "gradle", "docker", "container",
+            "deploy", "metric", "latency", "throughput", "the", "a", "of", "and", "to", "in", "with", "for", "is",
+            "this", "that"
+    };
+    private static final int WORDS_PER_PARAGRAPH = 80;
+
+    private SyntheticText() {
+    }
+
+    static SplittableRandom random(long seed, long stream) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream);
+    }
+
+    static int logNormalSize(SplittableRandom random, int median, double sigma, int min, int max) {
+        double size = median * Math.exp(sigma * random.nextGaussian());
+        return (int) Math.max(min, Math.min(max, size));
+    }
+
+    static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        if (!text.isEmpty()) {
+            text.setCharAt(0, Character.toUpperCase(text.charAt(0)));
+        }
+        return text.toString();
+    }
+
+    static String paragraphs(SplittableRandom random, int targetLength) {
+        StringBuilder text = new StringBuilder(targetLength + 16);
+        int words = 0;
+        while (text.length() < targetLength) {
+            if (words > 0) {
+                text.append(words % WORDS_PER_PARAGRAPH == 0 ? '\n' : ' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            words++;
+        }
+        return text.toString();
+    }
+}
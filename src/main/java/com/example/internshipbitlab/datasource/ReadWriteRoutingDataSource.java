@@ -0,0 +1,98 @@
+package com.example.internshipbitlab.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> REPLICA_SELECTED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        // Replicas are trusted until the first lag check says otherwise
+        this.healthyReplicas.addAll(replicaKeys);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.pinToPrimary();
+            }
+            REPLICA_SELECTED.remove();
+            return PRIMARY;
+        }
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            REPLICA_SELECTED.remove();
+            return PRIMARY;
+        }
+
+        int size = replicaKeys.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (healthyReplicas.contains(key)) {
+                REPLICA_SELECTED.set(Boolean.TRUE);
+                return key;
+            }
+        }
+        REPLICA_SELECTED.remove();
+        return PRIMARY;
+    }
+
+    /**
+     * Whether the last connection this thread obtained was routed to a replica, i.e. what it read may lag.
+     */
+    public static boolean isReplicaSelected() {
+        return REPLICA_SELECTED.get() != null;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicaHealthy(String key, boolean healthy) {
+        if (healthy) {
+            healthyReplicas.add(key);
+        } else {
+            healthyReplicas.remove(key);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.internshipbitlab.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Marks the current request as having written to the primary, so later read-only
+ * transactions in the same request also read from the primary instead of a lagging replica.
+ * Outside a request (scheduled jobs, the outbox relay, async work) there is no later read to protect,
+ * so the pin only lasts until the writing transaction completes and pooled threads are never left pinned.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> IN_REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Opens the request scope that a pin lasts for; {@link #clear()} closes it.
+     */
+    public static void beginRequest() {
+        IN_REQUEST.set(Boolean.TRUE);
+    }
+
+    public static void pinToPrimary() {
+        if (PINNED.get() != null) {
+            return;
+        }
+        if (IN_REQUEST.get() != null) {
+            PINNED.set(Boolean.TRUE);
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            PINNED.set(Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    PINNED.remove();
+                }
+            });
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    public static void clear() {
+        PINNED.remove();
+        IN_REQUEST.remove();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.internshipbitlab.datasource;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps what a read-only transaction may have read from a lagging replica out of the second-level and query
+ * caches. Such a transaction still reads the caches but does not put into them ({@link CacheMode#GET}), so
+ * an entry evicted after a write is only refilled by a read from the primary and a stale replica row cannot
+ * be served from the cache for the rest of the region's TTL. Every other transaction uses the caches normally.
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        // Set on every transaction: with open-in-view one session serves several transactions of a request
+        entityManager.unwrap(Session.class).setCacheMode(mayReadReplica(definition) ? CacheMode.GET : CacheMode.NORMAL);
+        return transactionData;
+    }
+
+    /**
+     * Decided before the first statement routes the connection; a transaction that ends up on the primary
+     * because no replica is healthy only misses its cache puts.
+     */
+    private static boolean mayReadReplica(TransactionDefinition definition) {
+        return definition.isReadOnly() && !ReadYourWritesContext.isPinnedToPrimary();
+    }
+}
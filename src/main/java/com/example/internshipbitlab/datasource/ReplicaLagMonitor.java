@@ -0,0 +1,84 @@
+package com.example.internshipbitlab.datasource;
+
+import com.example.internshipbitlab.config.DataSourceRoutingProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Marks a replica as lagging when it has not replayed the WAL position the primary had {@code max-replica-lag}
+ * ago. Positions are compared rather than replay timestamps, which keep growing while the primary is idle.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    // Null when the server is not in recovery, then it has everything the primary has
+    private static final String REPLAY_BEHIND_SQL =
+            "SELECT pg_wal_lsn_diff(?::pg_lsn, pg_last_wal_replay_lsn())";
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final DataSourceRoutingProperties properties;
+    private final Deque<PrimaryPosition> primaryPositions = new ArrayDeque<>();
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.lag-check-interval-ms:5000}")
+    public void checkReplicaLag() {
+        String required;
+        try {
+            required = requiredPosition(System.currentTimeMillis(),
+                    new JdbcTemplate(routingDataSource.getPrimary()).queryForObject(PRIMARY_LSN_SQL, String.class));
+        } catch (DataAccessException e) {
+            logger.warn("Primary position is unavailable, keeping replica states: {}", e.getMessage());
+            return;
+        }
+        if (required == null) {
+            return;
+        }
+        routingDataSource.getReplicas().forEach((key, dataSource) -> {
+            boolean healthy;
+            try {
+                Double behindBytes = new JdbcTemplate(dataSource).queryForObject(REPLAY_BEHIND_SQL, Double.class,
+                        required);
+                healthy = behindBytes == null || behindBytes <= 0;
+                logger.debug("Replica {} is {} bytes behind primary position {}", key, behindBytes, required);
+            } catch (DataAccessException e) {
+                logger.warn("Replica {} is unreachable: {}", key, e.getMessage());
+                healthy = false;
+            }
+            routingDataSource.setReplicaHealthy(key, healthy);
+        });
+    }
+
+    /**
+     * Records the primary's current position and returns the latest one taken at least the allowed lag ago,
+     * or null while no sample is that old yet.
+     */
+    String requiredPosition(long now, String currentLsn) {
+        primaryPositions.addLast(new PrimaryPosition(now, currentLsn));
+        long cutoff = now - properties.getMaxReplicaLag().toMillis();
+        PrimaryPosition required = null;
+        while (!primaryPositions.isEmpty() && primaryPositions.peekFirst().takenAt() <= cutoff) {
+            required = primaryPositions.pollFirst();
+        }
+        if (required != null) {
+            // Keep it, the next check may still need it
+            primaryPositions.addFirst(required);
+            return required.lsn();
+        }
+        return null;
+    }
+
+    private record PrimaryPosition(long takenAt, String lsn) {
+    }
+}
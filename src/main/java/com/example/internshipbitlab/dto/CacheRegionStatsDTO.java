@@ -0,0 +1,17 @@
+package com.example.internshipbitlab.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatsDTO {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;
+    private double hitRatio;
+}
@@ -0,0 +1,21 @@
+package com.example.internshipbitlab.dto;
+
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventDTO {
+    private Long id;
+    private ChangeEntityType entityType;
+    private Long entityId;
+    private Long courseId;
+    private ChangeAction action;
+    private LocalDateTime createdAt;
+}
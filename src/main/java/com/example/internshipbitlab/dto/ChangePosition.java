@@ -0,0 +1,7 @@
+package com.example.internshipbitlab.dto;
+
+public interface ChangePosition {
+    Long getId();
+
+    Long getXactId();
+}
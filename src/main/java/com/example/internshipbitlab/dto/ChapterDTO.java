@@ -19,5 +19,6 @@ public class ChapterDTO {
     private Long courseId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long lessonCount;
     private List<LessonDTO> lessons;
 }
\ No newline at end of file
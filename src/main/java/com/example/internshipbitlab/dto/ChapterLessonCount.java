@@ -0,0 +1,7 @@
+package com.example.internshipbitlab.dto;
+
+public interface ChapterLessonCount {
+    Long getChapterId();
+
+    Long getLessonCount();
+}
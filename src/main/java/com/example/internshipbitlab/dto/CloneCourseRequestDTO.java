@@ -0,0 +1,16 @@
+package com.example.internshipbitlab.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CloneCourseRequestDTO {
+    @NotBlank(message = "Course name cannot be blank")
+    @Size(max = 255, message = "Course name must be less than 255 characters")
+    private String name;
+}
@@ -0,0 +1,9 @@
+package com.example.internshipbitlab.dto;
+
+public interface CourseCounts {
+    Long getCourseId();
+
+    Long getChapterCount();
+
+    Long getLessonCount();
+}
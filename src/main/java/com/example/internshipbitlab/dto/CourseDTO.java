@@ -22,5 +22,7 @@ public class CourseDTO {
     private String description;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long chapterCount;
+    private Long lessonCount;
     private List<ChapterDTO> chapters;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.example.internshipbitlab.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseStatsDTO {
+    private long courseCount;
+    private long chapterCount;
+    private long lessonCount;
+}
@@ -0,0 +1,18 @@
+package com.example.internshipbitlab.dto;
+
+import com.example.internshipbitlab.model.ChangeEntityType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletedEntityDTO {
+    private ChangeEntityType entityType;
+    private Long entityId;
+    private Long courseId;
+    private LocalDateTime deletedAt;
+}
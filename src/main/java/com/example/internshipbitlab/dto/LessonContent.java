@@ -0,0 +1,7 @@
+package com.example.internshipbitlab.dto;
+
+public interface LessonContent {
+    Long getId();
+
+    String getContent();
+}
@@ -0,0 +1,16 @@
+package com.example.internshipbitlab.dto;
+
+import java.time.LocalDateTime;
+
+public interface LessonContentInfo {
+    Long getId();
+
+    Long getContentLength();
+
+    LocalDateTime getUpdatedAt();
+
+    /**
+     * Hash of the immutable content blob, so the body can be read later exactly as measured; null without content.
+     */
+    String getContentHash();
+}
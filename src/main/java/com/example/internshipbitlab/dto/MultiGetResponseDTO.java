@@ -0,0 +1,15 @@
+package com.example.internshipbitlab.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MultiGetResponseDTO<T> {
+    private List<T> items;
+    private List<Long> notFound;
+}
@@ -0,0 +1,13 @@
+package com.example.internshipbitlab.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPositionDTO {
+    private Long id;
+    private int orderNumber;
+}
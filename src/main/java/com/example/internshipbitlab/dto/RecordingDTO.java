@@ -0,0 +1,20 @@
+package com.example.internshipbitlab.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecordingDTO {
+    private Long id;
+    private String name;
+    private String state;
+    private Instant startTime;
+    private Instant stopTime;
+    private long size;
+    private String file;
+}
@@ -0,0 +1,16 @@
+package com.example.internshipbitlab.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReorderRequestDTO {
+    @NotEmpty
+    private List<Long> orderedIds;
+}
@@ -0,0 +1,19 @@
+package com.example.internshipbitlab.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponseDTO {
+    private List<CourseDTO> courses;
+    private List<ChapterDTO> chapters;
+    private List<LessonDTO> lessons;
+    private List<DeletedEntityDTO> deleted;
+    private String nextToken;
+    private boolean hasMore;
+}
@@ -4,6 +4,9 @@ package com.example.internshipbitlab.exception;
 
 import com.example.internshipbitlab.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -15,9 +18,19 @@ import java.time.LocalDateTime;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    // At most 10 lines per second for each kind, then 1 in 100
+    private final ThrottledLog notFoundLog = new ThrottledLog(1000, 10, 100);
+    private final ThrottledLog serverErrorLog = new ThrottledLog(1000, 10, 100);
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(NotFoundException ex,
                                                                  HttpServletRequest request) {
+        if (notFoundLog.shouldLog()) {
+            logger.info("Not found: {} {} ({} similar suppressed)", request.getRequestURI(), ex.getMessage(),
+                    notFoundLog.drainSuppressed());
+        }
         ErrorResponse response = new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.NOT_FOUND.value(),
@@ -41,6 +54,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex,
+                                                                              HttpServletRequest request) {
+        ErrorResponse response = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                "Conflicting change, e.g. a duplicate order number",
+                request.getRequestURI());
+
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex,
                                                                     HttpServletRequest request) {
@@ -65,6 +91,10 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllExceptions(Exception ex,
                                                              HttpServletRequest request) {
+        if (serverErrorLog.shouldLog()) {
+            logger.error("Request {} failed ({} similar suppressed)", request.getRequestURI(),
+                    serverErrorLog.drainSuppressed(), ex);
+        }
         ErrorResponse response = new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
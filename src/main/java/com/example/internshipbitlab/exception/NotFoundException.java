@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class NotFoundException extends RuntimeException {
     public NotFoundException(String message) {
-        super(message);
+        // Expected outcome of a request, the stack trace would only cost time
+        super(message, null, false, false);
     }
 }
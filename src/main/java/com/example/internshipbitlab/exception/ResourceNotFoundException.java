@@ -2,6 +2,6 @@ package com.example.internshipbitlab.exception;
 
 public class ResourceNotFoundException extends RuntimeException {
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.internshipbitlab.exception;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides whether an error occurrence is worth a log line: the first {@code burst} occurrences of each
+ * window are logged, after that one in {@code sampleRate}. Skipped occurrences are counted and reported
+ * with the next logged one.
+ */
+public class ThrottledLog {
+
+    private final long windowNanos;
+    private final int burst;
+    private final int sampleRate;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger logged = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public ThrottledLog(long windowMillis, int burst, int sampleRate) {
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.burst = burst;
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public boolean shouldLog() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            logged.set(0);
+        }
+        if (logged.incrementAndGet() <= burst || ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Returns and resets the number of occurrences skipped since the last logged one.
+     */
+    public long drainSuppressed() {
+        return suppressed.getAndSet(0);
+    }
+}
@@ -3,6 +3,6 @@ package com.example.internshipbitlab.exception;
 
 public class ValidationException extends RuntimeException {
     public ValidationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.example.internshipbitlab.graphql;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.service.CourseGraphService;
+import org.dataloader.DataLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * GraphQL entry point for the course graph. Relation fields are {@link BatchMapping}s, i.e. per-request
+ * DataLoaders: all parents at one depth are collected and resolved with a single query. Lesson bodies are
+ * loaded the same way, so they are only read when a query selects {@code content}.
+ */
+@Controller
+public class CourseGraphController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseGraphController.class);
+    private final CourseGraphService courseGraphService;
+
+    /**
+     * Lesson bodies are nullable, which a list-returning batch mapping cannot express, so they get a DataLoader
+     * keyed by lesson id; lessons without content are missing from its map and resolve to null.
+     */
+    public CourseGraphController(CourseGraphService courseGraphService, BatchLoaderRegistry batchLoaderRegistry) {
+        this.courseGraphService = courseGraphService;
+        batchLoaderRegistry.forTypePair(Long.class, String.class).registerMappedBatchLoader((lessonIds, environment) ->
+                Mono.fromCallable(() -> courseGraphService.findContentsByLessonIds(lessonIds)));
+    }
+
+    @QueryMapping
+    public CourseDTO course(@Argument Long id) {
+        logger.info("GraphQL query for course ID: {}", id);
+        return courseGraphService.findCourse(id);
+    }
+
+    @QueryMapping
+    public List<CourseDTO> courses(@Argument List<Long> ids) {
+        logger.info("GraphQL query for {} courses", ids.size());
+        return courseGraphService.findCourses(ids);
+    }
+
+    @QueryMapping
+    public ChapterDTO chapter(@Argument Long id) {
+        logger.info("GraphQL query for chapter ID: {}", id);
+        return courseGraphService.findChapter(id);
+    }
+
+    @QueryMapping
+    public LessonDTO lesson(@Argument Long id) {
+        logger.info("GraphQL query for lesson ID: {}", id);
+        return courseGraphService.findLesson(id);
+    }
+
+    @BatchMapping(typeName = "Course", field = "chapters")
+    public List<List<ChapterDTO>> chapters(List<CourseDTO> courses) {
+        Map<Long, List<ChapterDTO>> byCourse = courseGraphService.findChaptersByCourseIds(
+                ids(courses, CourseDTO::getId));
+        return resolve(courses, course -> byCourse.getOrDefault(course.getId(), List.of()));
+    }
+
+    @BatchMapping(typeName = "Chapter", field = "lessons")
+    public List<List<LessonDTO>> lessons(List<ChapterDTO> chapters) {
+        Map<Long, List<LessonDTO>> byChapter = courseGraphService.findLessonsByChapterIds(
+                ids(chapters, ChapterDTO::getId), ids(chapters, ChapterDTO::getCourseId));
+        return resolve(chapters, chapter -> byChapter.getOrDefault(chapter.getId(), List.of()));
+    }
+
+    @BatchMapping(typeName = "Chapter", field = "course")
+    public List<CourseDTO> course(List<ChapterDTO> chapters) {
+        Map<Long, CourseDTO> courses = courseGraphService.findCoursesByIds(ids(chapters, ChapterDTO::getCourseId));
+        return resolve(chapters, chapter -> courses.get(chapter.getCourseId()));
+    }
+
+    @BatchMapping(typeName = "Lesson", field = "chapter")
+    public List<ChapterDTO> chapter(List<LessonDTO> lessons) {
+        Map<Long, ChapterDTO> chapters = courseGraphService.findChaptersByIds(ids(lessons, LessonDTO::getChapterId));
+        return resolve(lessons, lesson -> chapters.get(lesson.getChapterId()));
+    }
+
+    @SchemaMapping(typeName = "Lesson", field = "content")
+    public CompletableFuture<String> content(LessonDTO lesson, DataLoader<Long, String> contents) {
+        return contents.load(lesson.getId());
+    }
+
+    private static <T> List<Long> ids(List<T> parents, Function<T, Long> idOf) {
+        return parents.stream().map(idOf).distinct().toList();
+    }
+
+    /**
+     * Values in the order of {@code parents}, looked up by the parents' ids. Returning a list rather than a map
+     * keyed by the DTOs keeps two DTOs of the same row from colliding or being told apart by their other fields.
+     */
+    private static <K, V> List<V> resolve(List<K> parents, Function<K, V> valueOf) {
+        List<V> values = new ArrayList<>(parents.size());
+        for (K parent : parents) {
+            values.add(valueOf.apply(parent));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.internshipbitlab.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.internshipbitlab.CollectionInitialization")
+@Label("Lazy Collection Initialization")
+@Description("Hibernate loading a lazy collection such as Course.chapters or Chapter.lessons, from the cache or the database")
+@Category({"Internship Bitlab", "Persistence"})
+public class CollectionInitializationEvent extends jdk.jfr.Event {
+
+    @Label("Role")
+    String role;
+
+    @Label("Owner Id")
+    String ownerId;
+
+    @Label("Size")
+    int size;
+}
@@ -0,0 +1,61 @@
+package com.example.internshipbitlab.jfr;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Emits a {@link CollectionInitializationEvent} for every lazy collection Hibernate initializes. One listener
+ * is put before Hibernate's own initialize-collection listener to begin the event and one after it to commit,
+ * so the event spans the cache lookup and, on a miss, the query.
+ */
+public class CollectionInitializationRecorder {
+
+    private static final ThreadLocal<Deque<Running>> RUNNING = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public CollectionInitializationRecorder(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.prependListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) this::begin);
+        registry.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) this::commit);
+    }
+
+    private void begin(InitializeCollectionEvent initialization) {
+        CollectionInitializationEvent event = new CollectionInitializationEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        RUNNING.get().push(new Running(initialization.getCollection(), event));
+    }
+
+    private void commit(InitializeCollectionEvent initialization) {
+        Deque<Running> running = RUNNING.get();
+        PersistentCollection<?> collection = initialization.getCollection();
+        // Entries left behind by an initialization that failed are discarded on the way
+        Running top = running.poll();
+        while (top != null && top.collection() != collection) {
+            top = running.poll();
+        }
+        if (top == null || !top.event().shouldCommit()) {
+            return;
+        }
+        CollectionInitializationEvent event = top.event();
+        event.role = collection.getRole();
+        Object ownerId = initialization.getAffectedOwnerIdOrNull();
+        event.ownerId = ownerId != null ? ownerId.toString() : null;
+        event.size = collection instanceof Collection<?> elements ? elements.size() : -1;
+        event.commit();
+    }
+
+    private record Running(PersistentCollection<?> collection, CollectionInitializationEvent event) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.internshipbitlab.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.internshipbitlab.HttpRequest")
+@Label("HTTP Request")
+@Description("A request from the first filter to the end of the response")
+@Category({"Internship Bitlab", "Web"})
+@StackTrace(false)
+public class HttpRequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Matched route pattern, or the path when no handler matched")
+    String endpoint;
+
+    @Label("Entity Id")
+    String entityId;
+
+    @Label("Status")
+    int status;
+}
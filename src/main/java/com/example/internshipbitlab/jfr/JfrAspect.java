@@ -0,0 +1,65 @@
+package com.example.internshipbitlab.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Emits a {@link TransactionEvent} per {@code @Transactional} service method and a {@link MapperEvent} per
+ * mapper call. Ordered outside the transaction advice so the commit is part of the event; when the events
+ * are disabled in every recording the advice only checks that and proceeds.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class JfrAspect {
+
+    @Around("within(com.example.internshipbitlab.service..*) && @annotation(transactional)")
+    public Object recordTransaction(ProceedingJoinPoint joinPoint, Transactional transactional) throws Throwable {
+        TransactionEvent event = new TransactionEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (event.shouldCommit()) {
+                event.service = targetName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.readOnly = transactional.readOnly();
+                event.propagation = transactional.propagation().name();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* com.example.internshipbitlab.mapper.*Mapper.*(..))")
+    public Object recordMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        MapperEvent event = new MapperEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (event.shouldCommit()) {
+                event.mapper = targetName(joinPoint);
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+
+    private static String targetName(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
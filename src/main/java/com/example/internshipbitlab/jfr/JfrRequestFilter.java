@@ -0,0 +1,52 @@
+package com.example.internshipbitlab.jfr;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Emits an {@link HttpRequestEvent} per request. The entity id is the {@code id} path variable, else the
+ * first path variable, else the {@code ids} parameter of a multi-get.
+ */
+public class JfrRequestFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (!event.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        event.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (event.shouldCommit()) {
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.method = request.getMethod();
+                event.endpoint = route != null ? route.toString() : request.getRequestURI();
+                event.entityId = entityId(request);
+                event.status = response.getStatus();
+                event.commit();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String entityId(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && !map.isEmpty()) {
+            Map<String, String> pathVariables = (Map<String, String>) map;
+            String id = pathVariables.get("id");
+            return id != null ? id : pathVariables.values().iterator().next();
+        }
+        return request.getParameter("ids");
+    }
+}
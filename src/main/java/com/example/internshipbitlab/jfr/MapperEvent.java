@@ -0,0 +1,19 @@
+package com.example.internshipbitlab.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.internshipbitlab.Mapping")
+@Label("Mapper Invocation")
+@Category({"Internship Bitlab", "Mapping"})
+@StackTrace(false)
+public class MapperEvent extends jdk.jfr.Event {
+
+    @Label("Mapper")
+    String mapper;
+
+    @Label("Method")
+    String method;
+}
@@ -0,0 +1,30 @@
+package com.example.internshipbitlab.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.internshipbitlab.Transaction")
+@Label("Transactional Method")
+@Description("A @Transactional service method, including the commit or rollback")
+@Category({"Internship Bitlab", "Service"})
+@StackTrace(false)
+public class TransactionEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Read Only")
+    boolean readOnly;
+
+    @Label("Propagation")
+    String propagation;
+
+    @Label("Failed")
+    boolean failed;
+}
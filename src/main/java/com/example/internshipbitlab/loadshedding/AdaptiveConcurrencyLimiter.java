@@ -0,0 +1,132 @@
+package com.example.internshipbitlab.loadshedding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency, after TCP Vegas. The shortest recent round trip is
+ * taken as the no-load latency; the estimated queue is {@code limit * (1 - noLoadRtt / rtt)}. A short queue
+ * grows the limit, a long one shrinks it, and a failed call cuts it multiplicatively (AIMD).
+ * The no-load latency is re-measured every {@code probeInterval} samples so the limiter follows a slower baseline.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int probeInterval;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, int probeInterval) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeInterval = probeInterval;
+        this.estimatedLimit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Returns a permit, or {@code null} if the limit is reached and the call should be shed.
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (++samples % probeInterval == 0 || noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+
+        double previous = estimatedLimit;
+        double step = Math.max(1.0, Math.log10(estimatedLimit));
+        double queue = estimatedLimit * (1.0 - (double) noLoadRttNanos / rttNanos);
+        if (dropped) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * DROP_BACKOFF);
+        } else if (queue > 6 * step) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit - step);
+        } else if (queue < 3 * step && inFlightAtStart * 2 >= estimatedLimit) {
+            // Only grow while the limit is actually being used
+            estimatedLimit = Math.min(maxLimit, estimatedLimit + step);
+        }
+
+        int newLimit = (int) estimatedLimit;
+        if (newLimit != (int) previous) {
+            logger.debug("{} concurrency limit {} -> {} (rtt {} us, no-load rtt {} us)",
+                    name, (int) previous, newLimit, rttNanos / 1000, noLoadRttNanos / 1000);
+        }
+        limit = newLimit;
+    }
+
+    /**
+     * Released exactly once: after the first of {@link #success()}, {@link #dropped()} or {@link #ignore()},
+     * further calls do nothing, e.g. a timed-out async response that completes afterwards.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void success() {
+            if (release()) {
+                onSample(System.nanoTime() - startNanos, inFlightAtStart, false);
+            }
+        }
+
+        public void dropped() {
+            if (release()) {
+                onSample(System.nanoTime() - startNanos, inFlightAtStart, true);
+            }
+        }
+
+        /**
+         * Releases the permit without feeding its latency to the limiter.
+         */
+        public void ignore() {
+            release();
+        }
+
+        private boolean release() {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            inFlight.decrementAndGet();
+            return true;
+        }
+    }
+}
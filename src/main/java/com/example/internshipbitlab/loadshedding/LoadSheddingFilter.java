@@ -0,0 +1,145 @@
+package com.example.internshipbitlab.loadshedding;
+
+import com.example.internshipbitlab.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Bulkheads for the course graph API: cheap lookups, heavy reads and writes get separate adaptive concurrency
+ * limits, so a write storm or a burst of whole-tree reads cannot take the threads and connections that lookups
+ * need. Requests over the limit are answered immediately with 503 and {@code Retry-After} instead of queueing.
+ * A permit is held until the response is complete, including responses that are streamed asynchronously.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadSheddingFilter.class);
+
+    private final AdaptiveConcurrencyLimiter lookupLimiter;
+    private final AdaptiveConcurrencyLimiter heavyReadLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter lookupLimiter, AdaptiveConcurrencyLimiter heavyReadLimiter,
+                              AdaptiveConcurrencyLimiter writeLimiter, Duration retryAfter, ObjectMapper objectMapper) {
+        this.lookupLimiter = lookupLimiter;
+        this.heavyReadLimiter = heavyReadLimiter;
+        this.writeLimiter = writeLimiter;
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = limiterFor(request);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            logger.debug("Shedding {} {}: {} requests in flight", request.getMethod(), request.getRequestURI(),
+                    limiter.getInFlight());
+            reject(request, response);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener(permit, response));
+            } else if (!completed || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+        }
+    }
+
+    /**
+     * GraphQL queries, course listings, statistics, outlines and lesson bodies read whole trees or stream
+     * large responses; single-entity and bounded multi-get lookups are cheap.
+     */
+    private AdaptiveConcurrencyLimiter limiterFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/graphql")) {
+            return heavyReadLimiter;
+        }
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method)) {
+            return writeLimiter;
+        }
+        boolean heavy = (path.equals("/api/courses") && request.getParameter("ids") == null)
+                || path.equals("/api/courses/stats")
+                || path.endsWith("/outline")
+                || path.endsWith("/content");
+        return heavy ? heavyReadLimiter : lookupLimiter;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                "Server is overloaded, retry later",
+                request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * Releases the permit of a request that went async once its response is complete.
+     */
+    private static final class PermitReleasingListener implements AsyncListener {
+        private final AdaptiveConcurrencyLimiter.Permit permit;
+        private final HttpServletResponse response;
+
+        private PermitReleasingListener(AdaptiveConcurrencyLimiter.Permit permit, HttpServletResponse response) {
+            this.permit = permit;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permit.dropped();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permit.dropped();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // The request went async again: keep listening on its new context
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -10,8 +10,15 @@ public interface ChapterMapper {
 
     @Mapping(target = "courseId", source = "course.id")
     @Mapping(target = "lessons", source = "lessons")
+    @Mapping(target = "lessonCount", ignore = true)
     ChapterDTO toDto(Chapter chapter);
 
+    @Named("withoutLessons")
+    @Mapping(target = "courseId", source = "course.id")
+    @Mapping(target = "lessons", ignore = true)
+    @Mapping(target = "lessonCount", ignore = true)
+    ChapterDTO toDtoWithoutLessons(Chapter chapter);
+
     @Mapping(target = "course", ignore = true)
     @Mapping(target = "lessons", ignore = true)
     Chapter toEntity(ChapterDTO chapterDTO);
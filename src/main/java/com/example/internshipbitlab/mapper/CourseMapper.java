@@ -9,6 +9,8 @@ import org.mapstruct.*;
 public interface CourseMapper {
 
     @Mapping(target = "chapters", ignore = true)
+    @Mapping(target = "chapterCount", ignore = true)
+    @Mapping(target = "lessonCount", ignore = true)
     CourseDTO toDto(Course course);
 
     @Mapping(target = "chapters", ignore = true)
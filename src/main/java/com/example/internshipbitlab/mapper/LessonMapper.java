@@ -9,9 +9,17 @@ import org.mapstruct.*;
 public interface LessonMapper {
 
     @Mapping(target = "chapterId", source = "chapter.id")
+    @Mapping(target = "content", source = "body.content")
     LessonDTO toDto(Lesson lesson);
 
+    @Named("withoutContent")
+    @Mapping(target = "chapterId", source = "chapter.id")
+    @Mapping(target = "content", ignore = true)
+    LessonDTO toDtoWithoutContent(Lesson lesson);
+
     @Mapping(target = "chapter", ignore = true)
+    @Mapping(target = "courseId", ignore = true)
+    @Mapping(target = "body", ignore = true)
     Lesson toEntity(LessonDTO lessonDTO);
 
     @AfterMapping
@@ -0,0 +1,29 @@
+package com.example.internshipbitlab.migration;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * One-shot schema migration job. Starts only the datasource and Liquibase, applies
+ * {@code db.changelog-master.yaml} and exits. Run it with {@code --migrate} on the main jar
+ * or directly as a main class, once per deploy instead of on every replica.
+ */
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public class MigrationApplication {
+
+    public static void main(String[] args) {
+        System.exit(migrate(args));
+    }
+
+    public static int migrate(String... args) {
+        SpringApplication application = new SpringApplication(MigrationApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setAdditionalProfiles("migrate");
+        ConfigurableApplicationContext context = application.run(args);
+        return SpringApplication.exit(context);
+    }
+}
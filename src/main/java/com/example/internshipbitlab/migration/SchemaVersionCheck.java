@@ -0,0 +1,103 @@
+package com.example.internshipbitlab.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces a full Liquibase run on every boot with a single lookup of the latest expected
+ * changeset in {@code databasechangelog}. Migrations themselves are applied by {@link MigrationApplication}.
+ * The expected changeset is the last one in the master changelog, following its includes in order;
+ * changesets limited to a context are skipped because a production migration does not run them.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaVersionCheck implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaVersionCheck.class);
+    private static final String CHANGESET_SQL = "SELECT COUNT(*) FROM databasechangelog WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceLoader resourceLoader;
+
+    @Value("${app.schema.check:fail}")
+    private String mode;
+
+    @Value("${spring.liquibase.change-log:classpath:db/changelog/db.changelog-master.yaml}")
+    private String changeLog;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if ("off".equals(mode)) {
+            return;
+        }
+        String expectedChangeset = latestChangeset(changeLog);
+        if (expectedChangeset == null) {
+            throw new IllegalStateException("No changeset found in " + changeLog);
+        }
+
+        boolean applied;
+        try {
+            Integer count = jdbcTemplate.queryForObject(CHANGESET_SQL, Integer.class, expectedChangeset);
+            applied = count != null && count > 0;
+        } catch (DataAccessException e) {
+            logger.debug("Failed to read databasechangelog", e);
+            applied = false;
+        }
+
+        if (applied) {
+            logger.info("Database schema is at changeset {}", expectedChangeset);
+            return;
+        }
+
+        String message = "Database schema is missing changeset " + expectedChangeset
+                + ", run the application with --migrate first";
+        if ("fail".equals(mode)) {
+            throw new IllegalStateException(message);
+        }
+        logger.warn(message);
+    }
+
+    String latestChangeset(String location) {
+        Resource resource = resourceLoader.getResource(location.contains(":") ? location : "classpath:" + location);
+        Map<String, Object> changeLog;
+        try (InputStream in = resource.getInputStream()) {
+            changeLog = new Yaml().load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read changelog " + location, e);
+        }
+        String latest = null;
+        for (Object entry : entries(changeLog)) {
+            Map<?, ?> item = (Map<?, ?>) entry;
+            if (item.get("include") instanceof Map<?, ?> include) {
+                String included = latestChangeset(String.valueOf(include.get("file")));
+                latest = included != null ? included : latest;
+            } else if (item.get("changeSet") instanceof Map<?, ?> changeSet
+                    && !StringUtils.hasText((String) changeSet.get("context"))
+                    && !StringUtils.hasText((String) changeSet.get("contextFilter"))) {
+                latest = String.valueOf(changeSet.get("id"));
+            }
+        }
+        return latest;
+    }
+
+    private static List<?> entries(Map<String, Object> changeLog) {
+        Object entries = changeLog != null ? changeLog.get("databaseChangeLog") : null;
+        return entries instanceof List<?> list ? list : List.of();
+    }
+}
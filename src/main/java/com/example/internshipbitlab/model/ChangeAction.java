@@ -0,0 +1,7 @@
+package com.example.internshipbitlab.model;
+
+public enum ChangeAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
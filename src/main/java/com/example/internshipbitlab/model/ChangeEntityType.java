@@ -0,0 +1,7 @@
+package com.example.internshipbitlab.model;
+
+public enum ChangeEntityType {
+    COURSE,
+    CHAPTER,
+    LESSON
+}
@@ -1,7 +1,10 @@
 package com.example.internshipbitlab.model;
 
+import com.example.internshipbitlab.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,6 +13,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CHAPTER)
 @Table(name = "chapters")
 @Getter
 @Setter
@@ -42,6 +47,7 @@ public class Chapter {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CHAPTER_LESSONS)
     @OneToMany(mappedBy = "chapter", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Lesson> lessons = new ArrayList<>();
@@ -0,0 +1,33 @@
+package com.example.internshipbitlab.model;
+
+import com.example.internshipbitlab.config.CacheRegions;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A lesson body stored once per distinct text, keyed by the hex SHA-256 of its UTF-8 bytes.
+ * Reference counts are maintained in SQL by {@code ContentBlobStore} and are not mapped here.
+ */
+@Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = CacheRegions.CONTENT_BLOB)
+@Table(name = "content_blobs")
+@BatchSize(size = 100)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentBlob {
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    // Stored as UTF-8 bytea so byte ranges are read without detoasting the whole body
+    @Column(columnDefinition = "BYTEA", nullable = false)
+    @Convert(converter = Utf8Converter.class)
+    private String content;
+}
@@ -1,7 +1,10 @@
 package com.example.internshipbitlab.model;
 
+import com.example.internshipbitlab.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,6 +13,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE)
 @Table(name = "courses")
 @Getter
 @Setter
@@ -35,6 +40,7 @@ public class Course {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE_CHAPTERS)
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Chapter> chapters = new ArrayList<>();
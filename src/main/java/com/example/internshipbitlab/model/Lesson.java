@@ -1,13 +1,19 @@
 package com.example.internshipbitlab.model;
 
+import com.example.internshipbitlab.config.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.PartitionKey;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.LESSON)
 @Table(name = "lessons")
 @Getter
 @Setter
@@ -25,8 +31,10 @@ public class Lesson {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(columnDefinition = "TEXT")
-    private String content;
+    // Shared body, see ContentBlob; null when the lesson has no content
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_hash")
+    private ContentBlob body;
 
     @Column(name = "order_number", nullable = false)
     private int orderNumber;
@@ -35,6 +43,11 @@ public class Lesson {
     @JoinColumn(name = "chapter_id", nullable = false)
     private Chapter chapter;
 
+    // Denormalized from the chapter; lessons are hash-partitioned on it
+    @PartitionKey
+    @Column(name = "course_id", nullable = false, updatable = false)
+    private Long courseId;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
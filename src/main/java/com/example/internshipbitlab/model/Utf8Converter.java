@@ -0,0 +1,23 @@
+package com.example.internshipbitlab.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Maps text to its UTF-8 bytes, for {@code bytea} columns that hold text.
+ */
+@Converter
+public class Utf8Converter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : attribute.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : new String(dbData, StandardCharsets.UTF_8);
+    }
+}
@@ -1,10 +1,55 @@
 package com.example.internshipbitlab.repository;
 
+import com.example.internshipbitlab.config.CacheRegions;
+import com.example.internshipbitlab.dto.ChangePosition;
+import com.example.internshipbitlab.dto.CourseCounts;
 import com.example.internshipbitlab.model.Chapter;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChapterRepository extends JpaRepository<Chapter, Long> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CHAPTERS_BY_COURSE)
+    })
     List<Chapter> findByCourseId(Long courseId);
-}
\ No newline at end of file
+
+    List<Chapter> findByCourseIdInOrderByOrderNumberAscIdAsc(Collection<Long> courseIds);
+
+    @Query("SELECT ch.course.id AS courseId, COUNT(DISTINCT ch.id) AS chapterCount, COUNT(l.id) AS lessonCount " +
+            "FROM Chapter ch LEFT JOIN Lesson l ON l.chapter = ch " +
+            "WHERE ch.course.id IN :courseIds GROUP BY ch.course.id")
+    List<CourseCounts> countByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+
+    @Query("SELECT ch.course.id AS courseId, COUNT(DISTINCT ch.id) AS chapterCount, COUNT(l.id) AS lessonCount " +
+            "FROM Chapter ch LEFT JOIN Lesson l ON l.chapter = ch GROUP BY ch.course.id")
+    List<CourseCounts> countAllByCourse();
+
+    // Lessons are appended under the chapter lock, so concurrent creates do not pick the same order number
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ch FROM Chapter ch WHERE ch.id = :id")
+    Optional<Chapter> findForUpdateById(@Param("id") Long id);
+
+    @Query("SELECT MAX(ch.orderNumber) FROM Chapter ch WHERE ch.course.id = :courseId")
+    Optional<Integer> findMaxOrderNumberByCourseId(@Param("courseId") Long courseId);
+
+    @Query("SELECT c.course.id FROM Chapter c WHERE c.id = :id")
+    Optional<Long> findCourseIdById(@Param("id") Long id);
+
+    @Query(value = "SELECT ch.id AS id, CAST(CAST(ch.xact_id AS text) AS bigint) AS \"xactId\" FROM chapters ch " +
+            "WHERE (ch.xact_id, ch.id) > (CAST(CAST(:xactId AS text) AS xid8), :lastId) " +
+            "AND ch.xact_id < pg_snapshot_xmin(pg_current_snapshot()) " +
+            "ORDER BY ch.xact_id, ch.id LIMIT :limit", nativeQuery = true)
+    List<ChangePosition> findChangedAfter(@Param("xactId") long xactId, @Param("lastId") long lastId,
+                                          @Param("limit") int limit);
+}
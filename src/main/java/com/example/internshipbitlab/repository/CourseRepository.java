@@ -1,8 +1,28 @@
 package com.example.internshipbitlab.repository;
 
 
+import com.example.internshipbitlab.dto.ChangePosition;
 import com.example.internshipbitlab.model.Course;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
-}
\ No newline at end of file
+
+    // Chapters are appended under the course lock, so concurrent creates do not pick the same order number
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> findForUpdateById(@Param("id") Long id);
+
+    @Query(value = "SELECT c.id AS id, CAST(CAST(c.xact_id AS text) AS bigint) AS \"xactId\" FROM courses c " +
+            "WHERE (c.xact_id, c.id) > (CAST(CAST(:xactId AS text) AS xid8), :lastId) " +
+            "AND c.xact_id < pg_snapshot_xmin(pg_current_snapshot()) " +
+            "ORDER BY c.xact_id, c.id LIMIT :limit", nativeQuery = true)
+    List<ChangePosition> findChangedAfter(@Param("xactId") long xactId, @Param("lastId") long lastId,
+                                          @Param("limit") int limit);
+}
@@ -1,10 +1,85 @@
 package com.example.internshipbitlab.repository;
 
+import com.example.internshipbitlab.config.CacheRegions;
+import com.example.internshipbitlab.dto.ChangePosition;
+import com.example.internshipbitlab.dto.ChapterLessonCount;
+import com.example.internshipbitlab.dto.LessonContent;
+import com.example.internshipbitlab.dto.LessonContentInfo;
 import com.example.internshipbitlab.model.Lesson;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
-    List<Lesson> findByChapterId(Long chapterId);
-}
\ No newline at end of file
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.LESSONS_BY_CHAPTER)
+    })
+    @Query("SELECT l FROM Lesson l WHERE l.chapter.id = :chapterId " +
+            "AND l.courseId = (SELECT ch.course.id FROM Chapter ch WHERE ch.id = :chapterId)")
+    List<Lesson> findByChapterId(@Param("chapterId") Long chapterId);
+
+    // courseIds only narrows the scan to the chapters' partitions
+    @Query("SELECT l FROM Lesson l LEFT JOIN FETCH l.body " +
+            "WHERE l.chapter.id IN :chapterIds AND l.courseId IN :courseIds ORDER BY l.orderNumber, l.id")
+    List<Lesson> findWithBodyByChapterIds(@Param("chapterIds") Collection<Long> chapterIds,
+                                          @Param("courseIds") Collection<Long> courseIds);
+
+    // courseIds only narrows the scan to the chapters' partitions
+    @Query("SELECT l FROM Lesson l " +
+            "WHERE l.chapter.id IN :chapterIds AND l.courseId IN :courseIds ORDER BY l.orderNumber, l.id")
+    List<Lesson> findByChapterIds(@Param("chapterIds") Collection<Long> chapterIds,
+                                  @Param("courseIds") Collection<Long> courseIds);
+
+    @Query("SELECT l FROM Lesson l LEFT JOIN FETCH l.body WHERE l.id IN :ids")
+    List<Lesson> findWithBodyByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT l.id AS id, b.content AS content FROM Lesson l JOIN l.body b WHERE l.id IN :ids")
+    List<LessonContent> findContentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Writers that swap or release the body lock the row so concurrent updates adjust ref_count once each
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lesson l WHERE l.id = :id")
+    Optional<Lesson> findForUpdateById(@Param("id") Long id);
+
+    @Query("SELECT l.id AS id, COALESCE(octet_length(b.content), 0) AS contentLength, l.updatedAt AS updatedAt, " +
+            "b.hash AS contentHash FROM Lesson l LEFT JOIN l.body b WHERE l.id = :id")
+    Optional<LessonContentInfo> findContentInfoById(@Param("id") Long id);
+
+    @Query("SELECT l.chapter.id AS chapterId, COUNT(l.id) AS lessonCount FROM Lesson l " +
+            "WHERE l.chapter.id IN :chapterIds AND l.courseId IN :courseIds GROUP BY l.chapter.id")
+    List<ChapterLessonCount> countByChapterIds(@Param("chapterIds") Collection<Long> chapterIds,
+                                               @Param("courseIds") Collection<Long> courseIds);
+
+    @Query("SELECT MAX(l.orderNumber) FROM Lesson l WHERE l.chapter.id = :chapterId AND l.courseId = :courseId")
+    Optional<Integer> findMaxOrderNumberByChapterId(@Param("chapterId") Long chapterId,
+                                                    @Param("courseId") Long courseId);
+
+    @Query("SELECT l.courseId FROM Lesson l WHERE l.id = :id")
+    Optional<Long> findCourseIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Lesson l WHERE l.courseId = :courseId")
+    int deleteByCourseId(@Param("courseId") Long courseId);
+
+    @Modifying
+    @Query("DELETE FROM Lesson l WHERE l.courseId = :courseId AND l.chapter.id = :chapterId")
+    int deleteByChapterId(@Param("chapterId") Long chapterId, @Param("courseId") Long courseId);
+
+    @Query(value = "SELECT l.id AS id, CAST(CAST(l.xact_id AS text) AS bigint) AS \"xactId\" FROM lessons l " +
+            "WHERE (l.xact_id, l.id) > (CAST(CAST(:xactId AS text) AS xid8), :lastId) " +
+            "AND l.xact_id < pg_snapshot_xmin(pg_current_snapshot()) " +
+            "ORDER BY l.xact_id, l.id LIMIT :limit", nativeQuery = true)
+    List<ChangePosition> findChangedAfter(@Param("xactId") long xactId, @Param("lastId") long lastId,
+                                          @Param("limit") int limit);
+}
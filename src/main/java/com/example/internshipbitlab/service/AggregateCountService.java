@@ -0,0 +1,78 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.ChapterLessonCount;
+import com.example.internshipbitlab.dto.CourseCounts;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.repository.ChapterRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Chapter and lesson counts computed with grouped aggregate queries, one query per batch of DTOs.
+ * The entity collections are never loaded for counting.
+ */
+@Service
+@RequiredArgsConstructor
+public class AggregateCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AggregateCountService.class);
+
+    // Above this many ids one unfiltered grouped query is cheaper than a long IN list
+    private static final int MAX_IN_LIST = 1000;
+
+    private final ChapterRepository chapterRepository;
+    private final LessonRepository lessonRepository;
+
+    @Transactional(readOnly = true)
+    public void fillCourseCounts(Collection<CourseDTO> courses) {
+        List<Long> ids = ids(courses, CourseDTO::getId);
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<CourseCounts> rows = ids.size() > MAX_IN_LIST
+                ? chapterRepository.countAllByCourse()
+                : chapterRepository.countByCourseIds(ids);
+        Map<Long, CourseCounts> counts = rows.stream()
+                .collect(Collectors.toMap(CourseCounts::getCourseId, Function.identity()));
+        for (CourseDTO course : courses) {
+            CourseCounts count = counts.get(course.getId());
+            course.setChapterCount(count != null ? count.getChapterCount() : 0L);
+            course.setLessonCount(count != null ? count.getLessonCount() : 0L);
+        }
+        logger.debug("Filled counts of {} courses", courses.size());
+    }
+
+    @Transactional(readOnly = true)
+    public void fillChapterCounts(Collection<ChapterDTO> chapters) {
+        List<Long> ids = ids(chapters, ChapterDTO::getId);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counts = lessonRepository.countByChapterIds(ids, ids(chapters, ChapterDTO::getCourseId)).stream()
+                .collect(Collectors.toMap(ChapterLessonCount::getChapterId, ChapterLessonCount::getLessonCount));
+        for (ChapterDTO chapter : chapters) {
+            chapter.setLessonCount(counts.getOrDefault(chapter.getId(), 0L));
+        }
+        logger.debug("Filled counts of {} chapters", chapters.size());
+    }
+
+    private static <T> List<Long> ids(Collection<T> items, Function<T, Long> idOf) {
+        return items.stream()
+                .map(idOf)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheStatisticsService.class);
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsDTO> getRegionStatistics() {
+        logger.info("Collecting second-level cache statistics");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toDto(region, statistics.getCacheRegionStatistics(region)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private CacheRegionStatsDTO toDto(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return null;
+        }
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        long lookups = hits + misses;
+        return CacheRegionStatsDTO.builder()
+                .region(region)
+                .hitCount(hits)
+                .missCount(misses)
+                .putCount(regionStatistics.getPutCount())
+                .elementCountInMemory(regionStatistics.getElementCountInMemory())
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.internshipbitlab.service;
+
+/**
+ * Position in the commit order of a change log: the id of the writing transaction, then the row id.
+ * Rows are only read once every transaction older than theirs has finished, so no row can show up
+ * behind a cursor that already moved past it.
+ */
+public record ChangeCursor(long xactId, long id) implements Comparable<ChangeCursor> {
+
+    public static final ChangeCursor START = new ChangeCursor(0, 0);
+
+    @Override
+    public int compareTo(ChangeCursor other) {
+        int byXact = Long.compare(xactId, other.xactId);
+        return byXact != 0 ? byXact : Long.compare(id, other.id);
+    }
+}
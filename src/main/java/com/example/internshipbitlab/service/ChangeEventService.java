@@ -0,0 +1,120 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.ChangeEventDTO;
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Transactional outbox of course graph changes. Rows are written in the same transaction as the
+ * change itself and read back in commit order ({@link ChangeCursor}) by {@link ChangeStreamService}. Recording a change also
+ * detaches coalesced reads of the course and, for a creation, clears a cached miss of its id once the write commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeEventService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (entity_type, entity_id, course_id, action) VALUES (?, ?, ?, ?)";
+    private static final String FIND_AFTER_SQL =
+            "SELECT id, CAST(CAST(xact_id AS text) AS bigint) AS xact_id, entity_type, entity_id, course_id, action, " +
+                    "created_at FROM outbox_events " +
+                    "WHERE (xact_id, id) > (CAST(CAST(? AS text) AS xid8), ?) " +
+                    "AND xact_id < pg_snapshot_xmin(pg_current_snapshot()) " +
+                    "AND (CAST(? AS bigint) IS NULL OR course_id = ?) " +
+                    "ORDER BY xact_id, id LIMIT ?";
+    private static final String CURRENT_XACT_SQL =
+            "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)";
+    private static final String XACT_OF_SQL =
+            "SELECT CAST(CAST(xact_id AS text) AS bigint) FROM outbox_events WHERE id = ?";
+    private static final String DELETE_BEFORE_SQL =
+            "DELETE FROM outbox_events WHERE created_at < CAST(clock_timestamp() AS timestamp) - ? * INTERVAL '1 millisecond'";
+
+    private static final RowMapper<Change> ROW_MAPPER = (rs, rowNum) -> new Change(
+            new ChangeCursor(rs.getLong("xact_id"), rs.getLong("id")),
+            ChangeEventDTO.builder()
+                    .id(rs.getLong("id"))
+                    .entityType(ChangeEntityType.valueOf(rs.getString("entity_type")))
+                    .entityId(rs.getLong("entity_id"))
+                    .courseId(rs.getObject("course_id", Long.class))
+                    .action(ChangeAction.valueOf(rs.getString("action")))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .build());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadCoalescer readCoalescer;
+    private final NegativeLookupCache negativeLookupCache;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeEntityType entityType, Long entityId, Long courseId, ChangeAction action) {
+        jdbcTemplate.update(INSERT_SQL, entityType.name(), entityId, courseId, action.name());
+        readCoalescer.invalidateAfterCommit(courseId);
+        if (action == ChangeAction.CREATED) {
+            negativeLookupCache.forgetAfterCommit(entityType, entityId);
+        }
+        logger.debug("Recorded {} {} {} (course {})", entityType, entityId, action, courseId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(ChangeEntityType entityType, Collection<Long> entityIds, Long courseId, ChangeAction action) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, entityIds, entityIds.size(), (ps, entityId) -> {
+            ps.setString(1, entityType.name());
+            ps.setLong(2, entityId);
+            ps.setObject(3, courseId);
+            ps.setString(4, action.name());
+        });
+        readCoalescer.invalidateAfterCommit(courseId);
+        logger.debug("Recorded {} {} {} events (course {})", entityIds.size(), entityType, action, courseId);
+    }
+
+    /**
+     * Events after {@code cursor} in commit order, optionally for one course only. Events of transactions that
+     * are newer than the oldest one still in progress are left for a later call.
+     */
+    @Transactional(readOnly = true)
+    public List<Change> findAfter(ChangeCursor cursor, Long courseId, int limit) {
+        return jdbcTemplate.query(FIND_AFTER_SQL, ROW_MAPPER,
+                cursor.xactId(), cursor.id(), courseId, courseId, limit);
+    }
+
+    /**
+     * Cursor just before every event that is not readable yet, i.e. after everything already committed.
+     */
+    @Transactional(readOnly = true)
+    public ChangeCursor findCurrentCursor() {
+        Long xactId = jdbcTemplate.queryForObject(CURRENT_XACT_SQL, Long.class);
+        return new ChangeCursor(xactId != null ? xactId : 0L, 0L);
+    }
+
+    /**
+     * Cursor of a delivered event, empty once the event has been purged.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ChangeCursor> findCursorOf(long eventId) {
+        return jdbcTemplate.queryForList(XACT_OF_SQL, Long.class, eventId).stream()
+                .findFirst()
+                .map(xactId -> new ChangeCursor(xactId, eventId));
+    }
+
+    @Transactional
+    public int deleteOlderThan(Duration retention) {
+        return jdbcTemplate.update(DELETE_BEFORE_SQL, retention.toMillis());
+    }
+
+    public record Change(ChangeCursor cursor, ChangeEventDTO event) {
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.ChangeEventDTO;
+import com.example.internshipbitlab.service.ChangeEventService.Change;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Relays outbox rows to Server-Sent Events subscribers. Every replica polls the shared outbox,
+ * so a client receives all changes whichever pod it is connected to, and can resume with Last-Event-ID.
+ * The poller only queues batches; writing to the subscribers' connections happens on a separate pool,
+ * so one slow client cannot hold up the relay, and a client that falls too far behind is disconnected.
+ * A Last-Event-ID that is no longer retained gets a {@code RESYNC} event instead of a replay.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    static final String RESYNC_EVENT = "RESYNC";
+
+    private final ChangeEventService changeEventService;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private volatile ChangeCursor cursor;
+    private ExecutorService deliveryExecutor;
+
+    @Value("${app.changes.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.changes.emitter-timeout:30m}")
+    private Duration emitterTimeout;
+
+    @Value("${app.changes.retention:7d}")
+    private Duration retention;
+
+    @Value("${app.changes.delivery-threads:4}")
+    private int deliveryThreads;
+
+    @Value("${app.changes.max-pending-batches:64}")
+    private int maxPendingBatches;
+
+    @PostConstruct
+    void startDelivery() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-stream-delivery-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopDelivery() {
+        deliveryExecutor.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long courseId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscription subscription = new Subscription(emitter, courseId);
+
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+
+        Optional<ChangeCursor> replayFrom = lastEventId == null ? Optional.empty()
+                : changeEventService.findCursorOf(lastEventId);
+        if (replayFrom.isPresent()) {
+            // Live batches queue up behind the backlog, which is sent from the delivery pool
+            logger.info("Replaying changes after event {} for course {}", lastEventId, courseId);
+            subscription.replay(replayFrom.get());
+        } else {
+            // Registered before the start position is read so no relayed batch can fall between the two
+            synchronized (subscription) {
+                subscriptions.add(subscription);
+                subscription.lastSent = currentCursor();
+                if (lastEventId != null) {
+                    logger.info("Event {} is no longer retained, asking the client to resync", lastEventId);
+                    subscription.sendResync("Event " + lastEventId + " is no longer retained; "
+                            + "resynchronize through /api/sync before applying further events");
+                }
+            }
+        }
+        logger.debug("New change stream subscriber for course {}, {} active", courseId, subscriptions.size());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.changes.poll-interval-ms:500}")
+    public void relay() {
+        ChangeCursor from = currentCursor();
+        List<Change> changes = changeEventService.findAfter(from, null, batchSize);
+        if (changes.isEmpty()) {
+            return;
+        }
+        cursor = changes.get(changes.size() - 1).cursor();
+        logger.debug("Relaying {} change events to {} subscribers", changes.size(), subscriptions.size());
+        for (Subscription subscription : subscriptions) {
+            subscription.enqueue(changes);
+        }
+    }
+
+    @Scheduled(cron = "${app.changes.cleanup-cron:0 0 * * * *}")
+    public void purgeExpiredEvents() {
+        int deleted = changeEventService.deleteOlderThan(retention);
+        logger.info("Purged {} change events older than {}", deleted, retention);
+    }
+
+    private ChangeCursor currentCursor() {
+        ChangeCursor current = cursor;
+        if (current == null) {
+            current = changeEventService.findCurrentCursor();
+            cursor = current;
+        }
+        return current;
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Long courseId;
+        private final Queue<List<Change>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private ChangeCursor lastSent = ChangeCursor.START;
+        private volatile boolean active = true;
+
+        private Subscription(SseEmitter emitter, Long courseId) {
+            this.emitter = emitter;
+            this.courseId = courseId;
+        }
+
+        /**
+         * Sends everything after {@code from} in pages on a delivery thread. The subscription counts as draining
+         * until then, so relayed batches wait in {@code pending}, bounded by {@code maxPendingBatches}.
+         */
+        private void replay(ChangeCursor from) {
+            lastSent = from;
+            draining.set(true);
+            subscriptions.add(this);
+            try {
+                deliveryExecutor.execute(() -> {
+                    try {
+                        ChangeCursor position = from;
+                        List<Change> changes;
+                        do {
+                            changes = changeEventService.findAfter(position, courseId, batchSize);
+                            send(changes);
+                            if (!changes.isEmpty()) {
+                                position = changes.get(changes.size() - 1).cursor();
+                            }
+                        } while (changes.size() == batchSize && active);
+                    } catch (RuntimeException e) {
+                        drop(e);
+                    } finally {
+                        draining.set(false);
+                        if (!pending.isEmpty()) {
+                            scheduleDrain();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                drop(e);
+            }
+        }
+
+        private void enqueue(List<Change> changes) {
+            if (pendingCount.incrementAndGet() > maxPendingBatches) {
+                drop(new IllegalStateException("Subscriber is " + maxPendingBatches + " batches behind"));
+                return;
+            }
+            pending.add(changes);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (active && draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                List<Change> changes;
+                while ((changes = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    send(changes);
+                }
+            } finally {
+                draining.set(false);
+                if (!pending.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private synchronized void send(List<Change> changes) {
+            for (Change change : changes) {
+                if (!active) {
+                    return;
+                }
+                ChangeEventDTO event = change.event();
+                if (change.cursor().compareTo(lastSent) <= 0
+                        || (courseId != null && !courseId.equals(event.getCourseId()))) {
+                    continue;
+                }
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.getId()))
+                            .name(event.getEntityType() + "_" + event.getAction())
+                            .data(event, MediaType.APPLICATION_JSON));
+                    lastSent = change.cursor();
+                } catch (IOException | IllegalStateException e) {
+                    drop(e);
+                }
+            }
+        }
+
+        /**
+         * Tells the client that the stream cannot resume where it left off, so it has to fetch the current
+         * state before applying the events that follow.
+         */
+        private synchronized void sendResync(String reason) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(RESYNC_EVENT)
+                        .data(Map.of("reason", reason), MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+            }
+        }
+
+        private void drop(Exception cause) {
+            logger.debug("Dropping change stream subscriber: {}", cause.getMessage());
+            active = false;
+            subscriptions.remove(this);
+            pending.clear();
+            emitter.completeWithError(cause);
+        }
+    }
+}
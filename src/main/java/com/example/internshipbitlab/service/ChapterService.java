@@ -1,19 +1,28 @@
 package com.example.internshipbitlab.service;
 
+import com.example.internshipbitlab.catalog.CatalogReader;
 import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
 import com.example.internshipbitlab.exception.NotFoundException;
 import com.example.internshipbitlab.mapper.ChapterMapper;
+import com.example.internshipbitlab.mapper.LessonMapper;
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
 import com.example.internshipbitlab.model.Chapter;
 import com.example.internshipbitlab.model.Course;
 import com.example.internshipbitlab.repository.ChapterRepository;
 import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -22,49 +31,67 @@ public class ChapterService {
     private static final Logger logger = LoggerFactory.getLogger(ChapterService.class);
     private final ChapterRepository chapterRepository;
     private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
     private final ChapterMapper chapterMapper;
+    private final LessonMapper lessonMapper;
+    private final CourseOutlineService courseOutlineService;
+    private final ChangeEventService changeEventService;
+    private final AggregateCountService aggregateCountService;
+    private final ContentBlobStore contentBlobStore;
+    private final CatalogReader catalogReader;
+
+    @Value("${app.multi-get.max-ids:100}")
+    private int maxMultiGetIds;
 
-    @Transactional(readOnly = true)
     public List<ChapterDTO> findAllByCourseId(Long courseId) {
         logger.info("Fetching chapters for course ID: {}", courseId);
-        List<ChapterDTO> chapters = chapterRepository.findByCourseId(courseId).stream()
-                .map(chapterMapper::toDto)
-                .toList();
+        List<ChapterDTO> chapters = catalogReader.findChaptersByCourse(courseId);
         logger.debug("Found {} chapters for course ID: {}", chapters.size(), courseId);
         return chapters;
     }
 
-    @Transactional(readOnly = true)
     public ChapterDTO findById(Long id) {
         logger.info("Fetching chapter with ID: {}", id);
-        ChapterDTO chapter = chapterRepository.findById(id)
-                .map(chapterMapper::toDto)
-                .orElseThrow(() -> {
-                    logger.error("Chapter not found with ID: {}", id);
-                    return new NotFoundException("Chapter not found");
-                });
+        ChapterDTO chapter = catalogReader.findChapter(id)
+                .orElseThrow(() -> new NotFoundException("Chapter not found"));
         logger.debug("Found chapter: {}", chapter);
         return chapter;
     }
 
+    public MultiGetResponseDTO<ChapterDTO> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = MultiGet.distinctIds(ids, maxMultiGetIds);
+        logger.info("Fetching {} chapters by ID", distinctIds.size());
+        MultiGetResponseDTO<ChapterDTO> result = MultiGet.collect(distinctIds, catalogReader.findChapters(distinctIds),
+                ChapterDTO::getId, Function.identity());
+        logger.debug("Found {} chapters, missing IDs: {}", result.getItems().size(), result.getNotFound());
+        return result;
+    }
+
     @Transactional
     public ChapterDTO create(ChapterDTO chapterDTO) {
         logger.info("Creating new chapter for course ID: {}", chapterDTO.getCourseId());
         logger.debug("Chapter data: {}", chapterDTO);
 
-        Course course = courseRepository.findById(chapterDTO.getCourseId())
+        Course course = courseRepository.findForUpdateById(chapterDTO.getCourseId())
                 .orElseThrow(() -> {
-                    logger.error("Course not found with ID: {}", chapterDTO.getCourseId());
+                    logger.debug("Course not found with ID: {}", chapterDTO.getCourseId());
                     return new NotFoundException("Course not found");
                 });
 
         Chapter chapter = chapterMapper.toEntity(chapterDTO);
         chapter.setCourse(course);
+        // Appended with a gap after the last chapter, whatever position the client sent
+        chapter.setOrderNumber(GapOrdering.after(
+                chapterRepository.findMaxOrderNumberByCourseId(course.getId()).orElse(null)));
 
         Chapter savedChapter = chapterRepository.save(chapter);
+        courseOutlineService.rebuild(course.getId());
+        changeEventService.record(ChangeEntityType.CHAPTER, savedChapter.getId(), course.getId(), ChangeAction.CREATED);
         logger.info("Chapter created successfully with ID: {}", savedChapter.getId());
 
-        return chapterMapper.toDto(savedChapter);
+        ChapterDTO created = chapterMapper.toDto(savedChapter);
+        created.setLessonCount(0L);
+        return created;
     }
 
     @Transactional
@@ -74,7 +101,7 @@ public class ChapterService {
 
         Chapter existingChapter = chapterRepository.findById(id)
                 .orElseThrow(() -> {
-                    logger.error("Chapter not found with ID: {}", id);
+                    logger.debug("Chapter not found with ID: {}", id);
                     return new NotFoundException("Chapter not found");
                 });
 
@@ -84,19 +111,37 @@ public class ChapterService {
         existingChapter.setOrderNumber(chapterDTO.getOrderNumber());
 
         Chapter updatedChapter = chapterRepository.save(existingChapter);
+        Optional<Long> courseId = chapterRepository.findCourseIdById(id);
+        courseId.ifPresent(courseOutlineService::rebuild);
+        changeEventService.record(ChangeEntityType.CHAPTER, id, courseId.orElse(null), ChangeAction.UPDATED);
         logger.info("Chapter with ID {} updated successfully", id);
 
-        return chapterMapper.toDto(updatedChapter);
+        // Read with the course id so only the course's lessons partition is scanned
+        ChapterDTO updated = chapterMapper.toDtoWithoutLessons(updatedChapter);
+        updated.setLessons(lessonRepository.findWithBodyByChapterIds(List.of(id), List.of(updated.getCourseId()))
+                .stream()
+                .map(lessonMapper::toDto)
+                .toList());
+        aggregateCountService.fillChapterCounts(List.of(updated));
+        return updated;
     }
 
     @Transactional
     public void delete(Long id) {
         logger.info("Deleting chapter with ID: {}", id);
         if (!chapterRepository.existsById(id)) {
-            logger.error("Chapter not found for deletion with ID: {}", id);
+            logger.debug("Chapter not found for deletion with ID: {}", id);
             throw new NotFoundException("Chapter not found");
         }
+        Optional<Long> courseId = chapterRepository.findCourseIdById(id);
+        // Removes the chapter's lessons from their one partition before the cascade runs
+        courseId.ifPresent(course -> {
+            contentBlobStore.releaseChapter(id, course);
+            lessonRepository.deleteByChapterId(id, course);
+        });
         chapterRepository.deleteById(id);
+        courseId.ifPresent(courseOutlineService::rebuild);
+        changeEventService.record(ChangeEntityType.CHAPTER, id, courseId.orElse(null), ChangeAction.DELETED);
         logger.info("Chapter with ID {} deleted successfully", id);
     }
 }
\ No newline at end of file
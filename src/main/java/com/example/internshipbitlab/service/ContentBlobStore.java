@@ -0,0 +1,136 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.model.ContentBlob;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Content-addressed storage of lesson bodies. A body is stored once per SHA-256 of its UTF-8 bytes, lessons
+ * reference it by hash and {@code ref_count} counts those references. Counts are changed in the caller's
+ * transaction; blobs that dropped to zero are deleted in the background once they have stayed unreferenced
+ * for the grace period. A blob row lock taken by {@link #acquire} keeps the collector away from it.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentBlobStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentBlobStore.class);
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE content_blobs SET ref_count = ref_count + 1, updated_at = now() WHERE hash = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO content_blobs (hash, content, ref_count, updated_at) VALUES (?, ?, 1, now()) " +
+                    "ON CONFLICT (hash) DO UPDATE SET ref_count = content_blobs.ref_count + 1, updated_at = now()";
+    private static final String RELEASE_SQL =
+            "UPDATE content_blobs SET ref_count = ref_count - 1, updated_at = now() WHERE hash = ?";
+    private static final String RELEASE_COURSE_SQL =
+            "UPDATE content_blobs b SET ref_count = b.ref_count - r.refs, updated_at = now() " +
+                    "FROM (SELECT content_hash, count(*) AS refs FROM lessons " +
+                    "      WHERE course_id = ? AND content_hash IS NOT NULL GROUP BY content_hash) r " +
+                    "WHERE b.hash = r.content_hash";
+    private static final String RELEASE_CHAPTER_SQL =
+            "UPDATE content_blobs b SET ref_count = b.ref_count - r.refs, updated_at = now() " +
+                    "FROM (SELECT content_hash, count(*) AS refs FROM lessons " +
+                    "      WHERE chapter_id = ? AND course_id = ? AND content_hash IS NOT NULL " +
+                    "      GROUP BY content_hash) r " +
+                    "WHERE b.hash = r.content_hash";
+    private static final String COLLECT_SQL =
+            "DELETE FROM content_blobs WHERE hash IN (" +
+                    "SELECT b.hash FROM content_blobs b " +
+                    "WHERE b.ref_count <= 0 AND b.updated_at < now() - ? * INTERVAL '1 millisecond' " +
+                    "AND NOT EXISTS (SELECT 1 FROM lessons l WHERE l.content_hash = b.hash) " +
+                    "LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.content-blobs.gc-grace:1h}")
+    private Duration gcGrace;
+
+    @Value("${app.content-blobs.gc-batch-size:1000}")
+    private int gcBatchSize;
+
+    public String hashOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Adds a reference to the blob holding {@code content}, storing it first if it is new.
+     * The body is only sent to the database when no blob with its hash exists yet.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ContentBlob acquire(String content) {
+        if (content == null) {
+            return null;
+        }
+        String hash = hashOf(content);
+        if (jdbcTemplate.update(ACQUIRE_SQL, hash) == 0) {
+            jdbcTemplate.update(INSERT_SQL, hash, content.getBytes(StandardCharsets.UTF_8));
+            logger.debug("Stored new content blob {}", hash);
+        }
+        return entityManager.getReference(ContentBlob.class, hash);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(ContentBlob blob) {
+        if (blob != null) {
+            jdbcTemplate.update(RELEASE_SQL, blob.getHash());
+        }
+    }
+
+    /**
+     * Drops the references of every lesson of a course; call before the lessons are deleted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseCourse(Long courseId) {
+        int blobs = jdbcTemplate.update(RELEASE_COURSE_SQL, courseId);
+        logger.debug("Released {} content blobs of course ID: {}", blobs, courseId);
+    }
+
+    /**
+     * Drops the references of every lesson of a chapter; call before the lessons are deleted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseChapter(Long chapterId, Long courseId) {
+        int blobs = jdbcTemplate.update(RELEASE_CHAPTER_SQL, chapterId, courseId);
+        logger.debug("Released {} content blobs of chapter ID: {}", blobs, chapterId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.content-blobs.gc-interval-ms:300000}")
+    public void collectGarbage() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(COLLECT_SQL, gcGrace.toMillis(), gcBatchSize);
+            total += deleted;
+        } while (deleted == gcBatchSize);
+        if (total > 0) {
+            logger.info("Collected {} unreferenced content blobs", total);
+        }
+    }
+}
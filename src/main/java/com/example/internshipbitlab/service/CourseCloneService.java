@@ -0,0 +1,127 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.exception.NotFoundException;
+import com.example.internshipbitlab.exception.ValidationException;
+import com.example.internshipbitlab.mapper.CourseMapper;
+import com.example.internshipbitlab.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Copies a course with all chapters and lessons in one SQL statement. New chapter ids are drawn from the
+ * sequence up front so lessons can be re-parented in the same statement; foreign keys are checked at its end.
+ * Lesson bodies are not copied: the copies reference the same content blobs, whose reference counts are
+ * raised in the statement. The outbox rows for every copied entity are written by the same statement.
+ * The copies get fresh ids, so no second-level cache entry can refer to them yet.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseCloneService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseCloneService.class);
+
+    private static final String CLONE_SQL = """
+            WITH params AS (
+                SELECT CAST(? AS timestamp) AS now, CAST(? AS varchar) AS name
+            ),
+            new_course AS (
+                INSERT INTO courses (name, description, created_at, updated_at)
+                SELECT COALESCE(p.name, left(c.name || ' (copy)', 255)), c.description, p.now, p.now
+                FROM courses c CROSS JOIN params p
+                WHERE c.id = ?
+                RETURNING id
+            ),
+            chapter_map AS (
+                SELECT ch.id AS old_id, nextval(pg_get_serial_sequence('chapters', 'id')) AS new_id
+                FROM chapters ch
+                WHERE ch.course_id = ? AND EXISTS (SELECT 1 FROM new_course)
+            ),
+            new_chapters AS (
+                INSERT INTO chapters (id, name, description, order_number, course_id, created_at, updated_at)
+                SELECT m.new_id, ch.name, ch.description, ch.order_number, nc.id, p.now, p.now
+                FROM chapter_map m
+                JOIN chapters ch ON ch.id = m.old_id
+                CROSS JOIN new_course nc
+                CROSS JOIN params p
+                RETURNING id
+            ),
+            new_lessons AS (
+                INSERT INTO lessons (name, description, content_hash, order_number, chapter_id, course_id,
+                                     created_at, updated_at)
+                SELECT l.name, l.description, l.content_hash, l.order_number, m.new_id, nc.id, p.now, p.now
+                FROM lessons l
+                JOIN chapter_map m ON m.old_id = l.chapter_id
+                CROSS JOIN new_course nc
+                CROSS JOIN params p
+                WHERE l.course_id = ?
+                RETURNING id, content_hash
+            ),
+            blob_refs AS (
+                UPDATE content_blobs b
+                SET ref_count = b.ref_count + r.refs, updated_at = p.now
+                FROM (SELECT content_hash, count(*) AS refs FROM new_lessons
+                      WHERE content_hash IS NOT NULL GROUP BY content_hash) r
+                CROSS JOIN params p
+                WHERE b.hash = r.content_hash
+            ),
+            events AS (
+                INSERT INTO outbox_events (entity_type, entity_id, course_id, action)
+                SELECT 'COURSE', nc.id, nc.id, 'CREATED' FROM new_course nc
+                UNION ALL
+                SELECT 'CHAPTER', ch.id, nc.id, 'CREATED' FROM new_chapters ch CROSS JOIN new_course nc
+                UNION ALL
+                SELECT 'LESSON', l.id, nc.id, 'CREATED' FROM new_lessons l CROSS JOIN new_course nc
+            )
+            SELECT nc.id,
+                   (SELECT count(*) FROM new_chapters) AS chapters,
+                   (SELECT count(*) FROM new_lessons) AS lessons
+            FROM new_course nc
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final CourseOutlineService courseOutlineService;
+    private final NegativeLookupCache negativeLookupCache;
+
+    @Transactional
+    public CourseDTO cloneCourse(Long id, String name) {
+        logger.info("Cloning course with ID: {}", id);
+        if (name != null && name.isBlank()) {
+            throw new ValidationException("Course name cannot be blank");
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Copied> copies = jdbcTemplate.query(CLONE_SQL, (rs, rowNum) ->
+                new Copied(rs.getLong("id"), rs.getLong("chapters"), rs.getLong("lessons")), now, name, id, id, id);
+        if (copies.isEmpty()) {
+            logger.debug("Course not found with ID: {}", id);
+            throw new NotFoundException("Course not found");
+        }
+
+        Copied copied = copies.get(0);
+        Long cloneId = copied.courseId();
+        logger.debug("Copied {} chapters and {} lessons", copied.chapters(), copied.lessons());
+        // Ids of the copies come from the sequences and may have been looked up before
+        negativeLookupCache.forgetAllAfterCommit();
+        courseOutlineService.rebuild(cloneId);
+        CourseDTO clone = courseRepository.findById(cloneId)
+                .map(courseMapper::toDto)
+                .orElseThrow(() -> new NotFoundException("Course not found"));
+        clone.setChapterCount(copied.chapters());
+        clone.setLessonCount(copied.lessons());
+        logger.info("Course {} cloned as course {}", id, cloneId);
+        return clone;
+    }
+
+    private record Copied(long courseId, long chapters, long lessons) {
+    }
+}
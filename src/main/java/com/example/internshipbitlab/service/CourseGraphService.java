@@ -0,0 +1,83 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.catalog.CatalogReader;
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.LessonDTO;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lookups behind the GraphQL schema, answered by the {@link CatalogReader} like the REST reads, so memory
+ * and snapshot modes serve GraphQL too. Every batch method is a single reader call however many parents
+ * it is asked for, so each level of a GraphQL selection costs one statement in database mode. Chapters are
+ * read without their lessons and lessons without their bodies; both are resolved through their own batches.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseGraphService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseGraphService.class);
+
+    private final CatalogReader catalogReader;
+
+    @Value("${app.multi-get.max-ids:100}")
+    private int maxIds;
+
+    public CourseDTO findCourse(Long id) {
+        return catalogReader.findCourse(id).orElse(null);
+    }
+
+    public List<CourseDTO> findCourses(List<Long> ids) {
+        List<Long> distinctIds = MultiGet.distinctIds(ids, maxIds);
+        return MultiGet.collect(distinctIds, catalogReader.findCourses(distinctIds),
+                CourseDTO::getId, Function.identity()).getItems();
+    }
+
+    public ChapterDTO findChapter(Long id) {
+        List<ChapterDTO> chapters = catalogReader.findChaptersWithoutLessons(List.of(id));
+        return chapters.isEmpty() ? null : chapters.get(0);
+    }
+
+    public LessonDTO findLesson(Long id) {
+        return catalogReader.findLesson(id).orElse(null);
+    }
+
+    public Map<Long, CourseDTO> findCoursesByIds(Collection<Long> ids) {
+        logger.debug("Batch loading {} courses", ids.size());
+        return catalogReader.findCourses(ids).stream()
+                .collect(Collectors.toMap(CourseDTO::getId, Function.identity(), (first, second) -> first));
+    }
+
+    public Map<Long, ChapterDTO> findChaptersByIds(Collection<Long> ids) {
+        logger.debug("Batch loading {} chapters", ids.size());
+        return catalogReader.findChaptersWithoutLessons(ids).stream()
+                .collect(Collectors.toMap(ChapterDTO::getId, Function.identity(), (first, second) -> first));
+    }
+
+    public Map<Long, List<ChapterDTO>> findChaptersByCourseIds(Collection<Long> courseIds) {
+        logger.debug("Batch loading chapters of {} courses", courseIds.size());
+        return catalogReader.findChaptersWithoutLessonsByCourses(courseIds).stream()
+                .collect(Collectors.groupingBy(ChapterDTO::getCourseId));
+    }
+
+    public Map<Long, List<LessonDTO>> findLessonsByChapterIds(Collection<Long> chapterIds, Collection<Long> courseIds) {
+        logger.debug("Batch loading lessons of {} chapters", chapterIds.size());
+        return catalogReader.findLessonsWithoutContentByChapters(chapterIds, courseIds).stream()
+                .collect(Collectors.groupingBy(LessonDTO::getChapterId));
+    }
+
+    public Map<Long, String> findContentsByLessonIds(Collection<Long> lessonIds) {
+        logger.debug("Batch loading content of {} lessons", lessonIds.size());
+        return catalogReader.findContents(lessonIds);
+    }
+}
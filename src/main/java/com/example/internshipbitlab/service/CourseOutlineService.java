@@ -0,0 +1,82 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.catalog.CatalogReader;
+import com.example.internshipbitlab.exception.NotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the pre-assembled {@code course_outlines} row of a course (chapters with lesson summaries,
+ * no lesson content). The outline is rebuilt in SQL inside the caller's write transaction and served
+ * as the stored JSON bytes. Rebuilds of one course are serialized on its row lock, so a rebuild always
+ * starts after the previous writer committed and the last outline written includes both writers' changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseOutlineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseOutlineService.class);
+
+    public static final String LOCK_COURSE_SQL = "SELECT id FROM courses WHERE id = ? FOR UPDATE";
+
+    public static final String REBUILD_SQL = """
+            INSERT INTO course_outlines (course_id, outline, updated_at)
+            SELECT c.id,
+                   jsonb_build_object(
+                       'id', c.id,
+                       'name', c.name,
+                       'description', c.description,
+                       'chapters', COALESCE((
+                           SELECT jsonb_agg(jsonb_build_object(
+                                      'id', ch.id,
+                                      'name', ch.name,
+                                      'description', ch.description,
+                                      'orderNumber', ch.order_number,
+                                      'lessons', COALESCE((
+                                          SELECT jsonb_agg(jsonb_build_object(
+                                                     'id', l.id,
+                                                     'name', l.name,
+                                                     'description', l.description,
+                                                     'orderNumber', l.order_number)
+                                                 ORDER BY l.order_number, l.id)
+                                          FROM lessons l
+                                          WHERE l.chapter_id = ch.id AND l.course_id = c.id), '[]'::jsonb))
+                                  ORDER BY ch.order_number, ch.id)
+                           FROM chapters ch
+                           WHERE ch.course_id = c.id), '[]'::jsonb)),
+                   now()
+            FROM courses c
+            WHERE c.id = ?
+            ON CONFLICT (course_id) DO UPDATE
+                SET outline = EXCLUDED.outline, updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogReader catalogReader;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public byte[] findOutlineJson(Long courseId) {
+        logger.info("Fetching outline for course ID: {}", courseId);
+        return catalogReader.findOutlineJson(courseId)
+                .orElseThrow(() -> new NotFoundException("Course not found"));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void rebuild(Long courseId) {
+        // Pending entity changes must be visible to the SQL below
+        entityManager.flush();
+        // The statement after the lock gets a fresh snapshot that includes the previous writer's commit
+        jdbcTemplate.queryForList(LOCK_COURSE_SQL, Long.class, courseId);
+        jdbcTemplate.update(REBUILD_SQL, courseId);
+        logger.debug("Rebuilt outline for course ID: {}", courseId);
+    }
+}
@@ -1,17 +1,25 @@
 package com.example.internshipbitlab.service;
 
+import com.example.internshipbitlab.catalog.CatalogReader;
 import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
 import com.example.internshipbitlab.exception.NotFoundException;
 import com.example.internshipbitlab.mapper.CourseMapper;
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
 import com.example.internshipbitlab.model.Course;
 import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -19,33 +27,44 @@ public class CourseService {
     private static final Logger logger = LoggerFactory.getLogger(CourseService.class);
 
     private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
     private final CourseMapper courseMapper;
+    private final CourseOutlineService courseOutlineService;
+    private final ChangeEventService changeEventService;
+    private final AggregateCountService aggregateCountService;
+    private final ContentBlobStore contentBlobStore;
+    private final CatalogReader catalogReader;
+
+    @Value("${app.multi-get.max-ids:100}")
+    private int maxMultiGetIds;
 
-    @Transactional(readOnly = true)
     public CourseDTO findById(Long id) {
         logger.info("Fetching course with ID: {}", id);
-        try {
-            CourseDTO course = courseRepository.findById(id)
-                    .map(courseMapper::toDto)
-                    .orElseThrow(() -> new NotFoundException("Course with id " + id + " not found"));
-            logger.debug("Found course: {}", course);
-            return course;
-        } catch (NotFoundException e) {
-            logger.error("Course not found with ID: {}", id, e);
-            throw e;
-        }
+        return catalogReader.findCourse(id)
+                .orElseThrow(() -> new NotFoundException("Course with id " + id + " not found"));
     }
 
-    @Transactional(readOnly = true)
     public List<CourseDTO> findAll() {
         logger.info("Fetching all courses");
-        List<CourseDTO> courses = courseRepository.findAll().stream()
-                .map(courseMapper::toDto)
-                .toList();
+        List<CourseDTO> courses = catalogReader.findAllCourses();
         logger.debug("Found {} courses", courses.size());
         return courses;
     }
 
+    public MultiGetResponseDTO<CourseDTO> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = MultiGet.distinctIds(ids, maxMultiGetIds);
+        logger.info("Fetching {} courses by ID", distinctIds.size());
+        MultiGetResponseDTO<CourseDTO> result = MultiGet.collect(distinctIds, catalogReader.findCourses(distinctIds),
+                CourseDTO::getId, Function.identity());
+        logger.debug("Found {} courses, missing IDs: {}", result.getItems().size(), result.getNotFound());
+        return result;
+    }
+
+    public CourseStatsDTO getStats() {
+        logger.info("Counting courses, chapters and lessons");
+        return catalogReader.getStats();
+    }
+
     @Transactional
     public CourseDTO create(CourseDTO courseDTO) {
         logger.info("Creating new course");
@@ -54,12 +73,18 @@ public class CourseService {
         try {
             Course course = courseMapper.toEntity(courseDTO);
             Course savedCourse = courseRepository.save(course);
+            courseOutlineService.rebuild(savedCourse.getId());
+            changeEventService.record(ChangeEntityType.COURSE, savedCourse.getId(), savedCourse.getId(), ChangeAction.CREATED);
             logger.info("Course created successfully with ID: {}", savedCourse.getId());
             logger.debug("Created course details: {}", savedCourse);
-            return courseMapper.toDto(savedCourse);
-        } catch (Exception e) {
+            CourseDTO created = courseMapper.toDto(savedCourse);
+            created.setChapterCount(0L);
+            created.setLessonCount(0L);
+            return created;
+        } catch (RuntimeException e) {
+            // Rethrown as is, so e.g. a constraint violation still maps to 409
             logger.error("Failed to create course: {}", e.getMessage(), e);
-            throw new RuntimeException("Course creation failed", e);
+            throw e;
         }
     }
 
@@ -74,15 +99,19 @@ public class CourseService {
 
             courseMapper.updateCourseFromDto(courseDTO, existingCourse);
             Course updatedCourse = courseRepository.save(existingCourse);
+            courseOutlineService.rebuild(id);
+            changeEventService.record(ChangeEntityType.COURSE, id, id, ChangeAction.UPDATED);
             logger.info("Course with ID {} updated successfully", id);
             logger.debug("Updated course details: {}", updatedCourse);
-            return courseMapper.toDto(updatedCourse);
+            CourseDTO updated = courseMapper.toDto(updatedCourse);
+            aggregateCountService.fillCourseCounts(List.of(updated));
+            return updated;
         } catch (NotFoundException e) {
-            logger.error("Course not found for update with ID: {}", id, e);
+            logger.debug("Course not found for update with ID: {}", id);
             throw e;
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             logger.error("Failed to update course with ID {}: {}", id, e.getMessage(), e);
-            throw new RuntimeException("Course update failed", e);
+            throw e;
         }
     }
 
@@ -93,14 +122,18 @@ public class CourseService {
             if (!courseRepository.existsById(id)) {
                 throw new NotFoundException("Course not found");
             }
+            // Removes the course's lessons from their one partition before the cascades run
+            contentBlobStore.releaseCourse(id);
+            lessonRepository.deleteByCourseId(id);
             courseRepository.deleteById(id);
+            changeEventService.record(ChangeEntityType.COURSE, id, id, ChangeAction.DELETED);
             logger.info("Course with ID {} deleted successfully", id);
         } catch (NotFoundException e) {
-            logger.error("Course not found for deletion with ID: {}", id, e);
+            logger.debug("Course not found for deletion with ID: {}", id);
             throw e;
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             logger.error("Failed to delete course with ID {}: {}", id, e.getMessage(), e);
-            throw new RuntimeException("Course deletion failed", e);
+            throw e;
         }
     }
 }
\ No newline at end of file
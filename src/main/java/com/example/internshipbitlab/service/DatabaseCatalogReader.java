@@ -0,0 +1,281 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.catalog.CatalogReader;
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.LessonContent;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.mapper.ChapterMapper;
+import com.example.internshipbitlab.mapper.CourseMapper;
+import com.example.internshipbitlab.mapper.LessonMapper;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import com.example.internshipbitlab.model.Chapter;
+import com.example.internshipbitlab.repository.ChapterRepository;
+import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The catalog as stored in the database, read through the repositories and the L2 cache. Single lookups
+ * consult the {@link NegativeLookupCache} and hot course reads go through the {@link ReadCoalescer}.
+ * This is the reader the services use unless a configuration declares a primary one in its place.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseCatalogReader implements CatalogReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseCatalogReader.class);
+
+    static final int CHUNK_SIZE = 1 << 20;
+    private static final String CONTENT_SLICE_SQL =
+            "SELECT substring(content FROM ? FOR ?) FROM content_blobs WHERE hash = ?";
+    private static final String OUTLINE_SQL =
+            "SELECT convert_to(outline::text, 'UTF8') FROM course_outlines WHERE course_id = ?";
+
+    private final CourseRepository courseRepository;
+    private final ChapterRepository chapterRepository;
+    private final LessonRepository lessonRepository;
+    private final CourseMapper courseMapper;
+    private final ChapterMapper chapterMapper;
+    private final LessonMapper lessonMapper;
+    private final AggregateCountService aggregateCountService;
+    private final ReadCoalescer readCoalescer;
+    private final NegativeLookupCache negativeLookupCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<CourseDTO> findCourse(long id) {
+        if (negativeLookupCache.isKnownMissing(ChangeEntityType.COURSE, id)) {
+            return Optional.empty();
+        }
+        return readCoalescer.read("course", id, () -> loadCourse(id));
+    }
+
+    private Optional<CourseDTO> loadCourse(long id) {
+        Optional<CourseDTO> course = courseRepository.findById(id).map(courseMapper::toDto);
+        course.ifPresentOrElse(found -> aggregateCountService.fillCourseCounts(List.of(found)), () -> {
+            logger.debug("Course not found with ID: {}", id);
+            negativeLookupCache.recordMiss(ChangeEntityType.COURSE, id);
+        });
+        return course;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseDTO> findAllCourses() {
+        List<CourseDTO> courses = courseRepository.findAll().stream()
+                .map(courseMapper::toDto)
+                .toList();
+        aggregateCountService.fillCourseCounts(courses);
+        return courses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseDTO> findCourses(Collection<Long> ids) {
+        List<CourseDTO> courses = courseRepository.findAllById(ids).stream()
+                .map(courseMapper::toDto)
+                .toList();
+        aggregateCountService.fillCourseCounts(courses);
+        return courses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChapterDTO> findChapter(long id) {
+        if (negativeLookupCache.isKnownMissing(ChangeEntityType.CHAPTER, id)) {
+            return Optional.empty();
+        }
+        Optional<ChapterDTO> chapter = chapterRepository.findById(id).map(chapterMapper::toDtoWithoutLessons);
+        chapter.ifPresentOrElse(found -> {
+            fillLessons(List.of(found));
+            aggregateCountService.fillChapterCounts(List.of(found));
+        }, () -> {
+            logger.debug("Chapter not found with ID: {}", id);
+            negativeLookupCache.recordMiss(ChangeEntityType.CHAPTER, id);
+        });
+        return chapter;
+    }
+
+    @Override
+    public List<ChapterDTO> findChaptersByCourse(long courseId) {
+        return readCoalescer.read("chapters-by-course", courseId, () -> loadChaptersByCourse(courseId));
+    }
+
+    private List<ChapterDTO> loadChaptersByCourse(long courseId) {
+        List<ChapterDTO> chapters = chapterRepository.findByCourseId(courseId).stream()
+                .map(chapterMapper::toDtoWithoutLessons)
+                .toList();
+        fillLessons(chapters);
+        aggregateCountService.fillChapterCounts(chapters);
+        return chapters;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChapterDTO> findChapters(Collection<Long> ids) {
+        List<ChapterDTO> chapters = chapterRepository.findAllById(ids).stream()
+                .map(chapterMapper::toDtoWithoutLessons)
+                .toList();
+        fillLessons(chapters);
+        aggregateCountService.fillChapterCounts(chapters);
+        return chapters;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChapterDTO> findChaptersWithoutLessons(Collection<Long> ids) {
+        return chapterRepository.findAllById(ids).stream()
+                .map(chapterMapper::toDtoWithoutLessons)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChapterDTO> findChaptersWithoutLessonsByCourses(Collection<Long> courseIds) {
+        return chapterRepository.findByCourseIdInOrderByOrderNumberAscIdAsc(courseIds).stream()
+                .map(chapterMapper::toDtoWithoutLessons)
+                .toList();
+    }
+
+    /**
+     * Loads the chapters' lessons in one query instead of walking {@link Chapter#getLessons()}: the collection
+     * is keyed by chapter_id alone, which would make PostgreSQL probe every lessons partition.
+     */
+    private void fillLessons(List<ChapterDTO> chapters) {
+        if (chapters.isEmpty()) {
+            return;
+        }
+        List<Long> chapterIds = chapters.stream().map(ChapterDTO::getId).distinct().toList();
+        List<Long> courseIds = chapters.stream().map(ChapterDTO::getCourseId).distinct().toList();
+        Map<Long, List<LessonDTO>> byChapter = lessonRepository.findWithBodyByChapterIds(chapterIds, courseIds).stream()
+                .map(lessonMapper::toDto)
+                .collect(Collectors.groupingBy(LessonDTO::getChapterId));
+        chapters.forEach(chapter -> chapter.setLessons(byChapter.getOrDefault(chapter.getId(), List.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LessonDTO> findLesson(long id) {
+        if (negativeLookupCache.isKnownMissing(ChangeEntityType.LESSON, id)) {
+            return Optional.empty();
+        }
+        Optional<LessonDTO> lesson = lessonRepository.findById(id).map(lessonMapper::toDto);
+        if (lesson.isEmpty()) {
+            logger.debug("Lesson not found with ID: {}", id);
+            negativeLookupCache.recordMiss(ChangeEntityType.LESSON, id);
+        }
+        return lesson;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LessonDTO> findLessonsByChapter(long chapterId) {
+        return lessonRepository.findByChapterId(chapterId).stream()
+                .map(lessonMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LessonDTO> findLessons(Collection<Long> ids) {
+        return lessonRepository.findWithBodyByIdIn(ids).stream()
+                .map(lessonMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LessonDTO> findLessonsWithoutContentByChapters(Collection<Long> chapterIds,
+                                                               Collection<Long> courseIds) {
+        return lessonRepository.findByChapterIds(chapterIds, courseIds).stream()
+                .map(lessonMapper::toDtoWithoutContent)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, String> findContents(Collection<Long> lessonIds) {
+        return lessonRepository.findContentsByIdIn(lessonIds).stream()
+                .collect(Collectors.toMap(LessonContent::getId, LessonContent::getContent));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LessonContentInfo> findContentInfo(long lessonId) {
+        if (negativeLookupCache.isKnownMissing(ChangeEntityType.LESSON, lessonId)) {
+            return Optional.empty();
+        }
+        Optional<LessonContentInfo> info = lessonRepository.findContentInfoById(lessonId);
+        if (info.isEmpty()) {
+            logger.debug("Lesson not found with ID: {}", lessonId);
+            negativeLookupCache.recordMiss(ChangeEntityType.LESSON, lessonId);
+        }
+        return info;
+    }
+
+    /**
+     * Reads the blob named by {@code info} in chunks, so a long body is never held in memory at once.
+     * Bodies are stored uncompressed, so each chunk only fetches the TOAST chunks it covers. The blob is addressed by hash, so the bytes always match the length and ETag of {@code info}.
+     */
+    @Override
+    public void writeContent(LessonContentInfo info, long offset, long length, OutputStream out) throws IOException {
+        if (info.getContentHash() == null) {
+            return;
+        }
+        long end = offset + length;
+        for (long position = offset; position < end; position += CHUNK_SIZE) {
+            int chunk = (int) Math.min(CHUNK_SIZE, end - position);
+            byte[] bytes = jdbcTemplate.query(CONTENT_SLICE_SQL, rs -> rs.next() ? rs.getBytes(1) : null,
+                    Math.toIntExact(position + 1), chunk, info.getContentHash());
+            if (bytes == null) {
+                throw new IllegalStateException("Content blob " + info.getContentHash() + " of lesson "
+                        + info.getId() + " disappeared while streaming");
+            }
+            out.write(bytes);
+            if (bytes.length < chunk) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<byte[]> findOutlineJson(long courseId) {
+        if (negativeLookupCache.isKnownMissing(ChangeEntityType.COURSE, courseId)) {
+            return Optional.empty();
+        }
+        List<byte[]> outlines = jdbcTemplate.query(OUTLINE_SQL, (rs, rowNum) -> rs.getBytes(1), courseId);
+        if (outlines.isEmpty()) {
+            logger.debug("Outline not found for course ID: {}", courseId);
+            negativeLookupCache.recordMiss(ChangeEntityType.COURSE, courseId);
+            return Optional.empty();
+        }
+        return Optional.of(outlines.get(0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CourseStatsDTO getStats() {
+        return CourseStatsDTO.builder()
+                .courseCount(courseRepository.count())
+                .chapterCount(chapterRepository.count())
+                .lessonCount(lessonRepository.count())
+                .build();
+    }
+}
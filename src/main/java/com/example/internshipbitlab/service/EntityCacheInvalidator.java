@@ -0,0 +1,69 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.config.CacheRegions;
+import com.example.internshipbitlab.model.Chapter;
+import com.example.internshipbitlab.model.Course;
+import com.example.internshipbitlab.model.Lesson;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Evicts second-level cache entries for rows written with plain SQL, which Hibernate does not see.
+ * Inside a transaction the eviction runs after commit, so a concurrent reader cannot re-cache the old rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityCacheInvalidator.class);
+    private static final String COURSE_CHAPTERS_ROLE = Course.class.getName() + ".chapters";
+    private static final String CHAPTER_LESSONS_ROLE = Chapter.class.getName() + ".lessons";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void lessonsChanged(Long chapterId, Collection<Long> lessonIds) {
+        afterCommit(() -> {
+            Cache cache = cache();
+            lessonIds.forEach(id -> cache.evictEntityData(Lesson.class, id));
+            cache.evictCollectionData(CHAPTER_LESSONS_ROLE, chapterId);
+            cache.evictQueryRegion(CacheRegions.LESSONS_BY_CHAPTER);
+            logger.debug("Evicted {} cached lessons of chapter {}", lessonIds.size(), chapterId);
+        });
+    }
+
+    public void chaptersChanged(Long courseId, Collection<Long> chapterIds) {
+        afterCommit(() -> {
+            Cache cache = cache();
+            chapterIds.forEach(id -> cache.evictEntityData(Chapter.class, id));
+            cache.evictCollectionData(COURSE_CHAPTERS_ROLE, courseId);
+            cache.evictQueryRegion(CacheRegions.CHAPTERS_BY_COURSE);
+            logger.debug("Evicted {} cached chapters of course {}", chapterIds.size(), courseId);
+        });
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
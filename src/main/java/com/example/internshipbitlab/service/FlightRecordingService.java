@@ -0,0 +1,197 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.config.JfrProperties;
+import com.example.internshipbitlab.dto.RecordingDTO;
+import com.example.internshipbitlab.exception.NotFoundException;
+import com.example.internshipbitlab.exception.ValidationException;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Starts, stops and dumps Flight Recorder recordings of this JVM. All recordings are listed and can be dumped,
+ * including one started on the command line, so an always-on recording can be dumped without restarting;
+ * only recordings started here can be stopped or closed. At most {@code max-recordings} of those are open at
+ * a time, and old dump files are deleted whenever a new one is written.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecordingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingService.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JfrProperties properties;
+    private final Set<Long> startedIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuousRecording() {
+        if (properties.isContinuous()) {
+            start("continuous");
+        }
+    }
+
+    public List<RecordingDTO> findAll() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(recording -> toDto(recording, null))
+                .toList();
+    }
+
+    public synchronized RecordingDTO start(String name) {
+        long open = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> startedIds.contains(recording.getId()))
+                .filter(recording -> recording.getState() != RecordingState.CLOSED)
+                .count();
+        if (open >= properties.getMaxRecordings()) {
+            throw new ValidationException("At most " + properties.getMaxRecordings()
+                    + " recordings can be open at a time, close one first");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(properties.getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Failed to read JFR settings " + properties.getSettings(), e);
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName(StringUtils.hasText(name) ? name : "recording");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.getMaxAge());
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.start();
+        startedIds.add(recording.getId());
+        logger.info("Started JFR recording {} ({}) with {} settings", recording.getId(), recording.getName(),
+                properties.getSettings());
+        return toDto(recording, null);
+    }
+
+    public RecordingDTO stop(long id) {
+        Recording recording = findStarted(id);
+        if (recording.getState() != RecordingState.RUNNING) {
+            throw new ValidationException("Recording " + id + " is not running");
+        }
+        recording.stop();
+        logger.info("Stopped JFR recording {}", id);
+        return toDto(recording, null);
+    }
+
+    public RecordingDTO dump(long id) {
+        Recording recording = find(id);
+        if (recording.getState() != RecordingState.RUNNING && recording.getState() != RecordingState.STOPPED) {
+            throw new ValidationException("Recording " + id + " has no data to dump");
+        }
+        String fileName = recording.getName().replaceAll("[^A-Za-z0-9_.-]", "_") + "-" + id + "-"
+                + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr";
+        Path file = properties.getDumpDirectory().toAbsolutePath().resolve(fileName);
+        try {
+            Files.createDirectories(file.getParent());
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording " + id + " to " + file, e);
+        }
+        logger.info("Dumped JFR recording {} to {}", id, file);
+        deleteOldDumps(file);
+        return toDto(recording, file);
+    }
+
+    public synchronized void close(long id) {
+        findStarted(id).close();
+        startedIds.remove(id);
+        logger.info("Closed JFR recording {}", id);
+    }
+
+    /**
+     * Deletes dump files older than the retention, then all but the newest {@code max-dumps}; never {@code kept}.
+     */
+    void deleteOldDumps(Path kept) {
+        Path directory = kept.getParent();
+        Instant expired = Instant.now().minus(properties.getDumpRetention());
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files.filter(file -> file.getFileName().toString().endsWith(".jfr"))
+                    .filter(file -> !file.equals(kept))
+                    .sorted(Comparator.comparing(FlightRecordingService::lastModified).reversed())
+                    .toList();
+        } catch (IOException e) {
+            logger.warn("Failed to list JFR dumps in {}: {}", directory, e.getMessage());
+            return;
+        }
+        int deleted = 0;
+        for (int i = 0; i < dumps.size(); i++) {
+            Path dump = dumps.get(i);
+            // The new dump takes one of the max-dumps places
+            if (i + 1 >= properties.getMaxDumps() || lastModified(dump).isBefore(expired)) {
+                try {
+                    Files.deleteIfExists(dump);
+                    deleted++;
+                } catch (IOException e) {
+                    logger.warn("Failed to delete JFR dump {}: {}", dump, e.getMessage());
+                }
+            }
+        }
+        if (deleted > 0) {
+            logger.info("Deleted {} old JFR dumps from {}", deleted, directory);
+        }
+    }
+
+    private static Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    /**
+     * A recording started by this service; others, e.g. one started on the command line, are left alone.
+     */
+    private Recording findStarted(long id) {
+        Recording recording = find(id);
+        if (!startedIds.contains(id)) {
+            throw new ValidationException("Recording " + id + " was not started by this service");
+        }
+        return recording;
+    }
+
+    private Recording find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("Recording not found"));
+    }
+
+    private RecordingDTO toDto(Recording recording, Path file) {
+        return RecordingDTO.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .stopTime(recording.getStopTime())
+                .size(recording.getSize())
+                .file(file != null ? file.toString() : null)
+                .build();
+    }
+}
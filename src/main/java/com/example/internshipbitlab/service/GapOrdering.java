@@ -0,0 +1,121 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.exception.ValidationException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse {@code order_number} assignment. Items that already appear in increasing key order keep their keys
+ * (the longest increasing run of the requested order), the rest are placed into the gaps between them.
+ * Moving one item between two neighbours therefore changes one row; only when a gap is exhausted is the
+ * whole list renumbered with a fresh {@link #GAP} spacing.
+ */
+final class GapOrdering {
+
+    static final int GAP = 1024;
+
+    private GapOrdering() {
+    }
+
+    /**
+     * The key of an item appended after {@code last}, the current largest key, or the first key if there is none.
+     */
+    static int after(Integer last) {
+        long next = (last == null ? 0L : last) + GAP;
+        if (next > Integer.MAX_VALUE) {
+            throw new ValidationException("No order number is left after " + last + "; reorder the list first");
+        }
+        return (int) next;
+    }
+
+    /**
+     * Returns the new key of every item in {@code orderedIds} whose key has to change, in the requested order.
+     */
+    static Map<Long, Integer> plan(List<Long> orderedIds, Map<Long, Integer> currentKeys) {
+        int size = orderedIds.size();
+        long[] current = new long[size];
+        for (int i = 0; i < size; i++) {
+            current[i] = currentKeys.get(orderedIds.get(i));
+        }
+
+        long[] assigned = current.clone();
+        if (!fillGaps(assigned, longestIncreasing(current))) {
+            for (int i = 0; i < size; i++) {
+                assigned[i] = (long) (i + 1) * GAP;
+            }
+        }
+
+        Map<Long, Integer> changes = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (assigned[i] != current[i]) {
+                changes.put(orderedIds.get(i), (int) assigned[i]);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Assigns evenly spaced keys to every run of items that are not kept, between the surrounding kept keys.
+     * Returns {@code false} if some run does not fit into its gap.
+     */
+    private static boolean fillGaps(long[] keys, boolean[] keep) {
+        long previous = 0;
+        int i = 0;
+        while (i < keys.length) {
+            if (keep[i]) {
+                previous = keys[i++];
+                continue;
+            }
+            int end = i;
+            while (end < keys.length && !keep[end]) {
+                end++;
+            }
+            int run = end - i;
+            long next = end < keys.length ? keys[end] : previous + (long) GAP * (run + 1);
+            if (next > Integer.MAX_VALUE || next - previous <= run) {
+                return false;
+            }
+            long step = (next - previous) / (run + 1);
+            for (int j = 0; j < run; j++) {
+                keys[i + j] = previous + step * (j + 1);
+            }
+            previous = keys[end - 1];
+            i = end;
+        }
+        return true;
+    }
+
+    /**
+     * Marks one longest strictly increasing subsequence of {@code keys} (patience sorting, O(n log n)).
+     */
+    private static boolean[] longestIncreasing(long[] keys) {
+        int[] tails = new int[keys.length];
+        int[] previous = new int[keys.length];
+        int length = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[tails[mid]] < keys[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] keep = new boolean[keys.length];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+}
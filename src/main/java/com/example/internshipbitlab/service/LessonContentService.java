@@ -0,0 +1,55 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.catalog.CatalogReader;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+
+/**
+ * Serves raw lesson bodies without materializing them as {@code String}s.
+ * From the database, byte ranges are cut in SQL and fetched in chunks of {@link DatabaseCatalogReader#CHUNK_SIZE}
+ * bytes, so at most one chunk of a body is held in memory (pgjdbc materializes each {@code bytea} value in full).
+ * Chunks are read by the content hash returned with the metadata; blobs are immutable, so the body always
+ * matches the length and ETag already sent even if the lesson is updated meanwhile.
+ */
+@Service
+@RequiredArgsConstructor
+public class LessonContentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LessonContentService.class);
+
+    private final CatalogReader catalogReader;
+
+    public LessonContentInfo getContentInfo(Long id) {
+        logger.info("Fetching content metadata for lesson ID: {}", id);
+        return catalogReader.findContentInfo(id)
+                .orElseThrow(() -> new NotFoundException("Lesson not found"));
+    }
+
+    public String buildETag(LessonContentInfo info) {
+        long version = info.getUpdatedAt() != null
+                ? info.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L;
+        return "\"" + info.getId() + "-" + version + "-" + info.getContentLength() + "\"";
+    }
+
+    /**
+     * Copies {@code length} bytes of the body described by {@code info} starting at {@code offset} to {@code out}.
+     */
+    public void writeContent(LessonContentInfo info, long offset, long length, OutputStream out) {
+        logger.debug("Streaming {} bytes of lesson {} from offset {}", length, info.getId(), offset);
+        try {
+            catalogReader.writeContent(info, offset, length, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream lesson content", e);
+        }
+    }
+}
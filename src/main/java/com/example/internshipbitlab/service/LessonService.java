@@ -1,19 +1,27 @@
 package com.example.internshipbitlab.service;
 
+import com.example.internshipbitlab.catalog.CatalogReader;
 import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
 import com.example.internshipbitlab.exception.NotFoundException;
 import com.example.internshipbitlab.mapper.LessonMapper;
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
 import com.example.internshipbitlab.model.Chapter;
+import com.example.internshipbitlab.model.ContentBlob;
 import com.example.internshipbitlab.model.Lesson;
 import com.example.internshipbitlab.repository.ChapterRepository;
 import com.example.internshipbitlab.repository.LessonRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -23,45 +31,59 @@ public class LessonService {
     private final LessonRepository lessonRepository;
     private final ChapterRepository chapterRepository;
     private final LessonMapper lessonMapper;
+    private final CourseOutlineService courseOutlineService;
+    private final ChangeEventService changeEventService;
+    private final ContentBlobStore contentBlobStore;
+    private final CatalogReader catalogReader;
+
+    @Value("${app.multi-get.max-ids:100}")
+    private int maxMultiGetIds;
 
-    @Transactional(readOnly = true)
     public List<LessonDTO> findAllByChapterId(Long chapterId) {
         logger.info("Fetching lessons for chapter ID: {}", chapterId);
-        List<Lesson> lessons = lessonRepository.findByChapterId(chapterId);
-        List<LessonDTO> lessonDTOs = lessons.stream()
-                .map(lessonMapper::toDto)
-                .toList();
-        logger.debug("Found {} lessons for chapter ID: {}", lessonDTOs.size(), chapterId);
-        return lessonDTOs;
+        List<LessonDTO> lessons = catalogReader.findLessonsByChapter(chapterId);
+        logger.debug("Found {} lessons for chapter ID: {}", lessons.size(), chapterId);
+        return lessons;
     }
 
-    @Transactional(readOnly = true)
     public LessonDTO findById(Long id) {
         logger.info("Fetching lesson with ID: {}", id);
-        LessonDTO lesson = lessonRepository.findById(id)
-                .map(lessonMapper::toDto)
-                .orElseThrow(() -> {
-                    logger.error("Lesson not found with ID: {}", id);
-                    return new NotFoundException("Lesson not found");
-                });
+        LessonDTO lesson = catalogReader.findLesson(id)
+                .orElseThrow(() -> new NotFoundException("Lesson not found"));
         logger.debug("Found lesson: {}", lesson);
         return lesson;
     }
 
+    public MultiGetResponseDTO<LessonDTO> findAllByIds(List<Long> ids) {
+        List<Long> distinctIds = MultiGet.distinctIds(ids, maxMultiGetIds);
+        logger.info("Fetching {} lessons by ID", distinctIds.size());
+        MultiGetResponseDTO<LessonDTO> result = MultiGet.collect(distinctIds, catalogReader.findLessons(distinctIds),
+                LessonDTO::getId, Function.identity());
+        logger.debug("Found {} lessons, missing IDs: {}", result.getItems().size(), result.getNotFound());
+        return result;
+    }
+
     @Transactional
     public LessonDTO create(LessonDTO lessonDTO) {
         logger.info("Creating new lesson for chapter ID: {}", lessonDTO.getChapterId());
         logger.debug("Lesson data: {}", lessonDTO);
 
-        Chapter chapter = chapterRepository.findById(lessonDTO.getChapterId())
+        Chapter chapter = chapterRepository.findForUpdateById(lessonDTO.getChapterId())
                 .orElseThrow(() -> {
-                    logger.error("Chapter not found with ID: {}", lessonDTO.getChapterId());
+                    logger.debug("Chapter not found with ID: {}", lessonDTO.getChapterId());
                     return new NotFoundException("Chapter not found");
                 });
 
         Lesson lesson = lessonMapper.toEntity(lessonDTO);
         lesson.setChapter(chapter);
+        lesson.setCourseId(chapter.getCourse().getId());
+        // Appended with a gap after the last lesson, whatever position the client sent
+        lesson.setOrderNumber(GapOrdering.after(
+                lessonRepository.findMaxOrderNumberByChapterId(chapter.getId(), lesson.getCourseId()).orElse(null)));
+        lesson.setBody(contentBlobStore.acquire(lessonDTO.getContent()));
         Lesson savedLesson = lessonRepository.save(lesson);
+        courseOutlineService.rebuild(savedLesson.getCourseId());
+        changeEventService.record(ChangeEntityType.LESSON, savedLesson.getId(), savedLesson.getCourseId(), ChangeAction.CREATED);
         logger.info("Lesson created successfully with ID: {}", savedLesson.getId());
         return lessonMapper.toDto(savedLesson);
     }
@@ -71,18 +93,24 @@ public class LessonService {
         logger.info("Updating lesson with ID: {}", id);
         logger.debug("Update data: {}", lessonDTO);
 
-        Lesson existingLesson = lessonRepository.findById(id)
+        Lesson existingLesson = lessonRepository.findForUpdateById(id)
                 .orElseThrow(() -> {
-                    logger.error("Lesson not found with ID: {}", id);
+                    logger.debug("Lesson not found with ID: {}", id);
                     return new NotFoundException("Lesson not found");
                 });
 
         existingLesson.setName(lessonDTO.getName());
         existingLesson.setDescription(lessonDTO.getDescription());
-        existingLesson.setContent(lessonDTO.getContent());
+        ContentBlob body = existingLesson.getBody();
+        if (!Objects.equals(contentBlobStore.hashOf(lessonDTO.getContent()), body != null ? body.getHash() : null)) {
+            existingLesson.setBody(contentBlobStore.acquire(lessonDTO.getContent()));
+            contentBlobStore.release(body);
+        }
         existingLesson.setOrderNumber(lessonDTO.getOrderNumber());
 
         Lesson updatedLesson = lessonRepository.save(existingLesson);
+        courseOutlineService.rebuild(updatedLesson.getCourseId());
+        changeEventService.record(ChangeEntityType.LESSON, id, updatedLesson.getCourseId(), ChangeAction.UPDATED);
         logger.info("Lesson with ID {} updated successfully", id);
         return lessonMapper.toDto(updatedLesson);
     }
@@ -90,11 +118,15 @@ public class LessonService {
     @Transactional
     public void delete(Long id) {
         logger.info("Deleting lesson with ID: {}", id);
-        if (!lessonRepository.existsById(id)) {
-            logger.error("Lesson not found for deletion with ID: {}", id);
-            throw new NotFoundException("Lesson not found");
-        }
-        lessonRepository.deleteById(id);
+        Lesson lesson = lessonRepository.findForUpdateById(id)
+                .orElseThrow(() -> {
+                    logger.debug("Lesson not found for deletion with ID: {}", id);
+                    return new NotFoundException("Lesson not found");
+                });
+        lessonRepository.delete(lesson);
+        contentBlobStore.release(lesson.getBody());
+        courseOutlineService.rebuild(lesson.getCourseId());
+        changeEventService.record(ChangeEntityType.LESSON, id, lesson.getCourseId(), ChangeAction.DELETED);
         logger.info("Lesson with ID {} deleted successfully", id);
     }
 }
\ No newline at end of file
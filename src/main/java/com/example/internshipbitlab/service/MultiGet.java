@@ -0,0 +1,56 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
+import com.example.internshipbitlab.exception.ValidationException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Shared steps of the {@code ?ids=} endpoints: the id list is de-duplicated and capped before the single
+ * lookup query, and the result keeps the requested order with missing ids reported instead of a 404.
+ */
+final class MultiGet {
+
+    private MultiGet() {
+    }
+
+    static List<Long> distinctIds(List<Long> ids, int maxIds) {
+        List<Long> distinct = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinct.isEmpty()) {
+            throw new ValidationException("At least one id is required");
+        }
+        if (distinct.size() > maxIds) {
+            throw new ValidationException("At most " + maxIds + " ids can be requested at once");
+        }
+        return distinct;
+    }
+
+    static <E, D> MultiGetResponseDTO<D> collect(List<Long> ids, List<E> entities,
+                                                Function<E, Long> idOf, Function<E, D> toDto) {
+        Map<Long, E> byId = new HashMap<>();
+        entities.forEach(entity -> byId.putIfAbsent(idOf.apply(entity), entity));
+
+        List<D> items = new ArrayList<>(byId.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : ids) {
+            E entity = byId.get(id);
+            if (entity != null) {
+                items.add(toDto.apply(entity));
+            } else {
+                notFound.add(id);
+            }
+        }
+        return MultiGetResponseDTO.<D>builder()
+                .items(items)
+                .notFound(notFound)
+                .build();
+    }
+}
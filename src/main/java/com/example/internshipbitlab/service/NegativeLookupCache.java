@@ -0,0 +1,73 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.datasource.ReadWriteRoutingDataSource;
+import com.example.internshipbitlab.datasource.ReadYourWritesContext;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Short-lived memory of ids that were just looked up and not found, so repeated misses are answered
+ * without a transaction or query. Entries are dropped once the creation of an entity with that id commits
+ * on this instance; elsewhere they expire after the TTL. Only misses read from the primary are recorded,
+ * and requests pinned to the primary after a write never answer from the cache, so a replica that has
+ * not caught up yet cannot hide a just-created entity.
+ */
+@Component
+public class NegativeLookupCache {
+
+    private final Cache<MissKey, Boolean> misses;
+
+    public NegativeLookupCache(@Value("${app.negative-cache.ttl:5s}") Duration ttl,
+                               @Value("${app.negative-cache.max-size:100000}") long maxSize) {
+        this.misses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isKnownMissing(ChangeEntityType type, Long id) {
+        return id != null && !ReadYourWritesContext.isPinnedToPrimary()
+                && misses.getIfPresent(new MissKey(type, id)) != null;
+    }
+
+    public void recordMiss(ChangeEntityType type, Long id) {
+        if (id != null && !ReadWriteRoutingDataSource.isReplicaSelected()) {
+            misses.put(new MissKey(type, id), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Drops a recorded miss once the current transaction commits; before that a concurrent lookup
+     * would record the miss again.
+     */
+    public void forgetAfterCommit(ChangeEntityType type, Long id) {
+        afterCommit(() -> misses.invalidate(new MissKey(type, id)));
+    }
+
+    public void forgetAllAfterCommit() {
+        afterCommit(misses::invalidateAll);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record MissKey(ChangeEntityType type, Long id) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.datasource.ReadYourWritesContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for hot course reads: concurrent callers for the same key share one read-only transaction
+ * and its result instead of each running the same queries. Waiting for a shared load is bounded, after which
+ * the caller loads on its own. When a write to a course commits, its in-flight loads are detached so that
+ * later callers start a fresh load and never receive data read before the write.
+ * Shared results are handed to every caller as is and must not be modified.
+ */
+@Component
+public class ReadCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadCoalescer.class);
+
+    private final ConcurrentHashMap<FlightKey, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Duration maxWait;
+
+    public ReadCoalescer(PlatformTransactionManager transactionManager,
+                         @Value("${app.coalescing.enabled:true}") boolean enabled,
+                         @Value("${app.coalescing.max-wait:2s}") Duration maxWait) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Runs {@code loader} in a read-only transaction, or joins an identical load of the same course already in flight.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String name, Long courseId, Supplier<T> loader) {
+        // Requests that already wrote, or run inside a transaction, must see their own changes
+        if (!enabled || courseId == null || ReadYourWritesContext.isPinnedToPrimary()
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return load(loader);
+        }
+
+        FlightKey key = new FlightKey(name, courseId);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = flights.putIfAbsent(key, flight);
+        if (existing == null) {
+            try {
+                T result = load(loader);
+                flight.complete(result);
+                return result;
+            } catch (RuntimeException e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                flights.remove(key, flight);
+            }
+        }
+
+        try {
+            return (T) existing.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shared load failed", e.getCause());
+        } catch (TimeoutException e) {
+            logger.debug("Shared load of {} for course {} took longer than {}, loading separately", name, courseId, maxWait);
+            return load(loader);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a shared load", e);
+        }
+    }
+
+    /**
+     * Detaches the in-flight loads of a course once the current transaction commits.
+     */
+    public void invalidateAfterCommit(Long courseId) {
+        if (courseId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(courseId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(courseId);
+            }
+        });
+    }
+
+    void invalidate(Long courseId) {
+        flights.keySet().removeIf(key -> key.courseId().equals(courseId));
+    }
+
+    private <T> T load(Supplier<T> loader) {
+        return readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    private record FlightKey(String name, Long courseId) {
+    }
+}
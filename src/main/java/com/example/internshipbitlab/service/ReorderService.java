@@ -0,0 +1,140 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.OrderPositionDTO;
+import com.example.internshipbitlab.exception.NotFoundException;
+import com.example.internshipbitlab.exception.ValidationException;
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies a drag-and-drop order to the chapters of a course or the lessons of a chapter.
+ * The parent row is locked for the duration, new keys come from {@link GapOrdering} and all changed rows
+ * are written by one {@code UPDATE ... FROM unnest(...)} statement. The deferrable unique constraints on
+ * {@code (course_id, order_number)} and {@code (chapter_id, course_id, order_number)} are checked at the end of that
+ * statement, so swapping keys inside it does not conflict.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReorderService.class);
+
+    private static final String LOCK_COURSE_SQL = "SELECT id FROM courses WHERE id = ? FOR UPDATE";
+    private static final String LOCK_CHAPTER_SQL = "SELECT course_id FROM chapters WHERE id = ? FOR UPDATE";
+    private static final String CHAPTER_KEYS_SQL =
+            "SELECT id, order_number FROM chapters WHERE course_id = ? FOR UPDATE";
+    private static final String LESSON_KEYS_SQL =
+            "SELECT id, order_number FROM lessons WHERE chapter_id = ? AND course_id = ? FOR UPDATE";
+    private static final String UPDATE_CHAPTERS_SQL =
+            "UPDATE chapters c SET order_number = v.order_number, updated_at = ? " +
+                    "FROM unnest(CAST(? AS bigint[]), CAST(? AS integer[])) AS v(id, order_number) " +
+                    "WHERE c.id = v.id AND c.course_id = ?";
+    private static final String UPDATE_LESSONS_SQL =
+            "UPDATE lessons l SET order_number = v.order_number, updated_at = ? " +
+                    "FROM unnest(CAST(? AS bigint[]), CAST(? AS integer[])) AS v(id, order_number) " +
+                    "WHERE l.id = v.id AND l.chapter_id = ? AND l.course_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CourseOutlineService courseOutlineService;
+    private final ChangeEventService changeEventService;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @Transactional
+    public List<OrderPositionDTO> reorderChapters(Long courseId, List<Long> orderedIds) {
+        logger.info("Reordering {} chapters of course ID: {}", orderedIds.size(), courseId);
+        if (jdbcTemplate.queryForList(LOCK_COURSE_SQL, Long.class, courseId).isEmpty()) {
+            logger.debug("Course not found with ID: {}", courseId);
+            throw new NotFoundException("Course not found");
+        }
+
+        Map<Long, Integer> keys = loadKeys(CHAPTER_KEYS_SQL, courseId);
+        validate(keys, orderedIds, "chapters");
+        Map<Long, Integer> changes = GapOrdering.plan(orderedIds, keys);
+        if (!changes.isEmpty()) {
+            applyKeys(UPDATE_CHAPTERS_SQL, changes, courseId);
+            courseOutlineService.rebuild(courseId);
+            changeEventService.recordAll(ChangeEntityType.CHAPTER, changes.keySet(), courseId, ChangeAction.UPDATED);
+            entityCacheInvalidator.chaptersChanged(courseId, changes.keySet());
+        }
+        logger.info("Reordered chapters of course ID {}: {} rows changed", courseId, changes.size());
+        keys.putAll(changes);
+        return positions(orderedIds, keys);
+    }
+
+    @Transactional
+    public List<OrderPositionDTO> reorderLessons(Long chapterId, List<Long> orderedIds) {
+        logger.info("Reordering {} lessons of chapter ID: {}", orderedIds.size(), chapterId);
+        List<Long> courseIds = jdbcTemplate.queryForList(LOCK_CHAPTER_SQL, Long.class, chapterId);
+        if (courseIds.isEmpty()) {
+            logger.debug("Chapter not found with ID: {}", chapterId);
+            throw new NotFoundException("Chapter not found");
+        }
+        Long courseId = courseIds.get(0);
+
+        Map<Long, Integer> keys = loadKeys(LESSON_KEYS_SQL, chapterId, courseId);
+        validate(keys, orderedIds, "lessons");
+        Map<Long, Integer> changes = GapOrdering.plan(orderedIds, keys);
+        if (!changes.isEmpty()) {
+            applyKeys(UPDATE_LESSONS_SQL, changes, chapterId, courseId);
+            courseOutlineService.rebuild(courseId);
+            changeEventService.recordAll(ChangeEntityType.LESSON, changes.keySet(), courseId, ChangeAction.UPDATED);
+            entityCacheInvalidator.lessonsChanged(chapterId, changes.keySet());
+        }
+        logger.info("Reordered lessons of chapter ID {}: {} rows changed", chapterId, changes.size());
+        keys.putAll(changes);
+        return positions(orderedIds, keys);
+    }
+
+    private Map<Long, Integer> loadKeys(String sql, Object... scope) {
+        Map<Long, Integer> keys = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            keys.put(rs.getLong("id"), rs.getInt("order_number"));
+        }, scope);
+        return keys;
+    }
+
+    private void validate(Map<Long, Integer> currentKeys, List<Long> orderedIds, String items) {
+        if (orderedIds.size() != currentKeys.size()
+                || new HashSet<>(orderedIds).size() != orderedIds.size()
+                || !currentKeys.keySet().containsAll(orderedIds)) {
+            logger.debug("Reorder request does not list each of the {} {} exactly once", currentKeys.size(), items);
+            throw new ValidationException(
+                    "Reorder must list each of the " + currentKeys.size() + " " + items + " exactly once");
+        }
+    }
+
+    private List<OrderPositionDTO> positions(List<Long> orderedIds, Map<Long, Integer> keys) {
+        return orderedIds.stream()
+                .map(id -> new OrderPositionDTO(id, keys.get(id)))
+                .toList();
+    }
+
+    private void applyKeys(String sql, Map<Long, Integer> changes, Long... scope) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            ps.setTimestamp(1, now);
+            ps.setArray(2, connection.createArrayOf("bigint", changes.keySet().toArray()));
+            ps.setArray(3, connection.createArrayOf("integer", changes.values().toArray()));
+            for (int i = 0; i < scope.length; i++) {
+                ps.setLong(4 + i, scope[i]);
+            }
+            return ps;
+        });
+        logger.debug("Updated order numbers of {} rows", updated);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.ChangePosition;
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.DeletedEntityDTO;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.dto.SyncResponseDTO;
+import com.example.internshipbitlab.mapper.ChapterMapper;
+import com.example.internshipbitlab.mapper.CourseMapper;
+import com.example.internshipbitlab.mapper.LessonMapper;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import com.example.internshipbitlab.model.Chapter;
+import com.example.internshipbitlab.model.Course;
+import com.example.internshipbitlab.model.Lesson;
+import com.example.internshipbitlab.repository.ChapterRepository;
+import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental sync of the course graph. Changed rows and the trigger-maintained {@code deleted_entities} log
+ * are paged in commit order ({@link ChangeCursor}) through their {@code (xact_id, id)} indexes; rows of
+ * transactions newer than the oldest one still in flight are left for the next call, so a late commit cannot be
+ * skipped by the cursor. A deleted course or chapter implies that all of its children are deleted too.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    private static final String DELETED_SQL =
+            "SELECT id, CAST(CAST(xact_id AS text) AS bigint) AS xact_id, entity_type, entity_id, course_id, deleted_at " +
+                    "FROM deleted_entities " +
+                    "WHERE (xact_id, id) > (CAST(CAST(? AS text) AS xid8), ?) " +
+                    "AND xact_id < pg_snapshot_xmin(pg_current_snapshot()) " +
+                    "ORDER BY xact_id, id LIMIT ?";
+    private static final String CURRENT_XACT_SQL =
+            "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)";
+
+    private final CourseRepository courseRepository;
+    private final ChapterRepository chapterRepository;
+    private final LessonRepository lessonRepository;
+    private final CourseMapper courseMapper;
+    private final ChapterMapper chapterMapper;
+    private final LessonMapper lessonMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.sync.page-size:500}")
+    private int defaultPageSize;
+
+    @Value("${app.sync.max-page-size:2000}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public SyncResponseDTO sync(String since, Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        SyncToken token = since == null || since.isBlank()
+                ? SyncToken.initial(currentCursor())
+                : SyncToken.parse(since);
+        logger.info("Syncing changes with page size {}", pageSize);
+
+        ChangeCursor coursesFrom = token.getCourses();
+        ChangeCursor chaptersFrom = token.getChapters();
+        ChangeCursor lessonsFrom = token.getLessons();
+        List<ChangePosition> coursePositions = courseRepository.findChangedAfter(
+                coursesFrom.xactId(), coursesFrom.id(), pageSize);
+        List<ChangePosition> chapterPositions = chapterRepository.findChangedAfter(
+                chaptersFrom.xactId(), chaptersFrom.id(), pageSize);
+        List<ChangePosition> lessonPositions = lessonRepository.findChangedAfter(
+                lessonsFrom.xactId(), lessonsFrom.id(), pageSize);
+        // Rows deleted since their position was read are reported by a later deletion page
+        List<Course> courses = inPositionOrder(coursePositions, courseRepository.findAllById(ids(coursePositions)),
+                Course::getId);
+        List<Chapter> chapters = inPositionOrder(chapterPositions,
+                chapterRepository.findAllById(ids(chapterPositions)), Chapter::getId);
+        List<Lesson> lessons = inPositionOrder(lessonPositions, lessonRepository.findAllById(ids(lessonPositions)),
+                Lesson::getId);
+
+        List<DeletedEntityDTO> deleted = new ArrayList<>();
+        ChangeCursor deletions = token.getDeletions();
+        for (DeletedRow row : jdbcTemplate.query(DELETED_SQL, (rs, rowNum) -> new DeletedRow(
+                new ChangeCursor(rs.getLong("xact_id"), rs.getLong("id")),
+                DeletedEntityDTO.builder()
+                        .entityType(ChangeEntityType.valueOf(rs.getString("entity_type")))
+                        .entityId(rs.getLong("entity_id"))
+                        .courseId(rs.getObject("course_id", Long.class))
+                        .deletedAt(rs.getTimestamp("deleted_at").toLocalDateTime())
+                        .build()), deletions.xactId(), deletions.id(), pageSize)) {
+            deleted.add(row.entity());
+            deletions = row.cursor();
+        }
+
+        SyncToken next = new SyncToken(
+                lastCursor(coursePositions, coursesFrom),
+                lastCursor(chapterPositions, chaptersFrom),
+                lastCursor(lessonPositions, lessonsFrom),
+                deletions);
+        boolean hasMore = coursePositions.size() == pageSize || chapterPositions.size() == pageSize
+                || lessonPositions.size() == pageSize || deleted.size() == pageSize;
+
+        List<CourseDTO> courseDTOs = courses.stream().map(courseMapper::toDto).toList();
+        List<ChapterDTO> chapterDTOs = chapters.stream().map(chapterMapper::toDtoWithoutLessons).toList();
+        List<LessonDTO> lessonDTOs = lessons.stream().map(lessonMapper::toDto).toList();
+        logger.debug("Sync page: {} courses, {} chapters, {} lessons, {} deletions, more: {}",
+                courseDTOs.size(), chapterDTOs.size(), lessonDTOs.size(), deleted.size(), hasMore);
+
+        return SyncResponseDTO.builder()
+                .courses(courseDTOs)
+                .chapters(chapterDTOs)
+                .lessons(lessonDTOs)
+                .deleted(deleted)
+                .nextToken(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private ChangeCursor currentCursor() {
+        Long xactId = jdbcTemplate.queryForObject(CURRENT_XACT_SQL, Long.class);
+        return new ChangeCursor(xactId != null ? xactId : 0L, 0L);
+    }
+
+    private static List<Long> ids(List<ChangePosition> positions) {
+        return positions.stream().map(ChangePosition::getId).toList();
+    }
+
+    private static <T> List<T> inPositionOrder(List<ChangePosition> positions, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return positions.stream().map(position -> byId.get(position.getId())).filter(Objects::nonNull).toList();
+    }
+
+    private static ChangeCursor lastCursor(List<ChangePosition> positions, ChangeCursor from) {
+        if (positions.isEmpty()) {
+            return from;
+        }
+        ChangePosition last = positions.get(positions.size() - 1);
+        return new ChangeCursor(last.getXactId(), last.getId());
+    }
+
+    private record DeletedRow(ChangeCursor cursor, DeletedEntityDTO entity) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.exception.ValidationException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token of the delta sync: one commit-order position ({@link ChangeCursor}) per
+ * entity table plus one for the deletion log.
+ */
+@Getter
+@AllArgsConstructor
+public class SyncToken {
+
+    private static final String VERSION = "v2";
+
+    private final ChangeCursor courses;
+    private final ChangeCursor chapters;
+    private final ChangeCursor lessons;
+    private final ChangeCursor deletions;
+
+    public static SyncToken initial(ChangeCursor currentDeletions) {
+        return new SyncToken(ChangeCursor.START, ChangeCursor.START, ChangeCursor.START, currentDeletions);
+    }
+
+    public static SyncToken parse(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(";");
+            if (parts.length != 9 || !VERSION.equals(parts[0])) {
+                throw new ValidationException("Invalid sync token");
+            }
+            return new SyncToken(cursor(parts, 1), cursor(parts, 3), cursor(parts, 5), cursor(parts, 7));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid sync token");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(";", VERSION,
+                String.valueOf(courses.xactId()), String.valueOf(courses.id()),
+                String.valueOf(chapters.xactId()), String.valueOf(chapters.id()),
+                String.valueOf(lessons.xactId()), String.valueOf(lessons.id()),
+                String.valueOf(deletions.xactId()), String.valueOf(deletions.id()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ChangeCursor cursor(String[] parts, int index) {
+        return new ChangeCursor(Long.parseLong(parts[index]), Long.parseLong(parts[index + 1]));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.internshipbitlab.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Scope;
+import org.slf4j.MDC;
+
+/**
+ * Makes a span current and exposes its ids to the logs as the {@code traceId} and {@code spanId} MDC keys;
+ * closing it restores the previous span and MDC values.
+ */
+final class SpanScope implements AutoCloseable {
+
+    static final String TRACE_ID = "traceId";
+    static final String SPAN_ID = "spanId";
+
+    private final Scope scope;
+    private final String previousTraceId;
+    private final String previousSpanId;
+
+    private SpanScope(Span span) {
+        this.scope = span.makeCurrent();
+        this.previousTraceId = MDC.get(TRACE_ID);
+        this.previousSpanId = MDC.get(SPAN_ID);
+        SpanContext context = span.getSpanContext();
+        if (context.isValid()) {
+            MDC.put(TRACE_ID, context.getTraceId());
+            MDC.put(SPAN_ID, context.getSpanId());
+        }
+    }
+
+    static SpanScope enter(Span span) {
+        return new SpanScope(span);
+    }
+
+    @Override
+    public void close() {
+        restore(TRACE_ID, previousTraceId);
+        restore(SPAN_ID, previousSpanId);
+        scope.close();
+    }
+
+    private static void restore(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.internshipbitlab.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+
+/**
+ * Counts the JDBC statements executed on the current thread, so a span can report how many ran inside it.
+ */
+final class StatementCounter {
+
+    static final AttributeKey<Long> STATEMENT_COUNT = AttributeKey.longKey("db.statement_count");
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private StatementCounter() {
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    static long current() {
+        return COUNT.get()[0];
+    }
+}
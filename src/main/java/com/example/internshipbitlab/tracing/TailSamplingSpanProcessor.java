@@ -0,0 +1,130 @@
+package com.example.internshipbitlab.tracing;
+
+import com.example.internshipbitlab.exception.ThrottledLog;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tail sampling in front of the exporting processor: ended spans are held per trace until the local root
+ * span ends, and the whole trace is passed on only if the root took at least the latency threshold, any
+ * span failed, or it falls in the random share kept of the rest. Only traces that head sampling recorded
+ * reach this processor. Traces whose root never ends here are dropped once {@code maxTraces} are pending;
+ * those are counted and logged, since a steady count means the limit also evicts traces that were still running.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TailSamplingSpanProcessor.class);
+
+    // At most one line a minute, then 1 in 10000 evictions
+    private final ThrottledLog evictionLog = new ThrottledLog(60_000, 1, 10_000);
+    private final AtomicLong evictedTraces = new AtomicLong();
+    private final SpanProcessor delegate;
+    private final long latencyThresholdNanos;
+    private final double keepRatio;
+    private final Map<String, List<ReadableSpan>> pending;
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, Duration latencyThreshold, double keepRatio,
+                                     int maxTraces) {
+        this.delegate = delegate;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.keepRatio = keepRatio;
+        this.pending = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ReadableSpan>> eldest) {
+                if (size() <= maxTraces) {
+                    return false;
+                }
+                long evicted = evictedTraces.incrementAndGet();
+                if (evictionLog.shouldLog()) {
+                    logger.warn("Dropped pending trace {} with {} spans, {} pending traces is the limit "
+                                    + "({} dropped so far, {} similar suppressed)", eldest.getKey(),
+                            eldest.getValue().size(), maxTraces, evicted, evictionLog.drainSuppressed());
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Traces dropped because {@code maxTraces} others were pending before their root span ended.
+     */
+    public long getEvictedTraces() {
+        return evictedTraces.get();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        String traceId = span.getSpanContext().getTraceId();
+        SpanContext parent = span.getParentSpanContext();
+        List<ReadableSpan> trace;
+        synchronized (pending) {
+            if (parent.isValid() && !parent.isRemote()) {
+                pending.computeIfAbsent(traceId, id -> new ArrayList<>()).add(span);
+                return;
+            }
+            trace = pending.remove(traceId);
+        }
+        if (trace == null) {
+            trace = List.of();
+        }
+        if (keep(span, trace)) {
+            trace.forEach(delegate::onEnd);
+            delegate.onEnd(span);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    private boolean keep(ReadableSpan root, List<ReadableSpan> children) {
+        if (root.getLatencyNanos() >= latencyThresholdNanos || failed(root)) {
+            return true;
+        }
+        for (ReadableSpan child : children) {
+            if (failed(child)) {
+                return true;
+            }
+        }
+        return keepRatio > 0 && ThreadLocalRandom.current().nextDouble() < keepRatio;
+    }
+
+    private static boolean failed(ReadableSpan span) {
+        return span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.internshipbitlab.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * One span per controller, service, repository and mapper call, named {@code Type.method} and tagged with its
+ * layer and the number of JDBC statements it ran. It runs outside the transaction advice, so service spans
+ * include the commit. Repository and mapper calls, the most frequent ones, are not wrapped at all when the
+ * current trace is not sampled.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+    private static final AttributeKey<String> LAYER = AttributeKey.stringKey("app.layer");
+
+    private final Tracer tracer;
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)"
+            + " || within(@org.springframework.stereotype.Controller *)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller", targetName(joinPoint));
+    }
+
+    @Around("execution(* com.example.internshipbitlab.service.*Service.*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service", targetName(joinPoint));
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!isSampled()) {
+            return joinPoint.proceed();
+        }
+        // Repositories are JDK proxies over SimpleJpaRepository, the interface is the useful name
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+        String type = interfaces.length > 0 ? interfaces[0].getSimpleName()
+                : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return trace(joinPoint, "repository", type);
+    }
+
+    @Around("execution(* com.example.internshipbitlab.mapper.*Mapper.*(..))")
+    public Object traceMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!isSampled()) {
+            return joinPoint.proceed();
+        }
+        return trace(joinPoint, "mapper", targetName(joinPoint));
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer, String type) throws Throwable {
+        Span span = tracer.spanBuilder(type + "." + joinPoint.getSignature().getName())
+                .setAttribute(LAYER, layer)
+                .startSpan();
+        long statements = StatementCounter.current();
+        try (SpanScope ignored = SpanScope.enter(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.setAttribute(StatementCounter.STATEMENT_COUNT, StatementCounter.current() - statements);
+            span.end();
+        }
+    }
+
+    private static boolean isSampled() {
+        return Span.current().getSpanContext().isSampled();
+    }
+
+    private static String targetName(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
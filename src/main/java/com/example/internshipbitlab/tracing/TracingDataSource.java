@@ -0,0 +1,127 @@
+package com.example.internshipbitlab.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Wraps connections so every executed statement gets a client span with its SQL (parameters are not
+ * recorded) and is counted for the enclosing span's {@code db.statement_count}. Time spent fetching further
+ * rows of a streamed result set falls outside the statement span.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    private static final AttributeKey<String> DB_STATEMENT = AttributeKey.stringKey("db.statement");
+    private static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey("db.operation");
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final Tracer tracer;
+    private final int maxStatementLength;
+
+    public TracingDataSource(DataSource targetDataSource, Tracer tracer, int maxStatementLength) {
+        super(targetDataSource);
+        this.tracer = tracer;
+        this.maxStatementLength = maxStatementLength;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                        return wrap(statement, method.getReturnType(), sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement statement, Class<?> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!EXECUTE_METHODS.contains(method.getName())) {
+                        return invoke(statement, method, args);
+                    }
+                    String sql = preparedSql;
+                    if (sql == null && args != null && args.length > 0 && args[0] instanceof String text) {
+                        sql = text;
+                    }
+                    return execute(statement, method, args, sql);
+                });
+    }
+
+    private Object execute(Statement statement, Method method, Object[] args, String sql) throws Throwable {
+        String operation = operation(sql);
+        Span span = tracer.spanBuilder(operation != null ? "jdbc " + operation : "jdbc " + method.getName())
+                .setSpanKind(SpanKind.CLIENT)
+                .startSpan();
+        if (sql != null) {
+            span.setAttribute(DB_OPERATION, operation);
+            span.setAttribute(DB_STATEMENT, sql.length() > maxStatementLength
+                    ? sql.substring(0, maxStatementLength) : sql);
+        }
+        StatementCounter.increment();
+        try {
+            return invoke(statement, method, args);
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String operation(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String trimmed = sql.strip();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end > 0 ? trimmed.substring(0, end).toUpperCase(Locale.ROOT) : null;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.internshipbitlab;
+
+import com.example.internshipbitlab.migration.MigrationApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrates a PostgreSQL container, fills it with a synthetic catalog and checks from the execution plans
+ * that chapter reads and course deletion touch a single {@code lessons} partition. Also reports the latency
+ * of a pruned chapter read against the same read without the partition key. Run with
+ * {@code ./gradlew partitionBenchmark}; the catalog size is set with the {@code benchmark.*} system properties.
+ */
+@Tag("partition-benchmark")
+@Testcontainers
+class LessonPartitioningBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LessonPartitioningBenchmarkTest.class);
+
+    private static final String PRUNED_CHAPTER_SQL =
+            "SELECT * FROM lessons l WHERE l.chapter_id = %d " +
+                    "AND l.course_id = (SELECT ch.course_id FROM chapters ch WHERE ch.id = %d) " +
+                    "ORDER BY l.order_number";
+    private static final String UNPRUNED_CHAPTER_SQL =
+            "SELECT * FROM lessons l WHERE l.chapter_id = %d ORDER BY l.order_number";
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Connection connection;
+    private static long courseId;
+    private static long chapterId;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        assertEquals(0, MigrationApplication.migrate(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword()));
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        int courses = Integer.getInteger("benchmark.courses", 2000);
+        int chaptersPerCourse = Integer.getInteger("benchmark.chapters-per-course", 10);
+        int lessonsPerChapter = Integer.getInteger("benchmark.lessons-per-chapter", 20);
+
+        long started = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO courses (name, created_at, updated_at) " +
+                    "SELECT 'Course ' || g, now(), now() FROM generate_series(1, " + courses + ") g");
+            statement.execute("INSERT INTO chapters (name, order_number, course_id, created_at, updated_at) " +
+                    "SELECT 'Chapter ' || n, n * 1024, c.id, now(), now() " +
+                    "FROM courses c CROSS JOIN generate_series(1, " + chaptersPerCourse + ") n");
+            statement.execute("INSERT INTO lessons (name, description, order_number, chapter_id, course_id, " +
+                    "created_at, updated_at) " +
+                    "SELECT 'Lesson ' || n, repeat('x', 200), n * 1024, ch.id, ch.course_id, now(), now() " +
+                    "FROM chapters ch CROSS JOIN generate_series(1, " + lessonsPerChapter + ") n");
+            statement.execute("ANALYZE courses, chapters, lessons");
+
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT ch.course_id, ch.id FROM chapters ch ORDER BY ch.id DESC LIMIT 1")) {
+                assertTrue(rs.next());
+                courseId = rs.getLong(1);
+                chapterId = rs.getLong(2);
+            }
+        }
+        logger.info("Seeded {} courses, {} lessons in {} ms", courses,
+                (long) courses * chaptersPerCourse * lessonsPerChapter, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void chapterRead_ShouldScanOnePartition() throws Exception {
+        JsonNode plan = explain(PRUNED_CHAPTER_SQL.formatted(chapterId, chapterId));
+
+        assertEquals(1, scannedPartitions(plan).size(), () -> "Plan: " + plan.toPrettyString());
+    }
+
+    @Test
+    void chapterBatchRead_ShouldScanOnePartition_WhenChaptersShareCourse() throws Exception {
+        // The shape LessonRepository.findWithBodyByChapterIds and countByChapterIds generate
+        JsonNode plan = explain(("SELECT l.* FROM lessons l LEFT JOIN content_blobs b ON b.hash = l.content_hash " +
+                "WHERE l.chapter_id IN (%d, %d) AND l.course_id IN (%d) ORDER BY l.order_number, l.id")
+                .formatted(chapterId, chapterId - 1, courseId));
+
+        assertEquals(1, scannedPartitions(plan).size(), () -> "Plan: " + plan.toPrettyString());
+    }
+
+    @Test
+    void chapterRead_ShouldScanEveryPartition_WithoutCourseId() throws Exception {
+        JsonNode plan = explain(UNPRUNED_CHAPTER_SQL.formatted(chapterId));
+
+        assertEquals(16, scannedPartitions(plan).size(), () -> "Plan: " + plan.toPrettyString());
+    }
+
+    @Test
+    void courseDelete_ShouldTouchOnePartition() throws Exception {
+        connection.setAutoCommit(false);
+        try {
+            JsonNode plan = explain("DELETE FROM lessons WHERE course_id = " + courseId);
+
+            assertEquals(1, scannedPartitions(plan).size(), () -> "Plan: " + plan.toPrettyString());
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @Test
+    void chapterRead_Benchmark() throws SQLException {
+        int iterations = Integer.getInteger("benchmark.iterations", 2000);
+        String pruned = PRUNED_CHAPTER_SQL.replace("%d", "?");
+        String unpruned = UNPRUNED_CHAPTER_SQL.replace("%d", "?");
+
+        // Warm up plans and buffers before measuring
+        time(pruned, 2, iterations / 10);
+        time(unpruned, 1, iterations / 10);
+
+        long prunedNanos = time(pruned, 2, iterations);
+        long unprunedNanos = time(unpruned, 1, iterations);
+        logger.info("Chapter read over {} iterations: pruned {} us/op, all partitions {} us/op",
+                iterations, prunedNanos / iterations / 1000, unprunedNanos / iterations / 1000);
+    }
+
+    private static long time(String sql, int parameters, int iterations) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= parameters; i++) {
+                statement.setLong(i, chapterId);
+            }
+            long started = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong("id");
+                    }
+                }
+            }
+            return System.nanoTime() - started;
+        }
+    }
+
+    private static JsonNode explain(String sql) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (ANALYZE, FORMAT JSON) " + sql)) {
+            assertTrue(rs.next());
+            return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    /**
+     * Partitions that appear in the plan and were actually executed; runtime-pruned subplans are either
+     * absent or never looped.
+     */
+    private static Set<String> scannedPartitions(JsonNode plan) {
+        Set<String> partitions = new TreeSet<>();
+        collect(plan, partitions);
+        return partitions;
+    }
+
+    private static void collect(JsonNode node, Set<String> partitions) {
+        String relation = node.path("Relation Name").asText("");
+        if (relation.startsWith("lessons_p") && node.path("Actual Loops").asLong() > 0) {
+            partitions.add(relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, partitions);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.internshipbitlab;
+
+import com.example.internshipbitlab.migration.MigrationApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the native executable built by {@code ./gradlew -Pnative nativeCompile} against a PostgreSQL
+ * container and replays the controller test scenarios over HTTP. Run with {@code ./gradlew -Pnative nativeSmokeTest}.
+ */
+@Tag("native-smoke")
+@Testcontainers
+class NativeImageSmokeTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Process application;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startBinary() throws Exception {
+        String binary = System.getProperty("native.binary");
+        assertNotNull(binary, "native.binary system property must point to the native executable");
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port;
+
+        assertEquals(0, MigrationApplication.migrate(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword()));
+
+        application = new ProcessBuilder(List.of(binary,
+                "--server.port=" + port,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--app.security.enabled=false",
+                "--logging.file.name="))
+                .redirectErrorStream(true)
+                .redirectOutput(new File(new File(binary).getParentFile(), "smoke-test.log"))
+                .start();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (true) {
+            assertTrue(application.isAlive(), "Native application exited during startup");
+            try {
+                if (send("GET", "/api/courses", null).statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException ignored) {
+                // not listening yet
+            }
+            assertTrue(System.nanoTime() < deadline, "Native application did not become ready");
+            Thread.sleep(50);
+        }
+    }
+
+    @AfterAll
+    static void stopBinary() throws InterruptedException {
+        if (application != null) {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    @Test
+    void courseChapterLessonLifecycle() throws Exception {
+        // Course
+        HttpResponse<String> created = send("POST", "/api/courses",
+                "{\"name\":\"Native Course\",\"description\":\"Smoke test\"}");
+        assertEquals(201, created.statusCode());
+        long courseId = json(created).get("id").asLong();
+
+        assertEquals(200, send("GET", "/api/courses/" + courseId, null).statusCode());
+        assertEquals(200, send("GET", "/api/courses", null).statusCode());
+
+        HttpResponse<String> updatedCourse = send("PUT", "/api/courses/" + courseId,
+                "{\"name\":\"Native Course v2\"}");
+        assertEquals(200, updatedCourse.statusCode());
+        assertEquals("Native Course v2", json(updatedCourse).get("name").asText());
+
+        // Chapter
+        HttpResponse<String> chapter = send("POST", "/api/chapters",
+                "{\"name\":\"Chapter\",\"orderNumber\":1,\"courseId\":" + courseId + "}");
+        assertEquals(201, chapter.statusCode());
+        long chapterId = json(chapter).get("id").asLong();
+
+        assertEquals(200, send("GET", "/api/chapters/" + chapterId, null).statusCode());
+        assertEquals(1, json(send("GET", "/api/chapters/by-course/" + courseId, null)).size());
+
+        // Lesson
+        HttpResponse<String> lesson = send("POST", "/api/lessons",
+                "{\"name\":\"Lesson\",\"content\":\"Hello native\",\"orderNumber\":1,\"chapterId\":" + chapterId + "}");
+        assertEquals(201, lesson.statusCode());
+        long lessonId = json(lesson).get("id").asLong();
+
+        assertEquals(200, send("GET", "/api/lessons/" + lessonId, null).statusCode());
+        assertEquals(1, json(send("GET", "/api/lessons/by-chapter/" + chapterId, null)).size());
+        assertEquals("Hello native", send("GET", "/api/lessons/" + lessonId + "/content", null).body());
+
+        // Cleanup and not-found paths
+        assertEquals(204, send("DELETE", "/api/lessons/" + lessonId, null).statusCode());
+        assertEquals(204, send("DELETE", "/api/chapters/" + chapterId, null).statusCode());
+        assertEquals(204, send("DELETE", "/api/courses/" + courseId, null).statusCode());
+        assertEquals(404, send("GET", "/api/courses/" + courseId, null).statusCode());
+    }
+
+    private static HttpResponse<String> send(String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(5));
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.LessonContentInfo;
+import com.example.internshipbitlab.dto.LessonDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryCatalogTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_456_000);
+
+    private InMemoryCatalog catalog() {
+        String shared = "Shared body \u00e9";
+        return InMemoryCatalog.builder(2, 3, 4)
+                .addCourse(10L, "Java", "Basics", CREATED, CREATED)
+                .addCourse(20L, "Empty", null, CREATED, null)
+                .addChapter(101L, 10L, 1024, "Intro", null, CREATED, CREATED)
+                .addChapter(100L, 10L, 2048, "Syntax", null, CREATED, CREATED)
+                .addChapter(200L, 20L, 1024, new String("Intro"), null, CREATED, CREATED)
+                .addLesson(1001L, 101L, 1024, "Hello", null, shared, CREATED, CREATED)
+                .addLesson(1000L, 101L, 2048, "World", null, null, CREATED, CREATED)
+                .addLesson(1002L, 100L, 1024, "Types", null, shared, CREATED, CREATED)
+                .addLesson(2000L, 200L, 1024, "Only", null, "x", CREATED, CREATED)
+                .build();
+    }
+
+    @Test
+    void findCourse_ShouldFillCounts_WhenCourseExists() {
+        // Act
+        CourseDTO course = catalog().findCourse(10L).orElseThrow();
+
+        // Assert
+        assertEquals("Java", course.getName());
+        assertEquals(2L, course.getChapterCount());
+        assertEquals(3L, course.getLessonCount());
+        assertEquals(CREATED, course.getCreatedAt());
+    }
+
+    @Test
+    void findChaptersByCourse_ShouldReturnChaptersByOrderNumber_WithLessons() {
+        // Act
+        List<ChapterDTO> chapters = catalog().findChaptersByCourse(10L);
+
+        // Assert
+        assertEquals(List.of(101L, 100L), chapters.stream().map(ChapterDTO::getId).toList());
+        assertEquals(List.of(1001L, 1000L), chapters.get(0).getLessons().stream().map(LessonDTO::getId).toList());
+        assertEquals(2L, chapters.get(0).getLessonCount());
+        assertEquals(10L, chapters.get(0).getCourseId());
+    }
+
+    @Test
+    void findLessons_ShouldKeepRequestedOrder_AndSkipMissingIds() {
+        // Act
+        List<LessonDTO> lessons = catalog().findLessons(List.of(2000L, 9999L, 1001L));
+
+        // Assert
+        assertEquals(List.of(2000L, 1001L), lessons.stream().map(LessonDTO::getId).toList());
+        assertEquals(200L, lessons.get(0).getChapterId());
+    }
+
+    @Test
+    void build_ShouldShareStrings_AcrossRows() {
+        // Act
+        InMemoryCatalog catalog = catalog();
+
+        // Assert
+        assertSame(catalog.findChapter(101L).orElseThrow().getName(), catalog.findChapter(200L).orElseThrow().getName());
+    }
+
+    @Test
+    void writeContent_ShouldWriteSliceOfUtf8Body() throws IOException {
+        // Arrange
+        InMemoryCatalog catalog = catalog();
+        LessonContentInfo info = catalog.findContentInfo(1002L).orElseThrow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        catalog.writeContent(info, 7, 7, out);
+
+        // Assert
+        assertEquals("body \u00e9", out.toString(StandardCharsets.UTF_8));
+        assertEquals(catalog.findLesson(1001L).orElseThrow().getContent(), catalog.findLesson(1002L).orElseThrow().getContent());
+    }
+
+    @Test
+    void findContentInfo_ShouldReportUtf8Length() {
+        // Act
+        LessonContentInfo withContent = catalog().findContentInfo(1001L).orElseThrow();
+        LessonContentInfo withoutContent = catalog().findContentInfo(1000L).orElseThrow();
+
+        // Assert
+        assertEquals(14L, withContent.getContentLength());
+        assertEquals(0L, withoutContent.getContentLength());
+    }
+
+    @Test
+    void findOutline_ShouldNestChaptersAndLessons() {
+        // Act
+        Map<String, Object> outline = catalog().findOutline(10L).orElseThrow();
+
+        // Assert
+        List<?> chapters = (List<?>) outline.get("chapters");
+        assertEquals(2, chapters.size());
+        assertEquals(2, ((List<?>) ((Map<?, ?>) chapters.get(0)).get("lessons")).size());
+        assertTrue(catalog().findOutline(30L).isEmpty());
+    }
+
+    @Test
+    void addChapter_ShouldThrowException_WhenOutOfOrder() {
+        // Arrange
+        InMemoryCatalog.Builder builder = InMemoryCatalog.builder(1, 2, 0)
+                .addCourse(1L, "Course", null, CREATED, CREATED)
+                .addChapter(1L, 1L, 2048, "Second", null, CREATED, CREATED);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> builder.addChapter(2L, 1L, 1024, "First", null, CREATED, CREATED));
+    }
+
+    @Test
+    void getStats_ShouldCountRows() {
+        // Act & Assert
+        assertEquals(4L, catalog().getStats().getLessonCount());
+        assertTrue(catalog().findLessonsByChapter(555L).isEmpty());
+    }
+}
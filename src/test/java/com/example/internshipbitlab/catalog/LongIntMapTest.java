@@ -0,0 +1,51 @@
+package com.example.internshipbitlab.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntMapTest {
+
+    @Test
+    void get_ShouldReturnStoredValues_WhenKeysCollide() {
+        // Arrange
+        LongIntMap map = new LongIntMap(1000);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            map.put(i * 1024L - 500, i);
+        }
+
+        // Assert
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, map.get(i * 1024L - 500));
+        }
+        assertEquals(LongIntMap.MISSING, map.get(1L));
+    }
+
+    @Test
+    void put_ShouldReplaceValue_WhenKeyExists() {
+        // Arrange
+        LongIntMap map = new LongIntMap(4);
+        map.put(Long.MIN_VALUE, 1);
+
+        // Act
+        map.put(Long.MIN_VALUE, 2);
+
+        // Assert
+        assertEquals(1, map.size());
+        assertEquals(2, map.get(Long.MIN_VALUE));
+    }
+
+    @Test
+    void put_ShouldThrowException_WhenMapIsFull() {
+        // Arrange
+        LongIntMap map = new LongIntMap(2);
+        map.put(1L, 0);
+        map.put(2L, 1);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> map.put(3L, 2));
+    }
+}
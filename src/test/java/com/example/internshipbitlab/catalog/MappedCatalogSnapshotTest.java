@@ -0,0 +1,142 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.service.ChangeCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCatalogSnapshotTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 5, 1, 10, 30, 15, 123_456_000);
+    private static final Instant EXPORTED = Instant.parse("2024-05-02T00:00:00Z");
+    static final ChangeCursor EXPORTED_CURSOR = new ChangeCursor(7L, 0L);
+
+    @TempDir
+    Path dir;
+
+    static Path writeSnapshot(Path dir) throws IOException {
+        Path file = dir.resolve("catalog.snapshot");
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(file, 2, 3, 4)) {
+            long shared = writer.writeString("Shared body \u00e9");
+            long other = writer.writeString("x");
+            writer.addCourse(10L, "Java", "Basics", CREATED, CREATED, 0, 2, 3L);
+            writer.addCourse(20L, "Empty", null, CREATED, null, 2, 1, 1L);
+            writer.addChapter(101L, 10L, 1024, "Intro", null, CREATED, CREATED, 0, 2);
+            writer.addChapter(100L, 10L, 2048, "Syntax", null, CREATED, CREATED, 2, 1);
+            writer.addChapter(200L, 20L, 1024, "Intro", null, CREATED, CREATED, 3, 1);
+            writer.addLesson(1001L, 101L, 1024, "Hello", null, shared, CREATED, CREATED);
+            writer.addLesson(1000L, 101L, 2048, "World", null, SnapshotFormat.NULL_REF, CREATED, CREATED);
+            writer.addLesson(1002L, 100L, 1024, "Types", null, shared, CREATED, CREATED);
+            writer.addLesson(2000L, 200L, 1024, "Only", null, other, CREATED, CREATED);
+            writer.addChapterIndex(100L, 1);
+            writer.addChapterIndex(101L, 0);
+            writer.addChapterIndex(200L, 2);
+            writer.addLessonIndex(1000L, 1);
+            writer.addLessonIndex(1001L, 0);
+            writer.addLessonIndex(1002L, 2);
+            writer.addLessonIndex(2000L, 3);
+            writer.finish(EXPORTED, EXPORTED_CURSOR);
+        }
+        return file;
+    }
+
+    @Test
+    void findCourse_ShouldReadRecord_WhenCourseExists() throws IOException {
+        // Arrange
+        MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(writeSnapshot(dir));
+
+        // Act
+        CourseDTO course = snapshot.findCourse(10L).orElseThrow();
+
+        // Assert
+        assertEquals("Java", course.getName());
+        assertEquals(2L, course.getChapterCount());
+        assertEquals(3L, course.getLessonCount());
+        assertEquals(CREATED, course.getCreatedAt());
+        assertNull(snapshot.findCourse(20L).orElseThrow().getUpdatedAt());
+        assertTrue(snapshot.findCourse(15L).isEmpty());
+        assertEquals(EXPORTED, snapshot.getCreatedAt());
+        assertEquals(EXPORTED_CURSOR, snapshot.getChangeCursor());
+    }
+
+    @Test
+    void findChaptersByCourse_ShouldReturnChaptersByOrderNumber_WithLessons() throws IOException {
+        // Arrange
+        MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(writeSnapshot(dir));
+
+        // Act
+        List<ChapterDTO> chapters = snapshot.findChaptersByCourse(10L);
+
+        // Assert
+        assertEquals(List.of(101L, 100L), chapters.stream().map(ChapterDTO::getId).toList());
+        assertEquals(List.of(1001L, 1000L), chapters.get(0).getLessons().stream().map(LessonDTO::getId).toList());
+        assertEquals(2L, chapters.get(0).getLessonCount());
+    }
+
+    @Test
+    void findLessons_ShouldKeepRequestedOrder_AndSkipMissingIds() throws IOException {
+        // Arrange
+        MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(writeSnapshot(dir));
+
+        // Act
+        List<LessonDTO> lessons = snapshot.findLessons(List.of(2000L, 9999L, 1001L));
+
+        // Assert
+        assertEquals(List.of(2000L, 1001L), lessons.stream().map(LessonDTO::getId).toList());
+        assertEquals(200L, lessons.get(0).getChapterId());
+        assertEquals("Shared body \u00e9", lessons.get(1).getContent());
+    }
+
+    @Test
+    void writeContent_ShouldCopyRequestedRange() throws IOException {
+        // Arrange
+        MappedCatalogSnapshot snapshot = MappedCatalogSnapshot.open(writeSnapshot(dir));
+        ByteArrayOutputStream range = new ByteArrayOutputStream();
+        ByteArrayOutputStream missing = new ByteArrayOutputStream();
+
+        // Act
+        snapshot.writeContent(snapshot.findContentInfo(1002L).orElseThrow(), 7L, 100L, range);
+        snapshot.writeContent(snapshot.findContentInfo(1000L).orElseThrow(), 0L, 100L, missing);
+
+        // Assert
+        assertEquals("body \u00e9", range.toString(StandardCharsets.UTF_8));
+        assertEquals(0, missing.size());
+        assertEquals(14L, snapshot.findContentInfo(1001L).orElseThrow().getContentLength());
+    }
+
+    @Test
+    void toInMemoryCatalog_ShouldCopyRowsAndBodies() throws IOException {
+        // Act
+        InMemoryCatalog catalog = MappedCatalogSnapshot.open(writeSnapshot(dir)).toInMemoryCatalog();
+
+        // Assert
+        assertEquals(4L, catalog.getStats().getLessonCount());
+        assertEquals("Shared body \u00e9", catalog.findLesson(1002L).orElseThrow().getContent());
+        assertEquals(14L, catalog.findContentInfo(1002L).orElseThrow().getContentLength());
+        assertEquals(List.of(200L), catalog.findChaptersByCourse(20L).stream().map(ChapterDTO::getId).toList());
+    }
+
+    @Test
+    void open_ShouldThrowException_WhenSnapshotIsUnfinished() throws IOException {
+        // Arrange
+        Path file = dir.resolve("unfinished.snapshot");
+        try (CatalogSnapshotWriter writer = new CatalogSnapshotWriter(file, 1, 0, 0)) {
+            writer.addCourse(1L, "Course", null, CREATED, CREATED, 0, 0, 0L);
+        }
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> MappedCatalogSnapshot.open(file));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.internshipbitlab.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadOnlyCatalogFilterTest {
+
+    private final ReadOnlyCatalogFilter filter =
+            new ReadOnlyCatalogFilter(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    void doFilter_ShouldPassReads() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertSame(request, chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRefuseWrites() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/courses/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(HttpStatus.METHOD_NOT_ALLOWED.value(), response.getStatus());
+        assertEquals("GET, HEAD, OPTIONS", response.getHeader("Allow"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_ShouldRefuseChangeStream_WhenRelayIsNotRunning() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/changes/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertTrue(response.getContentAsString().contains("does not stream changes"));
+        assertNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.internshipbitlab.catalog;
+
+import com.example.internshipbitlab.datasource.ReadYourWritesContext;
+import com.example.internshipbitlab.dto.ChangeEventDTO;
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import com.example.internshipbitlab.service.ChangeCursor;
+import com.example.internshipbitlab.service.ChangeEventService;
+import com.example.internshipbitlab.service.ChangeEventService.Change;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotCatalogReaderTest {
+
+    private static final ChangeCursor CURSOR = MappedCatalogSnapshotTest.EXPORTED_CURSOR;
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private CatalogReader database;
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    private MappedCatalogSnapshot snapshot;
+    private SnapshotCatalogReader reader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        snapshot = MappedCatalogSnapshot.open(MappedCatalogSnapshotTest.writeSnapshot(dir));
+        reader = new SnapshotCatalogReader(database, changeEventService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    private static Change change(ChangeEntityType type, long id, long courseId) {
+        return new Change(new ChangeCursor(8L, id), ChangeEventDTO.builder()
+                .id(id)
+                .entityType(type)
+                .entityId(id)
+                .courseId(courseId)
+                .action(ChangeAction.UPDATED)
+                .build());
+    }
+
+    @Test
+    void findCourse_ShouldReadSnapshot_WhenCourseUnchanged() {
+        // Arrange
+        reader.serveFrom(snapshot);
+
+        // Act
+        CourseDTO course = reader.findCourse(10L).orElseThrow();
+
+        // Assert
+        assertEquals("Java", course.getName());
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void findCourse_ShouldReadDatabase_WhenSnapshotMissesId() {
+        // Arrange
+        CourseDTO created = CourseDTO.builder().id(30L).build();
+        when(database.findCourse(30L)).thenReturn(Optional.of(created));
+        reader.serveFrom(snapshot);
+
+        // Act & Assert
+        assertSame(created, reader.findCourse(30L).orElseThrow());
+    }
+
+    @Test
+    void findCourse_ShouldReadDatabase_WhenPinnedToPrimary() {
+        // Arrange
+        CourseDTO written = CourseDTO.builder().id(10L).name("Renamed").build();
+        when(database.findCourse(10L)).thenReturn(Optional.of(written));
+        reader.serveFrom(snapshot);
+        ReadYourWritesContext.beginRequest();
+        ReadYourWritesContext.pinToPrimary();
+
+        // Act & Assert
+        assertSame(written, reader.findCourse(10L).orElseThrow());
+    }
+
+    @Test
+    void findLesson_ShouldReadDatabase_WhenCourseChangedAfterExport() {
+        // Arrange
+        LessonDTO current = LessonDTO.builder().id(1001L).name("Renamed").build();
+        when(changeEventService.findAfter(CURSOR, null, 500))
+                .thenReturn(List.of(change(ChangeEntityType.CHAPTER, 100L, 10L)));
+        when(database.findLesson(1001L)).thenReturn(Optional.of(current));
+        reader.serveFrom(snapshot);
+
+        // Act & Assert
+        assertSame(current, reader.findLesson(1001L).orElseThrow());
+        assertEquals("Only", reader.findLesson(2000L).orElseThrow().getName());
+    }
+
+    @Test
+    void pollChanges_ShouldReadDatabase_ForCourseChangedWhileServing() {
+        // Arrange
+        when(changeEventService.findAfter(CURSOR, null, 500))
+                .thenReturn(List.of())
+                .thenReturn(List.of(change(ChangeEntityType.CHAPTER, 200L, 20L)));
+        when(database.findChaptersByCourse(20L)).thenReturn(List.of());
+        reader.serveFrom(snapshot);
+
+        // Act
+        reader.pollChanges();
+        List<ChapterDTO> chapters = reader.findChaptersByCourse(20L);
+        reader.getStats();
+
+        // Assert
+        assertTrue(chapters.isEmpty());
+        verify(database).findChaptersByCourse(20L);
+        verify(database).getStats();
+    }
+
+    @Test
+    void findCourses_ShouldReadMissingAndChangedIdsFromDatabase() {
+        // Arrange
+        CourseDTO changed = CourseDTO.builder().id(20L).build();
+        CourseDTO created = CourseDTO.builder().id(30L).build();
+        when(changeEventService.findAfter(CURSOR, null, 500)).thenReturn(List.of(change(ChangeEntityType.COURSE, 20L, 20L)));
+        when(database.findCourses(Set.of(20L, 30L))).thenReturn(List.of(changed, created));
+        reader.serveFrom(snapshot);
+
+        // Act
+        List<CourseDTO> courses = reader.findCourses(List.of(10L, 20L, 30L));
+
+        // Assert
+        assertEquals(List.of(10L, 20L, 30L), courses.stream().map(CourseDTO::getId).toList());
+    }
+
+    @Test
+    void findLessonsWithoutContentByChapters_ShouldReadChangedChaptersFromDatabaseInOneCall() {
+        // Arrange
+        LessonDTO current = LessonDTO.builder().id(1002L).chapterId(100L).build();
+        when(changeEventService.findAfter(CURSOR, null, 500)).thenReturn(List.of(change(ChangeEntityType.CHAPTER, 100L, 10L)));
+        when(database.findLessonsWithoutContentByChapters(List.of(100L), List.of(10L, 20L)))
+                .thenReturn(List.of(current));
+        reader.serveFrom(snapshot);
+
+        // Act
+        List<LessonDTO> lessons = reader.findLessonsWithoutContentByChapters(List.of(100L, 200L), List.of(10L, 20L));
+
+        // Assert
+        assertEquals(List.of("Only"), lessons.stream().filter(lesson -> lesson != current)
+                .map(LessonDTO::getName).toList());
+        assertTrue(lessons.contains(current));
+    }
+
+    @Test
+    void stopServing_ShouldHandReadsToDatabase() {
+        // Arrange
+        when(database.findAllCourses()).thenReturn(List.of());
+        reader.serveFrom(snapshot);
+
+        // Act
+        reader.stopServing(snapshot);
+
+        // Assert
+        assertTrue(reader.findAllCourses().isEmpty());
+        verify(database).findAllCourses();
+    }
+}
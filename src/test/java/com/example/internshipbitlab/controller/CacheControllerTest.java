@@ -0,0 +1,43 @@
+package com.example.internshipbitlab.controller;
+
+import com.example.internshipbitlab.dto.CacheRegionStatsDTO;
+import com.example.internshipbitlab.service.CacheStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheControllerTest {
+
+    @Mock
+    private CacheStatisticsService cacheStatisticsService;
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    @Test
+    void getCacheStatistics_ShouldReturnRegionStatistics() {
+        // Arrange
+        CacheRegionStatsDTO stats = CacheRegionStatsDTO.builder().region("course").hitCount(3).missCount(1).build();
+        when(cacheStatisticsService.getRegionStatistics()).thenReturn(Collections.singletonList(stats));
+
+        // Act
+        ResponseEntity<List<CacheRegionStatsDTO>> response = cacheController.getCacheStatistics();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals("course", response.getBody().get(0).getRegion());
+        verify(cacheStatisticsService).getRegionStatistics();
+    }
+}
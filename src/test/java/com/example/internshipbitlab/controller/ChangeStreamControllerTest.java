@@ -0,0 +1,36 @@
+package com.example.internshipbitlab.controller;
+
+import com.example.internshipbitlab.service.ChangeStreamService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeStreamControllerTest {
+
+    @Mock
+    private ChangeStreamService changeStreamService;
+
+    @InjectMocks
+    private ChangeStreamController changeStreamController;
+
+    @Test
+    void streamChanges_ShouldResumeFromLastEventId() {
+        // Arrange
+        SseEmitter emitter = new SseEmitter();
+        when(changeStreamService.subscribe(1L, 42L)).thenReturn(emitter);
+
+        // Act
+        SseEmitter result = changeStreamController.streamChanges(1L, 42L);
+
+        // Assert
+        assertSame(emitter, result);
+        verify(changeStreamService).subscribe(1L, 42L);
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.internshipbitlab.controller;
 
 import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.OrderPositionDTO;
+import com.example.internshipbitlab.dto.ReorderRequestDTO;
 import com.example.internshipbitlab.service.ChapterService;
+import com.example.internshipbitlab.service.ReorderService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -22,6 +25,9 @@ class ChapterControllerTest {
     @Mock
     private ChapterService chapterService;
 
+    @Mock
+    private ReorderService reorderService;
+
     @InjectMocks
     private ChapterController chapterController;
 
@@ -105,4 +111,21 @@ class ChapterControllerTest {
         assertNull(response.getBody());
         verify(chapterService).delete(chapterId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void reorderLessons_ShouldReturnNewPositions() {
+        // Arrange
+        Long id = 1L;
+        ReorderRequestDTO request = new ReorderRequestDTO(List.of(3L, 2L));
+        List<OrderPositionDTO> positions = List.of(new OrderPositionDTO(3L, 512), new OrderPositionDTO(2L, 1024));
+        when(reorderService.reorderLessons(id, request.getOrderedIds())).thenReturn(positions);
+
+        // Act
+        ResponseEntity<List<OrderPositionDTO>> response = chapterController.reorderLessons(id, request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(positions, response.getBody());
+        verify(reorderService).reorderLessons(id, request.getOrderedIds());
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.internshipbitlab.controller;
 
+import com.example.internshipbitlab.dto.CloneCourseRequestDTO;
 import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.CourseStatsDTO;
+import com.example.internshipbitlab.dto.OrderPositionDTO;
+import com.example.internshipbitlab.dto.ReorderRequestDTO;
+import com.example.internshipbitlab.service.CourseCloneService;
+import com.example.internshipbitlab.service.CourseOutlineService;
 import com.example.internshipbitlab.service.CourseService;
+import com.example.internshipbitlab.service.ReorderService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -22,6 +30,15 @@ class CourseControllerTest {
     @Mock
     private CourseService courseService;
 
+    @Mock
+    private CourseOutlineService courseOutlineService;
+
+    @Mock
+    private ReorderService reorderService;
+
+    @Mock
+    private CourseCloneService courseCloneService;
+
     @InjectMocks
     private CourseController courseController;
 
@@ -56,6 +73,22 @@ class CourseControllerTest {
         verify(courseService).findById(courseId);
     }
 
+    @Test
+    void getCourseOutline_ShouldReturnStoredJson() {
+        // Arrange
+        Long courseId = 1L;
+        byte[] outline = "{\"id\":1,\"chapters\":[]}".getBytes(StandardCharsets.UTF_8);
+        when(courseOutlineService.findOutlineJson(courseId)).thenReturn(outline);
+
+        // Act
+        ResponseEntity<byte[]> response = courseController.getCourseOutline(courseId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(outline, response.getBody());
+        verify(courseOutlineService).findOutlineJson(courseId);
+    }
+
     @Test
     void createCourse_ShouldReturnCreatedCourse() {
         // Arrange
@@ -104,4 +137,53 @@ class CourseControllerTest {
         assertNull(response.getBody());
         verify(courseService).delete(courseId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void reorderChapters_ShouldReturnNewPositions() {
+        // Arrange
+        Long id = 1L;
+        ReorderRequestDTO request = new ReorderRequestDTO(List.of(3L, 2L));
+        List<OrderPositionDTO> positions = List.of(new OrderPositionDTO(3L, 512), new OrderPositionDTO(2L, 1024));
+        when(reorderService.reorderChapters(id, request.getOrderedIds())).thenReturn(positions);
+
+        // Act
+        ResponseEntity<List<OrderPositionDTO>> response = courseController.reorderChapters(id, request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(positions, response.getBody());
+        verify(reorderService).reorderChapters(id, request.getOrderedIds());
+    }
+
+    @Test
+    void cloneCourse_ShouldReturnCreatedCopy() {
+        // Arrange
+        Long courseId = 1L;
+        CourseDTO clone = CourseDTO.builder().id(2L).name("Java Developer (spring cohort)").build();
+        when(courseCloneService.cloneCourse(courseId, "Java Developer (spring cohort)")).thenReturn(clone);
+
+        // Act
+        ResponseEntity<CourseDTO> response = courseController.cloneCourse(courseId,
+                new CloneCourseRequestDTO("Java Developer (spring cohort)"));
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(clone, response.getBody());
+        verify(courseCloneService).cloneCourse(courseId, "Java Developer (spring cohort)");
+    }
+
+    @Test
+    void getCourseStats_ShouldReturnCounts() {
+        // Arrange
+        CourseStatsDTO stats = new CourseStatsDTO(2, 12, 148);
+        when(courseService.getStats()).thenReturn(stats);
+
+        // Act
+        ResponseEntity<CourseStatsDTO> response = courseController.getCourseStats();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(148, response.getBody().getLessonCount());
+        verify(courseService).getStats();
+    }
+}
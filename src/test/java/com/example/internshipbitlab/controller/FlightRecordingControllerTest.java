@@ -0,0 +1,63 @@
+package com.example.internshipbitlab.controller;
+
+import com.example.internshipbitlab.dto.RecordingDTO;
+import com.example.internshipbitlab.exception.NotFoundException;
+import com.example.internshipbitlab.service.FlightRecordingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlightRecordingControllerTest {
+
+    @Mock
+    private FlightRecordingService flightRecordingService;
+
+    @InjectMocks
+    private FlightRecordingController flightRecordingController;
+
+    @Test
+    void startRecording_ShouldReturnCreated() {
+        // Arrange
+        RecordingDTO recording = RecordingDTO.builder().id(3L).name("slow-lessons").state("RUNNING").build();
+        when(flightRecordingService.start("slow-lessons")).thenReturn(recording);
+
+        // Act
+        ResponseEntity<RecordingDTO> response = flightRecordingController.startRecording("slow-lessons");
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(3L, response.getBody().getId());
+        verify(flightRecordingService).start("slow-lessons");
+    }
+
+    @Test
+    void dumpRecording_ShouldReturnFile() {
+        // Arrange
+        RecordingDTO recording = RecordingDTO.builder().id(3L).state("STOPPED").file("/tmp/jfr/slow-lessons-3.jfr").build();
+        when(flightRecordingService.dump(3L)).thenReturn(recording);
+
+        // Act
+        ResponseEntity<RecordingDTO> response = flightRecordingController.dumpRecording(3L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("/tmp/jfr/slow-lessons-3.jfr", response.getBody().getFile());
+    }
+
+    @Test
+    void stopRecording_ShouldThrowException_WhenRecordingNotFound() {
+        // Arrange
+        when(flightRecordingService.stop(99L)).thenThrow(new NotFoundException("Recording not found"));
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> flightRecordingController.stopRecording(99L));
+    }
+}
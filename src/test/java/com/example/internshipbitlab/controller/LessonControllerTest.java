@@ -1,14 +1,19 @@
 package com.example.internshipbitlab.controller;
 
+import com.example.internshipbitlab.dto.LessonContentInfo;
 import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
+import com.example.internshipbitlab.service.LessonContentService;
 import com.example.internshipbitlab.service.LessonService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Collections;
 import java.util.List;
@@ -22,9 +27,28 @@ class LessonControllerTest {
     @Mock
     private LessonService lessonService;
 
+    @Mock
+    private LessonContentService lessonContentService;
+
     @InjectMocks
     private LessonController lessonController;
 
+    @Test
+    void getLessonsByIds_ShouldReturnLessonsAndMissingIds() {
+        // Arrange
+        List<Long> ids = List.of(1L, 2L);
+        MultiGetResponseDTO<LessonDTO> result = new MultiGetResponseDTO<>(List.of(new LessonDTO()), List.of(2L));
+        when(lessonService.findAllByIds(ids)).thenReturn(result);
+
+        // Act
+        ResponseEntity<MultiGetResponseDTO<LessonDTO>> response = lessonController.getLessonsByIds(ids);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(2L), response.getBody().getNotFound());
+        verify(lessonService).findAllByIds(ids);
+    }
+
     @Test
     void getLessonById_ShouldReturnLesson() {
 
@@ -100,4 +124,50 @@ class LessonControllerTest {
         assertNull(response.getBody());
         verify(lessonService).delete(lessonId);
     }
+
+    @Test
+    void getLessonContent_ShouldReturnPartialContent_WhenRangeRequested() {
+        Long lessonId = 1L;
+        LessonContentInfo info = mock(LessonContentInfo.class);
+        when(info.getContentLength()).thenReturn(100L);
+        when(lessonContentService.getContentInfo(lessonId)).thenReturn(info);
+        when(lessonContentService.buildETag(info)).thenReturn("\"1-0-100\"");
+
+        ResponseEntity<StreamingResponseBody> response =
+                lessonController.getLessonContent(lessonId, "bytes=10-19", null, null);
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals(10, response.getHeaders().getContentLength());
+        assertEquals("bytes 10-19/100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void getLessonContent_ShouldReturnNotModified_WhenETagMatches() {
+        Long lessonId = 1L;
+        LessonContentInfo info = mock(LessonContentInfo.class);
+        when(info.getContentLength()).thenReturn(100L);
+        when(lessonContentService.getContentInfo(lessonId)).thenReturn(info);
+        when(lessonContentService.buildETag(info)).thenReturn("\"1-0-100\"");
+
+        ResponseEntity<StreamingResponseBody> response =
+                lessonController.getLessonContent(lessonId, null, null, "\"1-0-100\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getLessonContent_ShouldReturnRangeNotSatisfiable_WhenRangeOutOfBounds() {
+        Long lessonId = 1L;
+        LessonContentInfo info = mock(LessonContentInfo.class);
+        when(info.getContentLength()).thenReturn(100L);
+        when(lessonContentService.getContentInfo(lessonId)).thenReturn(info);
+        when(lessonContentService.buildETag(info)).thenReturn("\"1-0-100\"");
+
+        ResponseEntity<StreamingResponseBody> response =
+                lessonController.getLessonContent(lessonId, "bytes=200-300", null, null);
+
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */100", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.internshipbitlab.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyRowWriterTest {
+
+    @Test
+    void field_ShouldEscapeSpecialCharacters_WhenValueContainsThem() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+        CopyRowWriter writer = new CopyRowWriter(out);
+
+        // Act
+        writer.field(1L).field("a\tb\nc\\d\re").field(null);
+        writer.endRow();
+
+        // Assert
+        assertEquals("1\ta\\tb\\nc\\\\d\\re\t\\N\n", out.toString());
+    }
+
+    @Test
+    void endRow_ShouldStartNextRowWithoutSeparator() throws IOException {
+        // Arrange
+        StringWriter out = new StringWriter();
+        CopyRowWriter writer = new CopyRowWriter(out);
+
+        // Act
+        writer.field("x").field("y");
+        writer.endRow();
+        writer.field("z");
+        writer.endRow();
+
+        // Assert
+        assertEquals("x\ty\nz\n", out.toString());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.internshipbitlab.dataset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatasetGeneratorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final DatasetProperties properties = new DatasetProperties();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+    }
+
+    @Test
+    void run_ShouldRefuseToTruncate_WhenDatabaseHasDataAndRunIsNotConfirmed() throws SQLException {
+        // Arrange
+        when(statement.executeQuery(DatasetGenerator.HAS_DATA_SQL)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        DatasetGenerator generator = new DatasetGenerator(dataSource, properties);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> generator.run(new DefaultApplicationArguments()));
+        verify(statement, never()).execute(DatasetGenerator.TRUNCATE_SQL);
+        verify(connection).rollback();
+    }
+
+    @Test
+    void run_ShouldTruncateWithoutEmptinessCheck_WhenRunIsConfirmed() throws SQLException {
+        // Arrange
+        DatasetGenerator generator = new DatasetGenerator(dataSource, properties);
+
+        // Act (the mocked connection has no COPY API, so the run stops right after the truncate)
+        assertThrows(RuntimeException.class, () -> generator.run(new DefaultApplicationArguments("--confirm")));
+
+        // Assert
+        verify(statement, never()).executeQuery(DatasetGenerator.HAS_DATA_SQL);
+        verify(statement).execute(DatasetGenerator.TRUNCATE_SQL);
+    }
+}
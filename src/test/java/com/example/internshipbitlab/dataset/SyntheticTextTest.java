@@ -0,0 +1,50 @@
+package com.example.internshipbitlab.dataset;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticTextTest {
+
+    @Test
+    void paragraphs_ShouldBeIdentical_WhenSeedAndStreamAreTheSame() {
+        // Arrange
+        SplittableRandom first = SyntheticText.random(42, 7);
+        SplittableRandom second = SyntheticText.random(42, 7);
+
+        // Act & Assert
+        assertEquals(SyntheticText.paragraphs(first, 2048), SyntheticText.paragraphs(second, 2048));
+    }
+
+    @Test
+    void paragraphs_ShouldDiffer_WhenStreamsDiffer() {
+        // Act & Assert
+        assertNotEquals(SyntheticText.paragraphs(SyntheticText.random(42, 1), 256),
+                SyntheticText.paragraphs(SyntheticText.random(42, 2), 256));
+    }
+
+    @Test
+    void paragraphs_ShouldReachTargetLengthInUtf8Bytes() {
+        // Act
+        String text = SyntheticText.paragraphs(SyntheticText.random(1, 1), 1000);
+
+        // Assert
+        assertTrue(text.getBytes(StandardCharsets.UTF_8).length >= 1000);
+        assertEquals(text.length(), text.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void logNormalSize_ShouldStayWithinBounds() {
+        // Arrange
+        SplittableRandom random = SyntheticText.random(3, 3);
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            int size = SyntheticText.logNormalSize(random, 4096, 2.0, 64, 65536);
+            assertTrue(size >= 64 && size <= 65536, "size " + size);
+        }
+    }
+}
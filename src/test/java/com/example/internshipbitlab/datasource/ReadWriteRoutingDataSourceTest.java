@@ -0,0 +1,112 @@
+package com.example.internshipbitlab.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", mock(DataSource.class));
+        routingDataSource = new ReadWriteRoutingDataSource(mock(DataSource.class), replicas);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        // Routes outside a transaction, which resets this thread's replica selection
+        routingDataSource.determineCurrentLookupKey();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldUseReplica_ForReadOnlyTransaction() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertEquals("replica-0", routingDataSource.determineCurrentLookupKey());
+        assertTrue(ReadWriteRoutingDataSource.isReplicaSelected());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldUsePrimary_ForWriteTransaction() {
+        // Arrange
+        ReadYourWritesContext.beginRequest();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act & Assert
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+        assertTrue(ReadYourWritesContext.isPinnedToPrimary());
+        assertFalse(ReadWriteRoutingDataSource.isReplicaSelected());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldReadFromPrimary_AfterWriteInSameRequest() {
+        // Arrange
+        ReadYourWritesContext.beginRequest();
+        ReadYourWritesContext.pinToPrimary();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldUnpin_WhenWriteOutsideRequestCompletes() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routingDataSource.determineCurrentLookupKey();
+        assertTrue(ReadYourWritesContext.isPinnedToPrimary());
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert
+        assertFalse(ReadYourWritesContext.isPinnedToPrimary());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldNotPin_WhenWriteOutsideRequestHasNoSynchronization() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        routingDataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertFalse(ReadYourWritesContext.isPinnedToPrimary());
+    }
+
+    @Test
+    void determineCurrentLookupKey_ShouldFallBackToPrimary_WhenReplicaLagging() {
+        // Arrange
+        routingDataSource.setReplicaHealthy("replica-0", false);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act & Assert
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+}
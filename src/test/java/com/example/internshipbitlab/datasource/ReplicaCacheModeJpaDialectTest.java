@@ -0,0 +1,67 @@
+package com.example.internshipbitlab.datasource;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import static org.mockito.Mockito.*;
+
+class ReplicaCacheModeJpaDialectTest {
+
+    private final ReplicaCacheModeJpaDialect dialect = new ReplicaCacheModeJpaDialect();
+    private EntityManager entityManager;
+    private SessionImplementor session;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(SessionImplementor.class, RETURNS_DEEP_STUBS);
+        entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        when(entityManager.unwrap(any())).thenReturn(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+    }
+
+    private static DefaultTransactionDefinition transaction(boolean readOnly) {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(readOnly);
+        return definition;
+    }
+
+    @Test
+    void beginTransaction_ShouldSkipCachePuts_ForReadOnlyTransaction() throws Exception {
+        // Act
+        dialect.beginTransaction(entityManager, transaction(true));
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    void beginTransaction_ShouldUseCachesNormally_WhenPinnedToPrimary() throws Exception {
+        // Arrange
+        ReadYourWritesContext.beginRequest();
+        ReadYourWritesContext.pinToPrimary();
+
+        // Act
+        dialect.beginTransaction(entityManager, transaction(true));
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    void beginTransaction_ShouldUseCachesNormally_ForWriteTransaction() throws Exception {
+        // Act
+        dialect.beginTransaction(entityManager, transaction(false));
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.internshipbitlab.datasource;
+
+import com.example.internshipbitlab.config.DataSourceRoutingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReplicaLagMonitorTest {
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setMaxReplicaLag(Duration.ofSeconds(5));
+        monitor = new ReplicaLagMonitor(mock(ReadWriteRoutingDataSource.class), properties);
+    }
+
+    @Test
+    void requiredPosition_ShouldBeNull_UntilASampleIsOlderThanMaxLag() {
+        // Act & Assert
+        assertNull(monitor.requiredPosition(0L, "0/100"));
+        assertNull(monitor.requiredPosition(4_000L, "0/200"));
+    }
+
+    @Test
+    void requiredPosition_ShouldReturnLatestPositionOlderThanMaxLag() {
+        // Arrange
+        monitor.requiredPosition(0L, "0/100");
+        monitor.requiredPosition(2_000L, "0/200");
+        monitor.requiredPosition(4_000L, "0/300");
+
+        // Act & Assert
+        assertEquals("0/200", monitor.requiredPosition(7_000L, "0/400"));
+        assertEquals("0/200", monitor.requiredPosition(8_000L, "0/400"));
+        assertEquals("0/300", monitor.requiredPosition(9_000L, "0/400"));
+    }
+}
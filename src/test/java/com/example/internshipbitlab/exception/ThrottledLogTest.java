@@ -0,0 +1,42 @@
+package com.example.internshipbitlab.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThrottledLogTest {
+
+    @Test
+    void shouldLog_ShouldAllowBurstThenCountSuppressed() {
+        // Arrange
+        ThrottledLog log = new ThrottledLog(60_000, 2, Integer.MAX_VALUE);
+
+        // Act
+        boolean first = log.shouldLog();
+        boolean second = log.shouldLog();
+        boolean third = log.shouldLog();
+        boolean fourth = log.shouldLog();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertFalse(fourth);
+        assertEquals(2, log.drainSuppressed());
+        assertEquals(0, log.drainSuppressed());
+    }
+
+    @Test
+    void shouldLog_ShouldStartNewBurst_WhenWindowElapsed() throws InterruptedException {
+        // Arrange
+        ThrottledLog log = new ThrottledLog(10, 1, Integer.MAX_VALUE);
+        log.shouldLog();
+        assertFalse(log.shouldLog());
+
+        // Act
+        Thread.sleep(20);
+
+        // Assert
+        assertTrue(log.shouldLog());
+    }
+}
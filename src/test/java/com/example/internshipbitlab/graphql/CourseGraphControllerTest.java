@@ -0,0 +1,79 @@
+package com.example.internshipbitlab.graphql;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.service.CourseGraphService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.graphql.execution.DefaultBatchLoaderRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseGraphControllerTest {
+
+    @Mock
+    private CourseGraphService courseGraphService;
+
+    private CourseGraphController courseGraphController;
+
+    @BeforeEach
+    void setUp() {
+        courseGraphController = new CourseGraphController(courseGraphService, new DefaultBatchLoaderRegistry());
+    }
+
+    @Test
+    void chapters_ShouldLoadAllCoursesInOneCall_WhenBatchContainsSeveralCourses() {
+        // Arrange
+        CourseDTO first = CourseDTO.builder().id(1L).build();
+        CourseDTO second = CourseDTO.builder().id(2L).build();
+        ChapterDTO chapter = ChapterDTO.builder().id(10L).courseId(1L).build();
+        when(courseGraphService.findChaptersByCourseIds(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, List.of(chapter)));
+
+        // Act
+        List<List<ChapterDTO>> result = courseGraphController.chapters(List.of(first, second));
+
+        // Assert
+        assertEquals(List.of(List.of(chapter), List.of()), result);
+        verify(courseGraphService, times(1)).findChaptersByCourseIds(anyCollection());
+    }
+
+    @Test
+    void lessons_ShouldDeduplicateChapterIds_WhenBatchContainsSameChapterTwice() {
+        // Arrange
+        ChapterDTO chapter = ChapterDTO.builder().id(10L).courseId(1L).build();
+        ChapterDTO sameChapter = ChapterDTO.builder().id(10L).courseId(1L).build();
+        LessonDTO lesson = LessonDTO.builder().id(100L).chapterId(10L).build();
+        when(courseGraphService.findLessonsByChapterIds(List.of(10L), List.of(1L)))
+                .thenReturn(Map.of(10L, List.of(lesson)));
+
+        // Act
+        List<List<LessonDTO>> result = courseGraphController.lessons(List.of(chapter, sameChapter));
+
+        // Assert
+        assertEquals(List.of(List.of(lesson), List.of(lesson)), result);
+    }
+
+    @Test
+    void chapter_ShouldResolveParentChapters_WhenLessonsBatched() {
+        // Arrange
+        LessonDTO lesson = LessonDTO.builder().id(100L).chapterId(10L).build();
+        ChapterDTO chapter = ChapterDTO.builder().id(10L).courseId(1L).build();
+        when(courseGraphService.findChaptersByIds(List.of(10L))).thenReturn(Map.of(10L, chapter));
+
+        // Act
+        List<ChapterDTO> result = courseGraphController.chapter(List.of(lesson));
+
+        // Assert
+        assertSame(chapter, result.get(0));
+    }
+}
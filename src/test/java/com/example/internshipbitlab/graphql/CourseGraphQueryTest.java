@@ -0,0 +1,92 @@
+package com.example.internshipbitlab.graphql;
+
+import com.example.internshipbitlab.catalog.CatalogReader;
+import com.example.internshipbitlab.catalog.InMemoryCatalog;
+import com.example.internshipbitlab.config.GraphQlConfig;
+import com.example.internshipbitlab.service.CourseGraphService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Runs real queries through the schema, the batch mappings and {@link CourseGraphService} against an in-memory catalog.
+ */
+@GraphQlTest(CourseGraphController.class)
+@Import({CourseGraphService.class, GraphQlConfig.class})
+class CourseGraphQueryTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @TestConfiguration
+    static class Catalog {
+        @Bean
+        CatalogReader catalogReader() {
+            String body = "Same body";
+            return InMemoryCatalog.builder(2, 3, 3)
+                    .addCourse(1L, "Java", null, CREATED, CREATED)
+                    .addCourse(2L, "Go", null, CREATED, CREATED)
+                    .addChapter(10L, 1L, 1024, "Syntax", null, CREATED, CREATED)
+                    .addChapter(11L, 1L, 2048, "Collections", null, CREATED, CREATED)
+                    .addChapter(20L, 2L, 1024, "Syntax", null, CREATED, CREATED)
+                    .addLesson(100L, 10L, 1024, "Variables", null, body, CREATED, CREATED)
+                    .addLesson(101L, 10L, 2048, "Variables", null, body, CREATED, CREATED)
+                    .addLesson(200L, 20L, 1024, "Loops", null, null, CREATED, CREATED)
+                    .build();
+        }
+    }
+
+    @Test
+    void courses_ShouldResolveNestedChaptersLessonsAndContent() {
+        // Act & Assert
+        graphQlTester.document("""
+                        {
+                          courses(ids: [2, 1]) {
+                            id
+                            chapters { name lessons { id content } }
+                          }
+                        }
+                        """)
+                .execute()
+                .path("courses[*].id").entityList(String.class).containsExactly("2", "1")
+                .path("courses[0].chapters[*].name").entityList(String.class).containsExactly("Syntax")
+                .path("courses[0].chapters[0].lessons[0].content").valueIsNull()
+                .path("courses[1].chapters[*].name").entityList(String.class).containsExactly("Syntax", "Collections")
+                .path("courses[1].chapters[0].lessons[*].content").entityList(String.class)
+                .containsExactly("Same body", "Same body")
+                .path("courses[1].chapters[1].lessons").entityList(Object.class).hasSize(0);
+    }
+
+    @Test
+    void lesson_ShouldResolveEqualLessonsToTheirOwnParents() {
+        // Act & Assert
+        graphQlTester.document("""
+                        {
+                          chapter(id: 10) {
+                            lessons { id chapter { id course { name } } }
+                          }
+                        }
+                        """)
+                .execute()
+                .path("chapter.lessons[*].id").entityList(String.class).containsExactly("100", "101")
+                .path("chapter.lessons[*].chapter.id").entityList(String.class).containsExactly("10", "10")
+                .path("chapter.lessons[*].chapter.course.name").entityList(String.class).containsExactly("Java", "Java");
+    }
+
+    @Test
+    void course_ShouldReturnNull_WhenCourseDoesNotExist() {
+        // Act & Assert
+        graphQlTester.document("{ course(id: 99) { id chapters { id } } }")
+                .execute()
+                .path("course").valueIsNull();
+    }
+}
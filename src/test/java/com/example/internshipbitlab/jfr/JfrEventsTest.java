@@ -0,0 +1,110 @@
+package com.example.internshipbitlab.jfr;
+
+import com.example.internshipbitlab.service.ChangeEventService;
+import com.example.internshipbitlab.service.NegativeLookupCache;
+import com.example.internshipbitlab.service.ReadCoalescer;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HttpRequestEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(TransactionEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, Class<?> type) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(type.getAnnotation(Name.class).value()))
+                .toList();
+    }
+
+    @Test
+    void requestFilter_ShouldEmitHttpRequestEvent_WithRouteAndStatus() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lessons/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/lessons/{id}");
+                req.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "42"));
+                ((MockHttpServletResponse) res).setStatus(404);
+            }
+        };
+
+        // Act
+        List<RecordedEvent> events = record(() -> {
+            try {
+                new JfrRequestFilter().doFilter(request, response, chain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Assert
+        List<RecordedEvent> requests = ofType(events, HttpRequestEvent.class);
+        assertEquals(1, requests.size());
+        RecordedEvent event = requests.get(0);
+        assertEquals("GET", event.getString("method"));
+        assertEquals("/api/lessons/{id}", event.getString("endpoint"));
+        assertEquals("42", event.getString("entityId"));
+        assertEquals(404, event.getInt("status"));
+    }
+
+    @Test
+    void transactionAdvice_ShouldEmitTransactionEvent_WithServiceAndSettings() throws Exception {
+        // Arrange
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(7L);
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new ChangeEventService(jdbcTemplate, mock(ReadCoalescer.class), mock(NegativeLookupCache.class)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new JfrAspect());
+        ChangeEventService service = factory.getProxy();
+
+        // Act
+        List<RecordedEvent> events = record(service::findCurrentCursor);
+
+        // Assert
+        List<RecordedEvent> transactions = ofType(events, TransactionEvent.class);
+        assertEquals(1, transactions.size());
+        RecordedEvent event = transactions.get(0);
+        assertEquals("ChangeEventService", event.getString("service"));
+        assertEquals("findCurrentCursor", event.getString("method"));
+        assertTrue(event.getBoolean("readOnly"));
+        assertEquals("REQUIRED", event.getString("propagation"));
+        assertFalse(event.getBoolean("failed"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.internshipbitlab.loadshedding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void tryAcquire_ShouldReturnNull_WhenLimitReached() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 1000);
+
+        // Act
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+        AdaptiveConcurrencyLimiter.Permit third = limiter.tryAcquire();
+
+        // Assert
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNull(third);
+        first.ignore();
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    void permit_ShouldBeReleasedOnce_WhenReleasedTwice() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 1000);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // Act
+        first.dropped();
+        first.success();
+
+        // Assert
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void onSample_ShouldGrowLimit_WhenLatencyStaysAtBaseline() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 100, 1000);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(5 * MILLIS, limiter.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    @Test
+    void onSample_ShouldShrinkLimit_WhenLatencyRises() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 50, 1, 100, 1000);
+        limiter.onSample(5 * MILLIS, 50, false);
+        int before = limiter.getLimit();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(50 * MILLIS, limiter.getLimit(), false);
+        }
+
+        // Assert
+        assertTrue(limiter.getLimit() < before);
+    }
+
+    @Test
+    void onSample_ShouldNotGrowLimit_WhenLimitIsUnused() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 100, 1000);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(5 * MILLIS, 1, false);
+        }
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void onSample_ShouldBackOff_WhenCallFails() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 1, 100, 1000);
+
+        // Act
+        limiter.onSample(5 * MILLIS, 20, true);
+
+        // Assert
+        assertEquals(18, limiter.getLimit());
+    }
+}
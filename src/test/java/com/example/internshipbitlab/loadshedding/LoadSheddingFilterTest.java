@@ -0,0 +1,68 @@
+package com.example.internshipbitlab.loadshedding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadSheddingFilterTest {
+
+    private final AdaptiveConcurrencyLimiter lookupLimiter = new AdaptiveConcurrencyLimiter("lookup", 1, 1, 1, 1000);
+    private final AdaptiveConcurrencyLimiter heavyReadLimiter = new AdaptiveConcurrencyLimiter("heavy-read", 1, 1, 1, 1000);
+    private final AdaptiveConcurrencyLimiter writeLimiter = new AdaptiveConcurrencyLimiter("write", 1, 1, 1, 1000);
+    private final LoadSheddingFilter filter = new LoadSheddingFilter(lookupLimiter, heavyReadLimiter, writeLimiter,
+            Duration.ofSeconds(1), new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void doFilter_ShouldHoldPermit_UntilAsyncResponseCompletes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lessons/1/content");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                req.startAsync();
+            }
+        };
+
+        // Act
+        filter.doFilter(request, response, chain);
+        int inFlightWhileStreaming = heavyReadLimiter.getInFlight();
+        request.getAsyncContext().complete();
+
+        // Assert
+        assertEquals(1, inFlightWhileStreaming);
+        assertEquals(0, heavyReadLimiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldShedHeavyRead_WithoutTouchingLookups() throws Exception {
+        // Arrange
+        AdaptiveConcurrencyLimiter.Permit held = heavyReadLimiter.tryAcquire();
+        MockHttpServletRequest graphql = new MockHttpServletRequest("POST", "/graphql");
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        MockHttpServletRequest lookup = new MockHttpServletRequest("GET", "/api/lessons/1");
+        MockHttpServletResponse served = new MockHttpServletResponse();
+        MockFilterChain lookupChain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(graphql, shed, new MockFilterChain());
+        filter.doFilter(lookup, served, lookupChain);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+        assertSame(lookup, lookupChain.getRequest());
+        assertEquals(0, lookupLimiter.getInFlight());
+        held.ignore();
+    }
+}
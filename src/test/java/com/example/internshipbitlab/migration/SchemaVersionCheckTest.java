@@ -0,0 +1,28 @@
+package com.example.internshipbitlab.migration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SchemaVersionCheckTest {
+
+    private final SchemaVersionCheck check = new SchemaVersionCheck(mock(JdbcTemplate.class), new DefaultResourceLoader());
+
+    @Test
+    void latestChangeset_ShouldFollowIncludes_AndSkipContextChangesets() {
+        // Act
+        String latest = check.latestChangeset("classpath:migration/changelog-master.yaml");
+
+        // Assert
+        assertEquals("t2-create-chapters", latest);
+    }
+
+    @Test
+    void latestChangeset_ShouldReadApplicationChangelog() {
+        // Act & Assert
+        assertNotNull(check.latestChangeset("classpath:db/changelog/db.changelog-master.yaml"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.internshipbitlab.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-12T10:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Test
+    void decode_ShouldReuseValidatedToken_UntilExpiry() {
+        // Arrange
+        Jwt jwt = jwt(NOW.plusSeconds(60));
+        when(delegate.decode("token")).thenReturn(jwt);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        Jwt first = decoder.decode("token");
+        Jwt second = decoder.decode("token");
+
+        // Assert
+        assertSame(jwt, first);
+        assertSame(jwt, second);
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    void decode_ShouldRevalidate_WhenCachedTokenExpired() {
+        // Arrange
+        Jwt jwt = jwt(NOW.minusSeconds(1));
+        when(delegate.decode("token")).thenReturn(jwt);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        decoder.decode("token");
+        decoder.decode("token");
+
+        // Assert
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void decode_ShouldEvictTokens_WhenCacheFull() {
+        // Arrange
+        when(delegate.decode(anyString())).thenAnswer(invocation -> jwt(NOW.plusSeconds(60)));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        decoder.decode("a");
+        decoder.decode("b");
+        decoder.decode("c");
+
+        // Assert
+        assertEquals(2L, decoder.size());
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user")
+                .issuedAt(NOW.minusSeconds(120))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
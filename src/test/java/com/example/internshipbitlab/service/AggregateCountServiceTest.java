@@ -0,0 +1,68 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.ChapterLessonCount;
+import com.example.internshipbitlab.dto.CourseCounts;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.repository.ChapterRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AggregateCountServiceTest {
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    @Mock
+    private LessonRepository lessonRepository;
+
+    @InjectMocks
+    private AggregateCountService aggregateCountService;
+
+    @Test
+    void fillCourseCounts_ShouldUseGroupedQuery_AndDefaultToZero() {
+        // Arrange
+        CourseDTO withChapters = CourseDTO.builder().id(1L).build();
+        CourseDTO empty = CourseDTO.builder().id(2L).build();
+        CourseCounts counts = mock(CourseCounts.class);
+        when(counts.getCourseId()).thenReturn(1L);
+        when(counts.getChapterCount()).thenReturn(12L);
+        when(counts.getLessonCount()).thenReturn(148L);
+        when(chapterRepository.countByCourseIds(List.of(1L, 2L))).thenReturn(List.of(counts));
+
+        // Act
+        aggregateCountService.fillCourseCounts(List.of(withChapters, empty));
+
+        // Assert
+        assertEquals(12L, withChapters.getChapterCount());
+        assertEquals(148L, withChapters.getLessonCount());
+        assertEquals(0L, empty.getChapterCount());
+        assertEquals(0L, empty.getLessonCount());
+    }
+
+    @Test
+    void fillChapterCounts_ShouldUseGroupedQuery() {
+        // Arrange
+        ChapterDTO chapter = ChapterDTO.builder().id(5L).courseId(1L).build();
+        ChapterLessonCount count = mock(ChapterLessonCount.class);
+        when(count.getChapterId()).thenReturn(5L);
+        when(count.getLessonCount()).thenReturn(7L);
+        when(lessonRepository.countByChapterIds(List.of(5L), List.of(1L))).thenReturn(List.of(count));
+
+        // Act
+        aggregateCountService.fillChapterCounts(List.of(chapter));
+
+        // Assert
+        assertEquals(7L, chapter.getLessonCount());
+    }
+}
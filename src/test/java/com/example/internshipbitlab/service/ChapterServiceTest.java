@@ -1,15 +1,19 @@
 package com.example.internshipbitlab.service;
 
+import com.example.internshipbitlab.catalog.CatalogReader;
 import com.example.internshipbitlab.dto.ChapterDTO;
 import com.example.internshipbitlab.model.Chapter;
 import com.example.internshipbitlab.model.Course;
-import com.example.internshipbitlab.exception.ResourceNotFoundException;
+import com.example.internshipbitlab.exception.NotFoundException;
 import com.example.internshipbitlab.mapper.ChapterMapper;
+import com.example.internshipbitlab.mapper.LessonMapper;
 import com.example.internshipbitlab.repository.ChapterRepository;
 import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,9 +33,30 @@ class ChapterServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private LessonRepository lessonRepository;
+
     @Mock
     private ChapterMapper chapterMapper;
 
+    @Mock
+    private LessonMapper lessonMapper;
+
+    @Mock
+    private CourseOutlineService courseOutlineService;
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    @Mock
+    private AggregateCountService aggregateCountService;
+
+    @Mock
+    private ContentBlobStore contentBlobStore;
+
+    @Mock
+    private CatalogReader catalogReader;
+
     @InjectMocks
     private ChapterService chapterService;
 
@@ -39,11 +64,8 @@ class ChapterServiceTest {
     void findAllByCourseId_ShouldReturnChapters() {
         // Arrange
         Long courseId = 1L;
-        Chapter chapter = new Chapter();
         ChapterDTO chapterDTO = new ChapterDTO();
-        when(courseRepository.existsById(courseId)).thenReturn(true);
-        when(chapterRepository.findAllByCourseId(courseId)).thenReturn(Collections.singletonList(chapter));
-        when(chapterMapper.toDto(chapter)).thenReturn(chapterDTO);
+        when(catalogReader.findChaptersByCourse(courseId)).thenReturn(Collections.singletonList(chapterDTO));
 
         // Act
         List<ChapterDTO> result = chapterService.findAllByCourseId(courseId);
@@ -51,28 +73,29 @@ class ChapterServiceTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals(chapterDTO, result.get(0));
-        verify(chapterRepository).findAllByCourseId(courseId);
+        verify(catalogReader).findChaptersByCourse(courseId);
     }
 
     @Test
-    void findAllByCourseId_ShouldThrowException_WhenCourseNotExists() {
+    void findAllByCourseId_ShouldReturnEmptyList_WhenCourseHasNoChapters() {
         // Arrange
         Long courseId = 1L;
-        when(courseRepository.existsById(courseId)).thenReturn(false);
+        when(catalogReader.findChaptersByCourse(courseId)).thenReturn(List.of());
 
-        // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> chapterService.findAllByCourseId(courseId));
-        verify(chapterRepository, never()).findAllByCourseId(any());
+        // Act
+        List<ChapterDTO> result = chapterService.findAllByCourseId(courseId);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(chapterRepository);
     }
 
     @Test
     void findById_ShouldReturnChapter_WhenChapterExists() {
         // Arrange
         Long chapterId = 1L;
-        Chapter chapter = new Chapter();
         ChapterDTO chapterDTO = new ChapterDTO();
-        when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(chapter));
-        when(chapterMapper.toDto(chapter)).thenReturn(chapterDTO);
+        when(catalogReader.findChapter(chapterId)).thenReturn(Optional.of(chapterDTO));
 
         // Act
         ChapterDTO result = chapterService.findById(chapterId);
@@ -80,18 +103,18 @@ class ChapterServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(chapterDTO, result);
-        verify(chapterRepository).findById(chapterId);
+        verify(catalogReader).findChapter(chapterId);
     }
 
     @Test
     void findById_ShouldThrowException_WhenChapterNotExists() {
         // Arrange
         Long chapterId = 1L;
-        when(chapterRepository.findById(chapterId)).thenReturn(Optional.empty());
+        when(catalogReader.findChapter(chapterId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> chapterService.findById(chapterId));
-        verify(chapterRepository).findById(chapterId);
+        assertThrows(NotFoundException.class, () -> chapterService.findById(chapterId));
+        verify(catalogReader).findChapter(chapterId);
     }
 
     @Test
@@ -99,14 +122,16 @@ class ChapterServiceTest {
         // Arrange
         ChapterDTO chapterDTO = new ChapterDTO();
         chapterDTO.setCourseId(1L);
-        chapterDTO.setTitle("New Chapter");
+        chapterDTO.setName("New Chapter");
 
         Course course = new Course();
+        course.setId(1L);
         Chapter chapter = new Chapter();
         Chapter savedChapter = new Chapter();
         savedChapter.setId(1L);
 
-        when(courseRepository.findById(chapterDTO.getCourseId())).thenReturn(Optional.of(course));
+        when(courseRepository.findForUpdateById(chapterDTO.getCourseId())).thenReturn(Optional.of(course));
+        when(chapterRepository.findMaxOrderNumberByCourseId(1L)).thenReturn(Optional.of(3072));
         when(chapterMapper.toEntity(chapterDTO)).thenReturn(chapter);
         when(chapterRepository.save(chapter)).thenReturn(savedChapter);
         when(chapterMapper.toDto(savedChapter)).thenReturn(chapterDTO);
@@ -116,6 +141,8 @@ class ChapterServiceTest {
 
         // Assert
         assertNotNull(result);
+        assertEquals(0L, result.getLessonCount());
+        assertEquals(4096, chapter.getOrderNumber());
         verify(chapterRepository).save(chapter);
     }
 
@@ -124,10 +151,10 @@ class ChapterServiceTest {
         // Arrange
         ChapterDTO chapterDTO = new ChapterDTO();
         chapterDTO.setCourseId(1L);
-        when(courseRepository.findById(chapterDTO.getCourseId())).thenReturn(Optional.empty());
+        when(courseRepository.findForUpdateById(chapterDTO.getCourseId())).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> chapterService.create(chapterDTO));
+        assertThrows(NotFoundException.class, () -> chapterService.create(chapterDTO));
         verify(chapterRepository, never()).save(any());
     }
 
@@ -136,26 +163,25 @@ class ChapterServiceTest {
         // Arrange
         Long chapterId = 1L;
         ChapterDTO chapterDTO = new ChapterDTO();
-        chapterDTO.setTitle("Updated Chapter");
+        chapterDTO.setName("Updated Chapter");
         chapterDTO.setCourseId(1L);
 
         Chapter existingChapter = new Chapter();
         existingChapter.setId(chapterId);
-        Course course = new Course();
 
         when(chapterRepository.findById(chapterId)).thenReturn(Optional.of(existingChapter));
-        when(courseRepository.findById(chapterDTO.getCourseId())).thenReturn(Optional.of(course));
         when(chapterRepository.save(existingChapter)).thenReturn(existingChapter);
-        when(chapterMapper.toDto(existingChapter)).thenReturn(chapterDTO);
+        when(chapterMapper.toDtoWithoutLessons(existingChapter)).thenReturn(chapterDTO);
 
         // Act
         ChapterDTO result = chapterService.update(chapterId, chapterDTO);
 
         // Assert
         assertNotNull(result);
-        assertEquals(chapterDTO.getTitle(), result.getTitle());
+        assertEquals(chapterDTO.getName(), result.getName());
         verify(chapterRepository).findById(chapterId);
         verify(chapterRepository).save(existingChapter);
+        verify(aggregateCountService).fillChapterCounts(List.of(result));
     }
 
     @Test
@@ -163,12 +189,15 @@ class ChapterServiceTest {
         // Arrange
         Long chapterId = 1L;
         when(chapterRepository.existsById(chapterId)).thenReturn(true);
+        when(chapterRepository.findCourseIdById(chapterId)).thenReturn(Optional.of(7L));
 
         // Act
         chapterService.delete(chapterId);
 
         // Assert
-        verify(chapterRepository).deleteById(chapterId);
+        InOrder inOrder = inOrder(lessonRepository, chapterRepository);
+        inOrder.verify(lessonRepository).deleteByChapterId(chapterId, 7L);
+        inOrder.verify(chapterRepository).deleteById(chapterId);
     }
 
     @Test
@@ -178,7 +207,7 @@ class ChapterServiceTest {
         when(chapterRepository.existsById(chapterId)).thenReturn(false);
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> chapterService.delete(chapterId));
+        assertThrows(NotFoundException.class, () -> chapterService.delete(chapterId));
         verify(chapterRepository, never()).deleteById(chapterId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.exception.ValidationException;
+import com.example.internshipbitlab.mapper.CourseMapper;
+import com.example.internshipbitlab.migration.MigrationApplication;
+import com.example.internshipbitlab.model.Course;
+import com.example.internshipbitlab.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the clone statement against PostgreSQL; the collaborators around it are mocked.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CourseCloneServiceTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private CourseRepository courseRepository;
+    private CourseCloneService courseCloneService;
+    private long courseId;
+
+    @BeforeAll
+    static void migrate() {
+        assertEquals(0, MigrationApplication.migrate(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword()));
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        CourseMapper courseMapper = mock(CourseMapper.class);
+        when(courseRepository.findById(any())).thenAnswer(invocation -> {
+            Course course = new Course();
+            course.setId(invocation.getArgument(0));
+            return Optional.of(course);
+        });
+        when(courseMapper.toDto(any())).thenAnswer(invocation ->
+                CourseDTO.builder().id(invocation.<Course>getArgument(0).getId()).build());
+        courseCloneService = new CourseCloneService(jdbcTemplate, courseRepository, courseMapper,
+                mock(CourseOutlineService.class), mock(NegativeLookupCache.class));
+
+        jdbcTemplate.update("INSERT INTO content_blobs (hash, content, ref_count) VALUES (?, 'Body', 1) " +
+                "ON CONFLICT (hash) DO UPDATE SET ref_count = 1", HASH);
+        courseId = jdbcTemplate.queryForObject("INSERT INTO courses (name, created_at, updated_at) " +
+                "VALUES ('Java', now(), now()) RETURNING id", Long.class);
+        long second = chapter("Collections", 2048);
+        long first = chapter("Syntax", 1024);
+        lesson(first, "Variables", 1024, HASH);
+        lesson(first, "Loops", 2048, null);
+        lesson(second, "Lists", 1024, null);
+    }
+
+    @Test
+    void cloneCourse_ShouldCopyChaptersAndLessonsInOrder_WithNewIds() {
+        // Act
+        CourseDTO clone = courseCloneService.cloneCourse(courseId, "Java (copy)");
+
+        // Assert
+        assertNotEquals(courseId, clone.getId());
+        assertEquals(2L, clone.getChapterCount());
+        assertEquals(3L, clone.getLessonCount());
+        assertEquals("Java (copy)", jdbcTemplate.queryForObject(
+                "SELECT name FROM courses WHERE id = ?", String.class, clone.getId()));
+        assertEquals(List.of("Syntax 1024 / Variables 1024", "Syntax 1024 / Loops 2048",
+                "Collections 2048 / Lists 1024"), outline(clone.getId()));
+        assertEquals(List.of(), jdbcTemplate.queryForList(
+                "SELECT id FROM chapters WHERE course_id = ? " +
+                        "INTERSECT SELECT id FROM chapters WHERE course_id = ?", Long.class, courseId, clone.getId()));
+        assertEquals(List.of(), jdbcTemplate.queryForList(
+                "SELECT id FROM lessons WHERE course_id = ? " +
+                        "INTERSECT SELECT id FROM lessons WHERE course_id = ?", Long.class, courseId, clone.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM lessons l JOIN chapters ch ON ch.id = l.chapter_id " +
+                        "WHERE l.course_id = ? AND ch.course_id <> l.course_id", Integer.class, clone.getId()));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT ref_count FROM content_blobs WHERE hash = ?", Integer.class, HASH));
+    }
+
+    @Test
+    void cloneCourse_ShouldThrowException_WhenNameIsBlank() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> courseCloneService.cloneCourse(courseId, "  "));
+        verifyNoInteractions(courseRepository);
+    }
+
+    private List<String> outline(long course) {
+        return jdbcTemplate.queryForList(
+                "SELECT ch.name || ' ' || ch.order_number || ' / ' || l.name || ' ' || l.order_number " +
+                        "FROM chapters ch JOIN lessons l ON l.chapter_id = ch.id AND l.course_id = ch.course_id " +
+                        "WHERE ch.course_id = ? ORDER BY ch.order_number, l.order_number", String.class, course);
+    }
+
+    private long chapter(String name, int orderNumber) {
+        return jdbcTemplate.queryForObject("INSERT INTO chapters (name, order_number, course_id, created_at, " +
+                "updated_at) VALUES (?, ?, ?, now(), now()) RETURNING id", Long.class, name, orderNumber, courseId);
+    }
+
+    private void lesson(long chapterId, String name, int orderNumber, String contentHash) {
+        jdbcTemplate.update("INSERT INTO lessons (name, order_number, chapter_id, course_id, content_hash, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, now(), now())",
+                name, orderNumber, chapterId, courseId, contentHash);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.migration.MigrationApplication;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two writers of the same course against PostgreSQL with the statements {@link CourseOutlineService#rebuild}
+ * issues, the second one rebuilding while the first has not committed yet.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CourseOutlineConcurrencyTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static long courseId;
+    private static long firstLessonId;
+    private static long secondLessonId;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        assertEquals(0, MigrationApplication.migrate(
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword()));
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            courseId = id(statement, "INSERT INTO courses (name, created_at, updated_at) " +
+                    "VALUES ('Course', now(), now()) RETURNING id");
+            long chapterId = id(statement, "INSERT INTO chapters (name, order_number, course_id, created_at, updated_at) " +
+                    "VALUES ('Chapter', 1024, " + courseId + ", now(), now()) RETURNING id");
+            firstLessonId = id(statement, lessonInsert(chapterId, 1024));
+            secondLessonId = id(statement, lessonInsert(chapterId, 2048));
+        }
+    }
+
+    @Test
+    void rebuild_ShouldKeepBothWritersChanges_WhenWritersOverlap() throws Exception {
+        try (Connection first = connect(); Connection second = connect()) {
+            first.setAutoCommit(false);
+            second.setAutoCommit(false);
+
+            // Arrange
+            renameLesson(first, firstLessonId, "First writer");
+            rebuild(first);
+            renameLesson(second, secondLessonId, "Second writer");
+
+            // Act
+            CompletableFuture<Void> secondWriter = CompletableFuture.runAsync(() -> {
+                try {
+                    rebuild(second);
+                    second.commit();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Thread.sleep(200);
+            assertFalse(secondWriter.isDone());
+            first.commit();
+            secondWriter.get(10, TimeUnit.SECONDS);
+        }
+
+        // Assert
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT outline::text FROM course_outlines WHERE course_id = ?")) {
+            statement.setLong(1, courseId);
+            try (ResultSet rs = statement.executeQuery()) {
+                assertTrue(rs.next());
+                String outline = rs.getString(1);
+                assertTrue(outline.contains("First writer"), outline);
+                assertTrue(outline.contains("Second writer"), outline);
+            }
+        }
+    }
+
+    private static void rebuild(Connection connection) throws SQLException {
+        try (PreparedStatement lock = connection.prepareStatement(CourseOutlineService.LOCK_COURSE_SQL);
+             PreparedStatement rebuild = connection.prepareStatement(CourseOutlineService.REBUILD_SQL)) {
+            lock.setLong(1, courseId);
+            lock.executeQuery().close();
+            rebuild.setLong(1, courseId);
+            rebuild.executeUpdate();
+        }
+    }
+
+    private static void renameLesson(Connection connection, long lessonId, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE lessons SET name = ?, updated_at = now() WHERE id = ?")) {
+            statement.setString(1, name);
+            statement.setLong(2, lessonId);
+            assertEquals(1, statement.executeUpdate());
+        }
+    }
+
+    private static String lessonInsert(long chapterId, int orderNumber) {
+        return "INSERT INTO lessons (name, order_number, chapter_id, course_id, created_at, updated_at) " +
+                "VALUES ('Lesson', " + orderNumber + ", " + chapterId + ", " + courseId + ", now(), now()) RETURNING id";
+    }
+
+    private static long id(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            assertTrue(rs.next());
+            return rs.getLong(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.internshipbitlab.service;
 
+import com.example.internshipbitlab.catalog.CatalogReader;
 import com.example.internshipbitlab.dto.CourseDTO;
 import com.example.internshipbitlab.model.Course;
-import com.example.internshipbitlab.exception.ResourceNotFoundException;
+import com.example.internshipbitlab.exception.NotFoundException;
 import com.example.internshipbitlab.mapper.CourseMapper;
+import com.example.internshipbitlab.model.ChangeAction;
+import com.example.internshipbitlab.model.ChangeEntityType;
 import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.Collections;
 import java.util.List;
@@ -24,19 +29,35 @@ class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private LessonRepository lessonRepository;
+
     @Mock
     private CourseMapper courseMapper;
 
+    @Mock
+    private CourseOutlineService courseOutlineService;
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    @Mock
+    private AggregateCountService aggregateCountService;
+
+    @Mock
+    private ContentBlobStore contentBlobStore;
+
+    @Mock
+    private CatalogReader catalogReader;
+
     @InjectMocks
     private CourseService courseService;
 
     @Test
     void findAll_ShouldReturnAllCourses() {
         // Arrange
-        Course course = new Course();
         CourseDTO courseDTO = new CourseDTO();
-        when(courseRepository.findAll()).thenReturn(Collections.singletonList(course));
-        when(courseMapper.toDto(course)).thenReturn(courseDTO);
+        when(catalogReader.findAllCourses()).thenReturn(Collections.singletonList(courseDTO));
 
         // Act
         List<CourseDTO> result = courseService.findAll();
@@ -44,17 +65,15 @@ class CourseServiceTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals(courseDTO, result.get(0));
-        verify(courseRepository).findAll();
+        verify(catalogReader).findAllCourses();
     }
 
     @Test
     void findById_ShouldReturnCourse_WhenCourseExists() {
         // Arrange
         Long courseId = 1L;
-        Course course = new Course();
         CourseDTO courseDTO = new CourseDTO();
-        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
-        when(courseMapper.toDto(course)).thenReturn(courseDTO);
+        when(catalogReader.findCourse(courseId)).thenReturn(Optional.of(courseDTO));
 
         // Act
         CourseDTO result = courseService.findById(courseId);
@@ -62,25 +81,25 @@ class CourseServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(courseDTO, result);
-        verify(courseRepository).findById(courseId);
+        verify(catalogReader).findCourse(courseId);
     }
 
     @Test
     void findById_ShouldThrowException_WhenCourseNotExists() {
         // Arrange
         Long courseId = 1L;
-        when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
+        when(catalogReader.findCourse(courseId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> courseService.findById(courseId));
-        verify(courseRepository).findById(courseId);
+        assertThrows(NotFoundException.class, () -> courseService.findById(courseId));
+        verify(catalogReader).findCourse(courseId);
     }
 
     @Test
     void create_ShouldSaveNewCourse() {
         // Arrange
         CourseDTO courseDTO = new CourseDTO();
-        courseDTO.setTitle("New Course");
+        courseDTO.setName("New Course");
         Course course = new Course();
         Course savedCourse = new Course();
         savedCourse.setId(1L);
@@ -94,7 +113,11 @@ class CourseServiceTest {
 
         // Assert
         assertNotNull(result);
+        assertEquals(0L, result.getChapterCount());
+        assertEquals(0L, result.getLessonCount());
         verify(courseRepository).save(course);
+        verify(courseOutlineService).rebuild(1L);
+        verify(changeEventService).record(ChangeEntityType.COURSE, 1L, 1L, ChangeAction.CREATED);
     }
 
     @Test
@@ -102,7 +125,7 @@ class CourseServiceTest {
         // Arrange
         Long courseId = 1L;
         CourseDTO courseDTO = new CourseDTO();
-        courseDTO.setTitle("Updated Course");
+        courseDTO.setName("Updated Course");
 
         Course existingCourse = new Course();
         existingCourse.setId(courseId);
@@ -116,9 +139,10 @@ class CourseServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertEquals(courseDTO.getTitle(), result.getTitle());
+        assertEquals(courseDTO.getName(), result.getName());
         verify(courseRepository).findById(courseId);
         verify(courseRepository).save(existingCourse);
+        verify(aggregateCountService).fillCourseCounts(List.of(result));
     }
 
     @Test
@@ -129,11 +153,28 @@ class CourseServiceTest {
         when(courseRepository.findById(courseId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> courseService.update(courseId, courseDTO));
+        assertThrows(NotFoundException.class, () -> courseService.update(courseId, courseDTO));
         verify(courseRepository).findById(courseId);
         verify(courseRepository, never()).save(any());
     }
 
+    @Test
+    void update_ShouldPropagateDataIntegrityViolation() {
+        // Arrange
+        Long courseId = 1L;
+        CourseDTO courseDTO = new CourseDTO();
+        Course existingCourse = new Course();
+        existingCourse.setId(courseId);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("duplicate key");
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(existingCourse));
+        when(courseRepository.save(existingCourse)).thenThrow(violation);
+
+        // Act & Assert
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> courseService.update(courseId, courseDTO)));
+        verify(changeEventService, never()).record(any(), any(), any(), any());
+    }
+
     @Test
     void delete_ShouldDeleteCourse_WhenCourseExists() {
         // Arrange
@@ -144,7 +185,10 @@ class CourseServiceTest {
         courseService.delete(courseId);
 
         // Assert
+        verify(contentBlobStore).releaseCourse(courseId);
+        verify(lessonRepository).deleteByCourseId(courseId);
         verify(courseRepository).deleteById(courseId);
+        verify(changeEventService).record(ChangeEntityType.COURSE, courseId, courseId, ChangeAction.DELETED);
     }
 
     @Test
@@ -154,7 +198,7 @@ class CourseServiceTest {
         when(courseRepository.existsById(courseId)).thenReturn(false);
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> courseService.delete(courseId));
+        assertThrows(NotFoundException.class, () -> courseService.delete(courseId));
         verify(courseRepository, never()).deleteById(courseId);
     }
 }
\ No newline at end of file
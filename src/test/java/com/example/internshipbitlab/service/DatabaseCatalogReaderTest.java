@@ -0,0 +1,142 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.dto.ChapterDTO;
+import com.example.internshipbitlab.dto.CourseDTO;
+import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.mapper.ChapterMapper;
+import com.example.internshipbitlab.mapper.CourseMapper;
+import com.example.internshipbitlab.mapper.LessonMapper;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import com.example.internshipbitlab.model.Chapter;
+import com.example.internshipbitlab.model.Lesson;
+import com.example.internshipbitlab.repository.ChapterRepository;
+import com.example.internshipbitlab.repository.CourseRepository;
+import com.example.internshipbitlab.repository.LessonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseCatalogReaderTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private ChapterRepository chapterRepository;
+
+    @Mock
+    private LessonRepository lessonRepository;
+
+    @Mock
+    private CourseMapper courseMapper;
+
+    @Mock
+    private ChapterMapper chapterMapper;
+
+    @Mock
+    private LessonMapper lessonMapper;
+
+    @Mock
+    private AggregateCountService aggregateCountService;
+
+    @Mock
+    private ReadCoalescer readCoalescer;
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private DatabaseCatalogReader databaseCatalogReader;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(readCoalescer.read(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+    }
+
+    @Test
+    void findCourse_ShouldRecordMiss_WhenCourseNotExists() {
+        // Arrange
+        when(courseRepository.findById(404L)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<CourseDTO> result = databaseCatalogReader.findCourse(404L);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(negativeLookupCache).recordMiss(ChangeEntityType.COURSE, 404L);
+    }
+
+    @Test
+    void findChapter_ShouldLoadLessons_ByChapterAndCourseId() {
+        // Arrange
+        Chapter chapter = new Chapter();
+        ChapterDTO chapterDTO = ChapterDTO.builder().id(5L).courseId(1L).build();
+        Lesson lesson = new Lesson();
+        LessonDTO lessonDTO = LessonDTO.builder().id(50L).chapterId(5L).build();
+        when(chapterRepository.findById(5L)).thenReturn(Optional.of(chapter));
+        when(chapterMapper.toDtoWithoutLessons(chapter)).thenReturn(chapterDTO);
+        when(lessonRepository.findWithBodyByChapterIds(List.of(5L), List.of(1L))).thenReturn(List.of(lesson));
+        when(lessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+
+        // Act
+        ChapterDTO result = databaseCatalogReader.findChapter(5L).orElseThrow();
+
+        // Assert
+        assertEquals(List.of(lessonDTO), result.getLessons());
+        verify(aggregateCountService).fillChapterCounts(List.of(chapterDTO));
+        verify(chapterMapper, never()).toDto(any());
+    }
+
+    @Test
+    void findLesson_ShouldSkipLookup_WhenIdWasRecentlyMissing() {
+        // Arrange
+        when(negativeLookupCache.isKnownMissing(ChangeEntityType.LESSON, 404L)).thenReturn(true);
+
+        // Act
+        Optional<LessonDTO> result = databaseCatalogReader.findLesson(404L);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(lessonRepository, never()).findById(any());
+    }
+
+    @Test
+    void findLesson_ShouldRecordMiss_WhenLessonNotExists() {
+        // Arrange
+        when(lessonRepository.findById(404L)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<LessonDTO> result = databaseCatalogReader.findLesson(404L);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(negativeLookupCache).recordMiss(ChangeEntityType.LESSON, 404L);
+    }
+
+    @Test
+    void getStats_ShouldReturnTableCounts() {
+        // Arrange
+        when(courseRepository.count()).thenReturn(2L);
+        when(chapterRepository.count()).thenReturn(12L);
+        when(lessonRepository.count()).thenReturn(148L);
+
+        // Act & Assert
+        assertEquals(148L, databaseCatalogReader.getStats().getLessonCount());
+    }
+}
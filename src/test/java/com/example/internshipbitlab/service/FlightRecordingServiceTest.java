@@ -0,0 +1,92 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.config.JfrProperties;
+import com.example.internshipbitlab.dto.RecordingDTO;
+import com.example.internshipbitlab.exception.ValidationException;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final List<Long> started = new ArrayList<>();
+    private JfrProperties properties;
+    private FlightRecordingService flightRecordingService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JfrProperties();
+        properties.setDumpDirectory(dir);
+        properties.setMaxRecordings(1);
+        properties.setMaxDumps(2);
+        properties.setDumpRetention(Duration.ofDays(1));
+        flightRecordingService = new FlightRecordingService(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        started.forEach(id -> flightRecordingService.close(id));
+    }
+
+    @Test
+    void start_ShouldThrowException_WhenMaxRecordingsAreOpen() {
+        // Arrange
+        started.add(flightRecordingService.start("first").getId());
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> flightRecordingService.start("second"));
+    }
+
+    @Test
+    void close_ShouldThrowException_WhenRecordingWasNotStartedByService() {
+        // Arrange
+        try (Recording foreign = new Recording()) {
+            foreign.start();
+
+            // Act & Assert
+            assertThrows(ValidationException.class, () -> flightRecordingService.close(foreign.getId()));
+            assertThrows(ValidationException.class, () -> flightRecordingService.stop(foreign.getId()));
+        }
+    }
+
+    @Test
+    void dump_ShouldDeleteExpiredAndSurplusDumps() throws IOException {
+        // Arrange
+        Path expired = dump("expired.jfr", Instant.now().minus(Duration.ofDays(2)));
+        Path older = dump("older.jfr", Instant.now().minus(Duration.ofHours(2)));
+        Path newer = dump("newer.jfr", Instant.now().minus(Duration.ofHours(1)));
+        RecordingDTO recording = flightRecordingService.start("dumped");
+        started.add(recording.getId());
+
+        // Act
+        Path file = Path.of(flightRecordingService.dump(recording.getId()).getFile());
+
+        // Assert
+        assertTrue(Files.exists(file));
+        assertTrue(Files.exists(newer));
+        assertFalse(Files.exists(older));
+        assertFalse(Files.exists(expired));
+    }
+
+    private Path dump(String name, Instant modified) throws IOException {
+        Path file = Files.writeString(dir.resolve(name), "jfr");
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+        return file;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GapOrderingTest {
+
+    @Test
+    void plan_ShouldChangeOneRow_WhenSingleItemMoves() {
+        // Arrange
+        Map<Long, Integer> current = Map.of(1L, 1024, 2L, 2048, 3L, 3072, 4L, 4096);
+
+        // Act
+        Map<Long, Integer> changes = GapOrdering.plan(List.of(1L, 4L, 2L, 3L), current);
+
+        // Assert
+        assertEquals(Map.of(4L, 1536), changes);
+    }
+
+    @Test
+    void plan_ShouldReturnNoChanges_WhenOrderIsUnchanged() {
+        // Arrange
+        Map<Long, Integer> current = Map.of(1L, 1024, 2L, 2048);
+
+        // Act
+        Map<Long, Integer> changes = GapOrdering.plan(List.of(1L, 2L), current);
+
+        // Assert
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void plan_ShouldAppendAfterLastKey_WhenItemMovesToEnd() {
+        // Arrange
+        Map<Long, Integer> current = Map.of(1L, 1024, 2L, 2048, 3L, 3072);
+
+        // Act
+        Map<Long, Integer> changes = GapOrdering.plan(List.of(2L, 3L, 1L), current);
+
+        // Assert
+        assertEquals(Map.of(1L, 3072 + GapOrdering.GAP), changes);
+    }
+
+    @Test
+    void plan_ShouldRenumberWithGaps_WhenGapIsExhausted() {
+        // Arrange
+        Map<Long, Integer> current = Map.of(1L, 1, 2L, 2, 3L, 3);
+
+        // Act
+        Map<Long, Integer> changes = GapOrdering.plan(List.of(1L, 3L, 2L), current);
+
+        // Assert
+        assertEquals(Map.of(1L, 1024, 3L, 2048, 2L, 3072), changes);
+    }
+
+    @Test
+    void after_ShouldLeaveGapAfterLastKey() {
+        // Act & Assert
+        assertEquals(GapOrdering.GAP, GapOrdering.after(null));
+        assertEquals(3072 + GapOrdering.GAP, GapOrdering.after(3072));
+    }
+
+    @Test
+    void after_ShouldThrowException_WhenKeysAreExhausted() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> GapOrdering.after(Integer.MAX_VALUE - 1));
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.internshipbitlab.service;
 
+import com.example.internshipbitlab.catalog.CatalogReader;
 import com.example.internshipbitlab.dto.LessonDTO;
+import com.example.internshipbitlab.dto.MultiGetResponseDTO;
 import com.example.internshipbitlab.model.Chapter;
+import com.example.internshipbitlab.model.ContentBlob;
+import com.example.internshipbitlab.model.Course;
 import com.example.internshipbitlab.model.Lesson;
-import com.example.internshipbitlab.exception.ResourceNotFoundException;
+import com.example.internshipbitlab.exception.NotFoundException;
+import com.example.internshipbitlab.exception.ValidationException;
 import com.example.internshipbitlab.mapper.LessonMapper;
 import com.example.internshipbitlab.repository.ChapterRepository;
 import com.example.internshipbitlab.repository.LessonRepository;
@@ -12,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +38,18 @@ class LessonServiceTest {
     @Mock
     private LessonMapper lessonMapper;
 
+    @Mock
+    private CourseOutlineService courseOutlineService;
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    @Mock
+    private ContentBlobStore contentBlobStore;
+
+    @Mock
+    private CatalogReader catalogReader;
+
     @InjectMocks
     private LessonService lessonService;
 
@@ -39,11 +57,8 @@ class LessonServiceTest {
     void findAllByChapterId_ShouldReturnLessons() {
         // Arrange
         Long chapterId = 1L;
-        Lesson lesson = new Lesson();
         LessonDTO lessonDTO = new LessonDTO();
-        when(chapterRepository.existsById(chapterId)).thenReturn(true);
-        when(lessonRepository.findAllByChapterId(chapterId)).thenReturn(Collections.singletonList(lesson));
-        when(lessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+        when(catalogReader.findLessonsByChapter(chapterId)).thenReturn(Collections.singletonList(lessonDTO));
 
         // Act
         List<LessonDTO> result = lessonService.findAllByChapterId(chapterId);
@@ -51,28 +66,29 @@ class LessonServiceTest {
         // Assert
         assertEquals(1, result.size());
         assertEquals(lessonDTO, result.get(0));
-        verify(lessonRepository).findAllByChapterId(chapterId);
+        verify(catalogReader).findLessonsByChapter(chapterId);
     }
 
     @Test
-    void findAllByChapterId_ShouldThrowException_WhenChapterNotExists() {
+    void findAllByChapterId_ShouldReturnEmptyList_WhenChapterHasNoLessons() {
         // Arrange
         Long chapterId = 1L;
-        when(chapterRepository.existsById(chapterId)).thenReturn(false);
+        when(catalogReader.findLessonsByChapter(chapterId)).thenReturn(List.of());
 
-        // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> lessonService.findAllByChapterId(chapterId));
-        verify(lessonRepository, never()).findAllByChapterId(any());
+        // Act
+        List<LessonDTO> result = lessonService.findAllByChapterId(chapterId);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(lessonRepository);
     }
 
     @Test
     void findById_ShouldReturnLesson_WhenLessonExists() {
         // Arrange
         Long lessonId = 1L;
-        Lesson lesson = new Lesson();
         LessonDTO lessonDTO = new LessonDTO();
-        when(lessonRepository.findById(lessonId)).thenReturn(Optional.of(lesson));
-        when(lessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+        when(catalogReader.findLesson(lessonId)).thenReturn(Optional.of(lessonDTO));
 
         // Act
         LessonDTO result = lessonService.findById(lessonId);
@@ -80,18 +96,18 @@ class LessonServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(lessonDTO, result);
-        verify(lessonRepository).findById(lessonId);
+        verify(catalogReader).findLesson(lessonId);
     }
 
     @Test
     void findById_ShouldThrowException_WhenLessonNotExists() {
         // Arrange
         Long lessonId = 1L;
-        when(lessonRepository.findById(lessonId)).thenReturn(Optional.empty());
+        when(catalogReader.findLesson(lessonId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> lessonService.findById(lessonId));
-        verify(lessonRepository).findById(lessonId);
+        assertThrows(NotFoundException.class, () -> lessonService.findById(lessonId));
+        verify(catalogReader).findLesson(lessonId);
     }
 
     @Test
@@ -99,14 +115,19 @@ class LessonServiceTest {
         // Arrange
         LessonDTO lessonDTO = new LessonDTO();
         lessonDTO.setChapterId(1L);
-        lessonDTO.setTitle("New Lesson");
+        lessonDTO.setName("New Lesson");
 
+        Course course = new Course();
+        course.setId(1L);
         Chapter chapter = new Chapter();
+        chapter.setId(1L);
+        chapter.setCourse(course);
         Lesson lesson = new Lesson();
         Lesson savedLesson = new Lesson();
         savedLesson.setId(1L);
 
-        when(chapterRepository.findById(lessonDTO.getChapterId())).thenReturn(Optional.of(chapter));
+        when(chapterRepository.findForUpdateById(lessonDTO.getChapterId())).thenReturn(Optional.of(chapter));
+        when(lessonRepository.findMaxOrderNumberByChapterId(chapter.getId(), 1L)).thenReturn(Optional.empty());
         when(lessonMapper.toEntity(lessonDTO)).thenReturn(lesson);
         when(lessonRepository.save(lesson)).thenReturn(savedLesson);
         when(lessonMapper.toDto(savedLesson)).thenReturn(lessonDTO);
@@ -116,6 +137,7 @@ class LessonServiceTest {
 
         // Assert
         assertNotNull(result);
+        assertEquals(1024, lesson.getOrderNumber());
         verify(lessonRepository).save(lesson);
     }
 
@@ -124,10 +146,10 @@ class LessonServiceTest {
         // Arrange
         LessonDTO lessonDTO = new LessonDTO();
         lessonDTO.setChapterId(1L);
-        when(chapterRepository.findById(lessonDTO.getChapterId())).thenReturn(Optional.empty());
+        when(chapterRepository.findForUpdateById(lessonDTO.getChapterId())).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> lessonService.create(lessonDTO));
+        assertThrows(NotFoundException.class, () -> lessonService.create(lessonDTO));
         verify(lessonRepository, never()).save(any());
     }
 
@@ -136,15 +158,13 @@ class LessonServiceTest {
         // Arrange
         Long lessonId = 1L;
         LessonDTO lessonDTO = new LessonDTO();
-        lessonDTO.setTitle("Updated Lesson");
+        lessonDTO.setName("Updated Lesson");
         lessonDTO.setChapterId(1L);
 
         Lesson existingLesson = new Lesson();
         existingLesson.setId(lessonId);
-        Chapter chapter = new Chapter();
 
-        when(lessonRepository.findById(lessonId)).thenReturn(Optional.of(existingLesson));
-        when(chapterRepository.findById(lessonDTO.getChapterId())).thenReturn(Optional.of(chapter));
+        when(lessonRepository.findForUpdateById(lessonId)).thenReturn(Optional.of(existingLesson));
         when(lessonRepository.save(existingLesson)).thenReturn(existingLesson);
         when(lessonMapper.toDto(existingLesson)).thenReturn(lessonDTO);
 
@@ -153,32 +173,106 @@ class LessonServiceTest {
 
         // Assert
         assertNotNull(result);
-        assertEquals(lessonDTO.getTitle(), result.getTitle());
-        verify(lessonRepository).findById(lessonId);
+        assertEquals(lessonDTO.getName(), result.getName());
+        verify(lessonRepository).findForUpdateById(lessonId);
         verify(lessonRepository).save(existingLesson);
     }
 
     @Test
-    void delete_ShouldDeleteLesson_WhenLessonExists() {
+    void update_ShouldSwapContentBlob_WhenContentChanges() {
+        // Arrange
+        Long lessonId = 1L;
+        ContentBlob oldBody = new ContentBlob("old-hash", "Old content");
+        ContentBlob newBody = new ContentBlob("new-hash", "New content");
+        Lesson existingLesson = Lesson.builder().id(lessonId).courseId(1L).body(oldBody).build();
+        LessonDTO lessonDTO = new LessonDTO();
+        lessonDTO.setContent("New content");
+
+        when(lessonRepository.findForUpdateById(lessonId)).thenReturn(Optional.of(existingLesson));
+        when(contentBlobStore.hashOf("New content")).thenReturn("new-hash");
+        when(contentBlobStore.acquire("New content")).thenReturn(newBody);
+        when(lessonRepository.save(existingLesson)).thenReturn(existingLesson);
+
+        // Act
+        lessonService.update(lessonId, lessonDTO);
+
+        // Assert
+        assertSame(newBody, existingLesson.getBody());
+        verify(contentBlobStore).release(oldBody);
+    }
+
+    @Test
+    void update_ShouldKeepContentBlob_WhenContentUnchanged() {
+        // Arrange
+        Long lessonId = 1L;
+        ContentBlob body = new ContentBlob("same-hash", "Same content");
+        Lesson existingLesson = Lesson.builder().id(lessonId).courseId(1L).body(body).build();
+        LessonDTO lessonDTO = new LessonDTO();
+        lessonDTO.setContent("Same content");
+
+        when(lessonRepository.findForUpdateById(lessonId)).thenReturn(Optional.of(existingLesson));
+        when(contentBlobStore.hashOf("Same content")).thenReturn("same-hash");
+        when(lessonRepository.save(existingLesson)).thenReturn(existingLesson);
+
+        // Act
+        lessonService.update(lessonId, lessonDTO);
+
+        // Assert
+        assertSame(body, existingLesson.getBody());
+        verify(contentBlobStore, never()).acquire(any());
+        verify(contentBlobStore, never()).release(any());
+    }
+
+    @Test
+    void delete_ShouldDeleteLessonAndReleaseContent_WhenLessonExists() {
         // Arrange
         Long lessonId = 1L;
-        when(lessonRepository.existsById(lessonId)).thenReturn(true);
+        ContentBlob body = new ContentBlob("hash", "Content");
+        Lesson lesson = Lesson.builder().id(lessonId).courseId(1L).body(body).build();
+        when(lessonRepository.findForUpdateById(lessonId)).thenReturn(Optional.of(lesson));
 
         // Act
         lessonService.delete(lessonId);
 
         // Assert
-        verify(lessonRepository).deleteById(lessonId);
+        verify(lessonRepository).delete(lesson);
+        verify(contentBlobStore).release(body);
     }
 
     @Test
     void delete_ShouldThrowException_WhenLessonNotExists() {
         // Arrange
         Long lessonId = 1L;
-        when(lessonRepository.existsById(lessonId)).thenReturn(false);
+        when(lessonRepository.findForUpdateById(lessonId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> lessonService.delete(lessonId));
+        verify(lessonRepository, never()).delete(any());
+    }
+
+    @Test
+    void findAllByIds_ShouldReturnFoundLessonsAndMissingIds() {
+        // Arrange
+        ReflectionTestUtils.setField(lessonService, "maxMultiGetIds", 100);
+        LessonDTO lessonDTO = LessonDTO.builder().id(2L).build();
+        when(catalogReader.findLessons(List.of(2L, 3L))).thenReturn(List.of(lessonDTO));
+
+        // Act
+        MultiGetResponseDTO<LessonDTO> result = lessonService.findAllByIds(List.of(2L, 3L, 2L));
+
+        // Assert
+        assertEquals(List.of(lessonDTO), result.getItems());
+        assertEquals(List.of(3L), result.getNotFound());
+        verify(catalogReader).findLessons(List.of(2L, 3L));
+    }
+
+    @Test
+    void findAllByIds_ShouldThrowException_WhenTooManyIds() {
+        // Arrange
+        ReflectionTestUtils.setField(lessonService, "maxMultiGetIds", 2);
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> lessonService.delete(lessonId));
-        verify(lessonRepository, never()).deleteById(lessonId);
+        assertThrows(ValidationException.class, () -> lessonService.findAllByIds(List.of(1L, 2L, 3L)));
+        verify(catalogReader, never()).findLessons(any());
     }
-}
\ No newline at end of file
+}
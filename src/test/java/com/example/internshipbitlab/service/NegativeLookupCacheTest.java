@@ -0,0 +1,50 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.datasource.ReadYourWritesContext;
+import com.example.internshipbitlab.model.ChangeEntityType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeLookupCacheTest {
+
+    private final NegativeLookupCache cache = new NegativeLookupCache(Duration.ofMinutes(1), 100);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void forgetAfterCommit_ShouldKeepMiss_UntilTransactionCommits() {
+        // Arrange
+        cache.recordMiss(ChangeEntityType.COURSE, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.forgetAfterCommit(ChangeEntityType.COURSE, 1L);
+
+        // Assert
+        assertTrue(cache.isKnownMissing(ChangeEntityType.COURSE, 1L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCommit());
+        assertFalse(cache.isKnownMissing(ChangeEntityType.COURSE, 1L));
+    }
+
+    @Test
+    void isKnownMissing_ShouldBeFalse_WhenPinnedToPrimary() {
+        // Arrange
+        cache.recordMiss(ChangeEntityType.LESSON, 2L);
+        ReadYourWritesContext.beginRequest();
+        ReadYourWritesContext.pinToPrimary();
+
+        // Act & Assert
+        assertFalse(cache.isKnownMissing(ChangeEntityType.LESSON, 2L));
+    }
+}
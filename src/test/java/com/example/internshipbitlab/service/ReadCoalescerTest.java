@@ -0,0 +1,116 @@
+package com.example.internshipbitlab.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ReadCoalescerTest {
+
+    private final ReadCoalescer readCoalescer =
+            new ReadCoalescer(mock(PlatformTransactionManager.class), true, Duration.ofSeconds(5));
+
+    @Test
+    void read_ShouldShareOneLoad_WhenCallersOverlap() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<String> leader = executor.submit(() -> readCoalescer.read("course", 1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "course-1";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> readCoalescer.read("course", 1L, () -> {
+            loads.incrementAndGet();
+            return "separate load";
+        }));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        assertEquals("course-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("course-1", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void read_ShouldStartNewLoad_WhenCourseWasInvalidated() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> stale = executor.submit(() -> readCoalescer.read("course", 1L, () -> {
+            loading.countDown();
+            await(release);
+            return "before write";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Act
+        readCoalescer.invalidate(1L);
+        String fresh = readCoalescer.read("course", 1L, () -> "after write");
+        release.countDown();
+
+        // Assert
+        assertEquals("after write", fresh);
+        assertEquals("before write", stale.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    @Test
+    void read_ShouldLoadSeparately_WhenSharedLoadTakesTooLong() throws Exception {
+        // Arrange
+        ReadCoalescer impatient =
+                new ReadCoalescer(mock(PlatformTransactionManager.class), true, Duration.ofMillis(50));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> slow = executor.submit(() -> impatient.read("course", 1L, () -> {
+            loading.countDown();
+            await(release);
+            return "slow";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // Act
+        String result = impatient.read("course", 1L, () -> "own load");
+        release.countDown();
+
+        // Assert
+        assertEquals("own load", result);
+        assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    @Test
+    void read_ShouldPropagateFailure_WhenLoadFails() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> readCoalescer.read("course", 1L, () -> {
+            throw new IllegalArgumentException("boom");
+        }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.internshipbitlab.service;
+
+import com.example.internshipbitlab.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncTokenTest {
+
+    @Test
+    void encode_ShouldRoundTrip() {
+        // Arrange
+        SyncToken token = new SyncToken(new ChangeCursor(10L, 1L), new ChangeCursor(11L, 2L),
+                new ChangeCursor(12L, 3L), new ChangeCursor(13L, 4L));
+
+        // Act
+        SyncToken parsed = SyncToken.parse(token.encode());
+
+        // Assert
+        assertEquals(new ChangeCursor(10L, 1L), parsed.getCourses());
+        assertEquals(new ChangeCursor(11L, 2L), parsed.getChapters());
+        assertEquals(new ChangeCursor(12L, 3L), parsed.getLessons());
+        assertEquals(new ChangeCursor(13L, 4L), parsed.getDeletions());
+    }
+
+    @Test
+    void parse_ShouldThrowException_WhenTokenMalformed() {
+        assertThrows(ValidationException.class, () -> SyncToken.parse("not-a-token"));
+    }
+
+    @Test
+    void parse_ShouldThrowException_WhenTokenHasPreviousVersion() {
+        // Arrange
+        String previous = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "v1;1970-01-01T00:00;0;1970-01-01T00:00;0;1970-01-01T00:00;0;0".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> SyncToken.parse(previous));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.internshipbitlab.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TailSamplingSpanProcessorTest {
+
+    private final List<String> exported = new ArrayList<>();
+
+    private final SpanProcessor delegate = new SpanProcessor() {
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            exported.add(span.getName());
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+    };
+
+    private Tracer tracer(Duration latencyThreshold) {
+        return SdkTracerProvider.builder()
+                .addSpanProcessor(new TailSamplingSpanProcessor(delegate, latencyThreshold, 0.0, 100))
+                .build()
+                .get("test");
+    }
+
+    private void runTrace(Tracer tracer, boolean childFails) {
+        Span root = tracer.spanBuilder("root").startSpan();
+        Span child = tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan();
+        if (childFails) {
+            child.setStatus(StatusCode.ERROR);
+        }
+        child.end();
+        root.end();
+    }
+
+    @Test
+    void onEnd_ShouldDropTrace_WhenFastAndSuccessful() {
+        // Act
+        runTrace(tracer(Duration.ofHours(1)), false);
+
+        // Assert
+        assertTrue(exported.isEmpty());
+    }
+
+    @Test
+    void onEnd_ShouldForwardWholeTrace_WhenRootIsSlow() {
+        // Act
+        runTrace(tracer(Duration.ZERO), false);
+
+        // Assert
+        assertEquals(List.of("child", "root"), exported);
+    }
+
+    @Test
+    void onEnd_ShouldForwardWholeTrace_WhenChildFailed() {
+        // Act
+        runTrace(tracer(Duration.ofHours(1)), true);
+
+        // Assert
+        assertEquals(List.of("child", "root"), exported);
+    }
+
+    @Test
+    void onEnd_ShouldCountEvictedTraces_WhenTooManyArePending() {
+        // Arrange
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(delegate, Duration.ZERO, 0.0, 1);
+        Tracer tracer = SdkTracerProvider.builder().addSpanProcessor(processor).build().get("test");
+        Span first = tracer.spanBuilder("first").startSpan();
+        Span second = tracer.spanBuilder("second").startSpan();
+
+        // Act
+        tracer.spanBuilder("child").setParent(Context.current().with(first)).startSpan().end();
+        tracer.spanBuilder("child").setParent(Context.current().with(second)).startSpan().end();
+        first.end();
+
+        // Assert
+        assertEquals(1, processor.getEvictedTraces());
+        assertEquals(List.of("first"), exported);
+    }
+}